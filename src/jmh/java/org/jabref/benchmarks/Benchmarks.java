@@ -48,6 +48,7 @@ public class Benchmarks {
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
+    private List<String> latexFieldMix;
     private String htmlConversionString;
 
     @Setup
@@ -71,6 +72,19 @@ public class Benchmarks {
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
+        // Typical field values: most of them do not contain any LaTeX
+        latexFieldMix = List.of(
+                "2017",
+                "123-145",
+                "10.1007/978-3-319-66299-2_1",
+                "Journal of Software Engineering",
+                "A Study on the Evolution of Bibliographic Software",
+                "Smith, John and M{\\\"{u}}ller, Hans",
+                "Efficient $\\mathcal{O}(n \\log n)$ Algorithms for {LaTeX}",
+                "Proceedings of the 12th International Conference -- Part I",
+                "Springer",
+                "Zürich");
+
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
     }
 
@@ -122,6 +136,16 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public int latexToUnicodeConversionOfFieldMix() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        int length = 0;
+        for (String field : latexFieldMix) {
+            length += f.format(field).length();
+        }
+        return length;
+    }
+
     @Benchmark
     public String latexToHTMLConversion() {
         HTMLChars f = new HTMLChars();
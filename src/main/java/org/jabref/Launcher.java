@@ -11,6 +11,8 @@ import org.jabref.logic.UiCommand;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupGraph;
+import org.jabref.logic.util.io.FileStatusCache;
 import org.jabref.migrations.PreferencesMigrations;
 
 import com.airhacks.afterburner.injection.Injector;
@@ -26,23 +28,27 @@ public class Launcher {
     public static void main(String[] args) {
         JabKit.initLogging(args);
 
+        StartupGraph startupGraph = new StartupGraph();
+
         // Initialize preferences
-        final JabRefGuiPreferences preferences = JabRefGuiPreferences.getInstance();
+        final JabRefGuiPreferences preferences = startupGraph.call("Preferences", JabRefGuiPreferences::getInstance);
         Injector.setModelOrService(CliPreferences.class, preferences);
         Injector.setModelOrService(GuiPreferences.class, preferences);
 
         DefaultFileUpdateMonitor fileUpdateMonitor = new DefaultFileUpdateMonitor();
         HeadlessExecutorService.INSTANCE.executeInterruptableTask(fileUpdateMonitor, "FileUpdateMonitor");
+        FileStatusCache.getDefault().setFileUpdateMonitor(fileUpdateMonitor);
 
-        List<UiCommand> uiCommands = JabKit.processArguments(args, preferences, fileUpdateMonitor);
+        List<UiCommand> uiCommands = JabKit.processArguments(args, preferences, fileUpdateMonitor, startupGraph);
         // The method `processArguments` quites the whole JVM if no GUI is needed.
 
-        PreferencesMigrations.runMigrations(preferences);
-
-        PostgreServer postgreServer = new PostgreServer();
+        // The server is needed as soon as the first library is opened, thus it starts while the main window is built
+        PostgreServer postgreServer = new PostgreServer(task -> startupGraph.execute("Postgres server", task));
         Injector.setModelOrService(PostgreServer.class, postgreServer);
 
-        JabRefGUI.setup(uiCommands, preferences, fileUpdateMonitor);
+        startupGraph.run("Preferences migrations", () -> PreferencesMigrations.runMigrations(preferences));
+
+        JabRefGUI.setup(uiCommands, preferences, fileUpdateMonitor, startupGraph);
         JabRefGUI.launch(JabRefGUI.class, args);
     }
 }
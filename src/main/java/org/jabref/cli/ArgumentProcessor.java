@@ -9,8 +9,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.prefs.BackingStoreException;
@@ -24,11 +26,10 @@ import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
-import org.jabref.logic.exporter.EmbeddedBibFilePdfExporter;
 import org.jabref.logic.exporter.Exporter;
 import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.exporter.PdfMetadataBatchWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
-import org.jabref.logic.exporter.XmpPdfExporter;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -257,7 +258,6 @@ public class ArgumentProcessor {
                         cliPreferences.getLibraryPreferences().getDefaultBibDatabaseMode(),
                         cliPreferences.getCustomEntryTypesRepository(),
                         cliPreferences.getFieldPreferences(),
-                        Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
                         cli.isWriteXmpToPdf() || cli.isWriteMetadataToPdf(),
                         cli.isEmbedBibFileInPdf() || cli.isWriteMetadataToPdf());
             }
@@ -367,7 +367,6 @@ public class ArgumentProcessor {
                                     BibDatabaseMode databaseMode,
                                     BibEntryTypesManager entryTypesManager,
                                     FieldPreferences fieldPreferences,
-                                    JournalAbbreviationRepository abbreviationRepository,
                                     boolean writeXMP,
                                     boolean embeddBibfile) {
         if (loaded.isEmpty()) {
@@ -377,92 +376,63 @@ public class ArgumentProcessor {
         ParserResult pr = loaded.getLast();
         BibDatabaseContext databaseContext = pr.getDatabaseContext();
 
-        XmpPdfExporter xmpPdfExporter = new XmpPdfExporter(xmpPreferences);
-        EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(databaseMode, entryTypesManager, fieldPreferences);
-
+        Map<Path, List<BibEntry>> entriesByFile;
         if ("all".equals(filesAndCiteKeys)) {
-            for (BibEntry entry : databaseContext.getEntries()) {
-                writeMetadataToPDFsOfEntry(
-                        databaseContext,
-                        entry.getCitationKey().orElse("<no cite key defined>"),
-                        entry,
-                        filePreferences,
-                        xmpPdfExporter,
-                        embeddedBibFilePdfExporter,
-                        abbreviationRepository,
-                        writeXMP,
-                        embeddBibfile);
+            entriesByFile = PdfMetadataBatchWriter.getLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences);
+        } else {
+            List<String> citeKeys = new ArrayList<>();
+            List<String> pdfs = new ArrayList<>();
+            for (String fileOrCiteKey : filesAndCiteKeys.split(",")) {
+                if (fileOrCiteKey.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+                    pdfs.add(fileOrCiteKey);
+                } else {
+                    citeKeys.add(fileOrCiteKey);
+                }
             }
-            return;
-        }
 
-        List<String> citeKeys = new ArrayList<>();
-        List<String> pdfs = new ArrayList<>();
-        for (String fileOrCiteKey : filesAndCiteKeys.split(",")) {
-            if (fileOrCiteKey.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
-                pdfs.add(fileOrCiteKey);
-            } else {
-                citeKeys.add(fileOrCiteKey);
-            }
+            Map<Path, List<BibEntry>> selectedFiles = new LinkedHashMap<>(getPdfsByCitekey(databaseContext, citeKeys, filePreferences));
+            getPdfsByFileNames(databaseContext, pdfs, filePreferences).forEach((file, entries) -> selectedFiles.merge(file, entries, (existing, added) -> {
+                List<BibEntry> merged = new ArrayList<>(existing);
+                added.stream().filter(entry -> !merged.contains(entry)).forEach(merged::add);
+                return merged;
+            }));
+            entriesByFile = selectedFiles;
         }
 
-        writeMetadataToPdfByCitekey(
-                databaseContext,
-                citeKeys,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
-                writeXMP,
-                embeddBibfile);
-        writeMetadataToPdfByFileNames(
-                databaseContext,
-                pdfs,
-                filePreferences,
-                xmpPdfExporter,
-                embeddedBibFilePdfExporter,
-                abbreviationRepository,
-                writeXMP,
-                embeddBibfile);
-    }
-
-    private static void writeMetadataToPDFsOfEntry(BibDatabaseContext databaseContext,
-                                            String citeKey,
-                                            BibEntry entry,
-                                            FilePreferences filePreferences,
-                                            XmpPdfExporter xmpPdfExporter,
-                                            EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                            JournalAbbreviationRepository abbreviationRepository,
-                                            boolean writeXMP,
-                                            boolean embedBibfile) {
+        PdfMetadataBatchWriter batchWriter = new PdfMetadataBatchWriter(xmpPreferences, databaseMode, entryTypesManager, fieldPreferences, writeXMP, embeddBibfile);
+        Map<Path, PdfMetadataBatchWriter.Result> results;
         try {
-            if (writeXMP) {
-                if (xmpPdfExporter.exportToAllFilesOfEntry(databaseContext, filePreferences, entry, List.of(entry), abbreviationRepository)) {
-                    System.out.printf("Successfully written XMP metadata on at least one linked file of %s%n", citeKey);
-                } else {
-                    System.err.printf("Cannot write XMP metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.%n", citeKey);
+            results = batchWriter.write(databaseContext, entriesByFile);
+        } catch (InterruptedException e) {
+            LOGGER.error("Writing metadata to PDFs was interrupted", e);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        int written = 0;
+        int upToDate = 0;
+        int failed = 0;
+        for (Map.Entry<Path, PdfMetadataBatchWriter.Result> result : results.entrySet()) {
+            switch (result.getValue()) {
+                case WRITTEN -> {
+                    written++;
+                    System.out.printf("Successfully written metadata to %s%n", result.getKey());
                 }
-            }
-            if (embedBibfile) {
-                if (embeddedBibFilePdfExporter.exportToAllFilesOfEntry(databaseContext, filePreferences, entry, List.of(entry), abbreviationRepository)) {
-                    System.out.printf("Successfully embedded metadata on at least one linked file of %s%n", citeKey);
-                } else {
-                    System.out.printf("Cannot embed metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.%n", citeKey);
+                case UP_TO_DATE ->
+                        upToDate++;
+                case FAILED -> {
+                    failed++;
+                    System.err.printf("Failed writing metadata to %s%n", result.getKey());
                 }
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed writing metadata on a linked file of {}.", citeKey);
         }
+        System.out.printf("Metadata written to %d file(s), %d file(s) already up to date, %d file(s) failed%n", written, upToDate, failed);
     }
 
-    private static void writeMetadataToPdfByCitekey(BibDatabaseContext databaseContext,
-                                             List<String> citeKeys,
-                                             FilePreferences filePreferences,
-                                             XmpPdfExporter xmpPdfExporter,
-                                             EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                             JournalAbbreviationRepository abbreviationRepository,
-                                             boolean writeXMP,
-                                             boolean embeddBibfile) {
+    private static Map<Path, List<BibEntry>> getPdfsByCitekey(BibDatabaseContext databaseContext,
+                                                             List<String> citeKeys,
+                                                             FilePreferences filePreferences) {
+        List<BibEntry> entries = new ArrayList<>();
         for (String citeKey : citeKeys) {
             List<BibEntry> bibEntryList = databaseContext.getDatabase().getEntriesByCitationKey(citeKey);
             if (bibEntryList.isEmpty()) {
@@ -470,49 +440,47 @@ public class ArgumentProcessor {
                 continue;
             }
             for (BibEntry entry : bibEntryList) {
-                writeMetadataToPDFsOfEntry(databaseContext, citeKey, entry, filePreferences, xmpPdfExporter, embeddedBibFilePdfExporter, abbreviationRepository, writeXMP, embeddBibfile);
+                if (PdfMetadataBatchWriter.getLinkedPdfs(databaseContext, List.of(entry), filePreferences).isEmpty()) {
+                    System.err.printf("Cannot write metadata on any linked files of %s. Make sure there is at least one linked file and the path is correct.%n", citeKey);
+                } else {
+                    entries.add(entry);
+                }
             }
         }
+        return PdfMetadataBatchWriter.getLinkedPdfs(databaseContext, entries, filePreferences);
     }
 
-    private static void writeMetadataToPdfByFileNames(BibDatabaseContext databaseContext,
-                                               List<String> pdfs,
-                                               FilePreferences filePreferences,
-                                               XmpPdfExporter xmpPdfExporter,
-                                               EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter,
-                                               JournalAbbreviationRepository abbreviationRepository,
-                                               boolean writeXMP,
-                                               boolean embeddBibfile) {
+    private static Map<Path, List<BibEntry>> getPdfsByFileNames(BibDatabaseContext databaseContext,
+                                                               List<String> pdfs,
+                                                               FilePreferences filePreferences) {
+        Map<Path, List<BibEntry>> result = new LinkedHashMap<>();
+        if (pdfs.isEmpty()) {
+            return result;
+        }
+
+        // Resolve all links once instead of comparing each given file with each linked file
+        Map<Path, List<BibEntry>> allLinkedPdfs = PdfMetadataBatchWriter.getLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences);
         for (String fileName : pdfs) {
             Path filePath = Path.of(fileName);
             if (!filePath.isAbsolute()) {
                 filePath = FileUtil.find(fileName, databaseContext.getFileDirectories(filePreferences)).orElse(FileUtil.find(fileName, List.of(Path.of("").toAbsolutePath())).orElse(filePath));
             }
-            if (Files.exists(filePath)) {
-                try {
-                    if (writeXMP) {
-                        if (xmpPdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                            System.out.printf("Successfully written XMP metadata of at least one entry to %s%n", fileName);
-                        } else {
-                            System.out.printf("File %s is not linked to any entry in database.%n", fileName);
-                        }
-                    }
-                    if (embeddBibfile) {
-                        if (embeddedBibFilePdfExporter.exportToFileByPath(databaseContext, filePreferences, filePath, abbreviationRepository)) {
-                            System.out.printf("Successfully embedded XMP metadata of at least one entry to %s%n", fileName);
-                        } else {
-                            System.out.printf("File %s is not linked to any entry in database.%n", fileName);
-                        }
-                    }
-                } catch (IOException e) {
-                    LOGGER.error("Error accessing file '{}'.", fileName);
-                } catch (Exception e) {
-                    LOGGER.error("Error writing entry to {}.", fileName);
-                }
-            } else {
+            if (!Files.exists(filePath)) {
                 LOGGER.error("Skipped - PDF {} does not exist", fileName);
+                continue;
+            }
+            try {
+                List<BibEntry> entries = allLinkedPdfs.get(filePath.toRealPath());
+                if (entries == null) {
+                    System.out.printf("File %s is not linked to any entry in database.%n", fileName);
+                } else {
+                    result.put(filePath.toRealPath(), entries);
+                }
+            } catch (IOException e) {
+                LOGGER.error("Error accessing file '{}'.", fileName);
             }
         }
+        return result;
     }
 
     private boolean exportMatches(List<ParserResult> loaded) {
@@ -10,9 +10,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
@@ -22,10 +24,12 @@ import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.protectedterms.ProtectedTermsPreferences;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
+import org.jabref.logic.util.StartupGraph;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -57,10 +61,12 @@ public class JabKit {
 
         FileUpdateMonitor fileUpdateMonitor = new DummyFileUpdateMonitor();
 
-        List<UiCommand> uiCommands = processArguments(args, preferences, fileUpdateMonitor);
+        StartupGraph startupGraph = new StartupGraph();
+        List<UiCommand> uiCommands = processArguments(args, preferences, fileUpdateMonitor, startupGraph);
         if (!uiCommands.isEmpty()) {
             LOGGER.error("No GUI needed, but UI commands were returned. Exiting.");
         }
+        runDeferredSteps(startupGraph);
     }
 
     private static void systemExit() {
@@ -70,7 +76,12 @@ public class JabKit {
         System.exit(0);
     }
 
-    public static List<UiCommand> processArguments(String[] args, JabRefCliPreferences preferences, FileUpdateMonitor fileUpdateMonitor) {
+    /**
+     * Initializes the services needed for processing the arguments and processes them. Independent services are
+     * initialized concurrently. Cleaning up outdated data is added to the deferred steps of the given startup graph.
+     * If no GUI is needed, the deferred steps are run before the JVM exits.
+     */
+    public static List<UiCommand> processArguments(String[] args, JabRefCliPreferences preferences, FileUpdateMonitor fileUpdateMonitor, StartupGraph startupGraph) {
         try {
             Injector.setModelOrService(BuildInfo.class, new BuildInfo());
 
@@ -79,16 +90,26 @@ public class JabKit {
                 systemExit();
             }
 
-            BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
-            Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
+            // The preferences are read on this thread, only loading the files they point to happens concurrently
+            JournalAbbreviationPreferences journalAbbreviationPreferences = preferences.getJournalAbbreviationPreferences();
+            CompletableFuture<JournalAbbreviationRepository> journalAbbreviationRepository = startupGraph.submit(
+                    "Journal abbreviations", () -> JournalAbbreviationLoader.loadRepository(journalAbbreviationPreferences));
+            ProtectedTermsPreferences protectedTermsPreferences = preferences.getProtectedTermsPreferences();
+            CompletableFuture<ProtectedTermsLoader> protectedTermsLoader = startupGraph.submit(
+                    "Protected terms", () -> new ProtectedTermsLoader(protectedTermsPreferences));
+            SSLPreferences sslPreferences = preferences.getSSLPreferences();
+            CompletableFuture<Void> sslConfigured = startupGraph.execute("SSL configuration", () -> configureSSL(sslPreferences));
+            startupGraph.defer("Clear old search indices", JabKit::clearOldSearchIndices);
 
-            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
-            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
+            BibEntryTypesManager entryTypesManager = startupGraph.call("Entry types", preferences::getCustomEntryTypesRepository);
+            Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
 
-            configureProxy(preferences.getProxyPreferences());
-            configureSSL(preferences.getSSLPreferences());
+            startupGraph.run("Proxy configuration", () -> configureProxy(preferences.getProxyPreferences()));
 
-            clearOldSearchIndices();
+            // The Injector is not thread-safe, thus the services are registered on this thread
+            Injector.setModelOrService(JournalAbbreviationRepository.class, StartupGraph.await(journalAbbreviationRepository));
+            Injector.setModelOrService(ProtectedTermsLoader.class, StartupGraph.await(protectedTermsLoader));
+            StartupGraph.await(sslConfigured);
 
             try {
                 Injector.setModelOrService(FileUpdateMonitor.class, fileUpdateMonitor);
@@ -102,6 +123,7 @@ public class JabKit {
                         entryTypesManager);
                 argumentProcessor.processArguments();
                 if (argumentProcessor.shouldShutDown()) {
+                    runDeferredSteps(startupGraph);
                     LOGGER.debug("JabRef shut down after processing command line arguments");
                     // A clean shutdown takes 60s time
                     // We don't need the clean shutdown here
@@ -123,6 +145,15 @@ public class JabKit {
         }
     }
 
+    /**
+     * Starts the deferred steps of the given startup graph and waits for them, because there is no main window whose
+     * display would start them.
+     */
+    private static void runDeferredSteps(StartupGraph startupGraph) {
+        startupGraph.startDeferredSteps();
+        startupGraph.whenAllDone().join();
+    }
+
     /**
      * This needs to be called as early as possible. After the first log write, it
      * is not possible to alter the log configuration programmatically anymore.
@@ -5,12 +5,14 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -46,7 +48,7 @@ public class JournalListMvGenerator {
                      fileName(journalListMvFile.toString()).
                      compressHigh().
                      open()) {
-            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP);
             stream.forEach(Unchecked.consumer(path -> {
                 String fileName = path.getFileName().toString();
                 System.out.print("Checking ");
@@ -70,6 +72,18 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Persist the reverse lookups and the fuzzy index so that the repository does not need to build them at startup
+            System.out.println("Building lookup indexes...");
+            Map<String, String> abbreviationToFull = new HashMap<>();
+            Map<String, String> dotlessToFull = new HashMap<>();
+            Map<String, String> shortestUniqueToFull = new HashMap<>();
+            Map<String, String> fuzzyIndex = new HashMap<>();
+            JournalAbbreviationRepository.buildLookups(fullToAbbreviation, abbreviationToFull, dotlessToFull, shortestUniqueToFull, fuzzyIndex);
+            store.<String, String>openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP).putAll(abbreviationToFull);
+            store.<String, String>openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP).putAll(dotlessToFull);
+            store.<String, String>openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP).putAll(shortestUniqueToFull);
+            store.<String, String>openMap(JournalAbbreviationRepository.FUZZY_INDEX_MAP).putAll(fuzzyIndex);
         }
     }
 }
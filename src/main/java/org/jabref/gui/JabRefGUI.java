@@ -37,6 +37,7 @@ import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupGraph;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.logic.util.WebViewStore;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -60,6 +61,7 @@ public class JabRefGUI extends Application {
     private static List<UiCommand> uiCommands;
     private static GuiPreferences preferences;
     private static FileUpdateMonitor fileUpdateMonitor;
+    private static StartupGraph startupGraph;
 
     // AI Service handles chat messages etc. Therefore, it is tightly coupled to the GUI.
     private static AiService aiService;
@@ -78,10 +80,12 @@ public class JabRefGUI extends Application {
 
     public static void setup(List<UiCommand> uiCommands,
                              GuiPreferences preferences,
-                             FileUpdateMonitor fileUpdateMonitor) {
+                             FileUpdateMonitor fileUpdateMonitor,
+                             StartupGraph startupGraph) {
         JabRefGUI.uiCommands = uiCommands;
         JabRefGUI.preferences = preferences;
         JabRefGUI.fileUpdateMonitor = fileUpdateMonitor;
+        JabRefGUI.startupGraph = startupGraph;
     }
 
     @Override
@@ -93,9 +97,9 @@ public class JabRefGUI extends Application {
             dialogService.showErrorDialogAndWait("Uncaught exception occurred in " + thread, exception);
         }));
 
-        initialize();
+        startupGraph.run("GUI services", this::initialize);
 
-        JabRefGUI.mainFrame = new JabRefFrame(
+        JabRefGUI.mainFrame = startupGraph.call("Main frame", () -> new JabRefFrame(
                 mainStage,
                 dialogService,
                 fileUpdateMonitor,
@@ -105,12 +109,16 @@ public class JabRefGUI extends Application {
                 countingUndoManager,
                 Injector.instantiateModelOrService(BibEntryTypesManager.class),
                 clipBoardManager,
-                taskExecutor);
+                taskExecutor));
 
-        openWindow();
+        startupGraph.run("Main window", this::openWindow);
 
         startBackgroundTasks();
 
+        // Everything not needed for the first frame is done now
+        startupGraph.startDeferredSteps();
+        startupGraph.whenAllDone().thenRun(() -> LOGGER.info(startupGraph.getTimingReport()));
+
         if (!fileUpdateMonitor.isActive()) {
             dialogService.showErrorDialogAndWait(
                     Localization.lang("Unable to monitor file changes. Please close files " +
@@ -83,6 +83,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.BibEntry;
@@ -249,7 +250,7 @@ public class LibraryTab extends Tab {
         // ensure that all entry changes mark the panel as changed
         this.bibDatabaseContext.getDatabase().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferences));
+        this.getDatabase().registerListener(new UpdateTimestampListener(preferences, this.getDatabase()));
 
         this.entryEditor = createEntryEditor();
 
@@ -1158,6 +1159,11 @@ public class LibraryTab extends Tab {
         public void listen(FieldChangedEvent fieldChangedEvent) {
             indexManager.updateEntry(fieldChangedEvent);
         }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            indexManager.updateEntries(entriesChangedEvent.getFieldChanges());
+        }
     }
 
     public static class DatabaseNotification extends NotificationPane {
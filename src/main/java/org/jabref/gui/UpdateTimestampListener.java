@@ -1,8 +1,12 @@
 package org.jabref.gui;
 
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseTransaction;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,9 +16,11 @@ import com.google.common.eventbus.Subscribe;
  */
 class UpdateTimestampListener {
     private final CliPreferences preferences;
+    private final BibDatabase database;
 
-    UpdateTimestampListener(CliPreferences preferences) {
+    UpdateTimestampListener(CliPreferences preferences, BibDatabase database) {
         this.preferences = preferences;
+        this.database = database;
     }
 
     @Subscribe
@@ -26,4 +32,22 @@ class UpdateTimestampListener {
                     preferences.getTimestampPreferences().now());
         }
     }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (!preferences.getTimestampPreferences().shouldAddModificationDate()) {
+            return;
+        }
+        String now = preferences.getTimestampPreferences().now();
+        // The timestamps are set in one transaction, too, thus the other listeners are notified once for all entries.
+        // Changes of the timestamp itself are skipped, otherwise committing the timestamps would update them again.
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            event.getFieldChanges().stream()
+                 .filter(change -> change.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP)
+                 .filter(change -> !StandardField.MODIFICATIONDATE.equals(change.getField()))
+                 .map(FieldChangedEvent::getBibEntry)
+                 .distinct()
+                 .forEach(entry -> entry.setField(StandardField.MODIFICATIONDATE, now));
+        }
+    }
 }
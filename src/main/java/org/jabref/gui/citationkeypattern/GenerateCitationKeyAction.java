@@ -19,6 +19,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.entry.BibEntry;
 
 public class GenerateCitationKeyAction extends SimpleCommand {
@@ -122,15 +123,17 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
                         int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            UiTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
+                        try (BibDatabaseTransaction transaction = databaseContext.getDatabase().beginTransaction()) {
+                            for (BibEntry entry : entries) {
+                                keyGenerator.generateAndSetKey(entry)
+                                            .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
+                                entriesDone++;
+                                int finalEntriesDone = entriesDone;
+                                UiTaskExecutor.runInJavaFXThread(() -> {
+                                    updateProgress(finalEntriesDone, entries.size());
+                                    messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
+                                });
+                            }
                         }
                         compound.end();
                     });
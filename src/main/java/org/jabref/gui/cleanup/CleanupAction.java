@@ -26,6 +26,7 @@ import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.entry.BibEntry;
 
 public class CleanupAction extends SimpleCommand {
@@ -153,9 +154,12 @@ public class CleanupAction extends SimpleCommand {
         // undo granularity is on set of all entries
         NamedCompound ce = new NamedCompound(Localization.lang("Clean up entries"));
 
-        for (BibEntry entry : List.copyOf(stateManager.getSelectedEntries())) {
-            if (doCleanup(databaseContext, cleanupPreferences, entry, ce)) {
-                modifiedEntriesCount++;
+        // all changes are reported to the listeners (index, groups, autosave, ...) at once
+        try (BibDatabaseTransaction transaction = databaseContext.getDatabase().beginTransaction()) {
+            for (BibEntry entry : List.copyOf(stateManager.getSelectedEntries())) {
+                if (doCleanup(databaseContext, cleanupPreferences, entry, ce)) {
+                    modifiedEntriesCount++;
+                }
             }
         }
 
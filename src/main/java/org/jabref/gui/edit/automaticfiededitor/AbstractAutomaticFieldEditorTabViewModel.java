@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractAutomaticFieldEditorTabViewModel extends AbstractViewModel {
     public static final Logger LOGGER = LoggerFactory.getLogger(AbstractAutomaticFieldEditorTabViewModel.class);
 
+    protected final BibDatabase bibDatabase;
     protected final StateManager stateManager;
 
     private final ObservableList<Field> allFields = FXCollections.observableArrayList();
@@ -29,6 +30,7 @@ public abstract class AbstractAutomaticFieldEditorTabViewModel extends AbstractV
     public AbstractAutomaticFieldEditorTabViewModel(BibDatabase bibDatabase, StateManager stateManager) {
         Objects.requireNonNull(bibDatabase);
         Objects.requireNonNull(stateManager);
+        this.bibDatabase = bibDatabase;
         this.stateManager = stateManager;
 
         addFields(EnumSet.allOf(StandardField.class));
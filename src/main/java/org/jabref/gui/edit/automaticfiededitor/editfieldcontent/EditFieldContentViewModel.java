@@ -19,6 +19,7 @@ import org.jabref.gui.edit.automaticfiededitor.LastAutomaticFieldEditorEdit;
 import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
@@ -70,12 +71,14 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
     public void clearSelectedField() {
         NamedCompound clearFieldEdit = new NamedCompound("CLEAR_SELECTED_FIELD");
         int affectedEntriesCount = 0;
-        for (BibEntry entry : selectedEntries) {
-            Optional<String> oldFieldValue = entry.getField(selectedField.get());
-            if (oldFieldValue.isPresent()) {
-                entry.clearField(selectedField.get())
-                        .ifPresent(fieldChange -> clearFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
-                affectedEntriesCount++;
+        try (BibDatabaseTransaction transaction = bibDatabase.beginTransaction()) {
+            for (BibEntry entry : selectedEntries) {
+                Optional<String> oldFieldValue = entry.getField(selectedField.get());
+                if (oldFieldValue.isPresent()) {
+                    entry.clearField(selectedField.get())
+                            .ifPresent(fieldChange -> clearFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
+                    affectedEntriesCount++;
+                }
             }
         }
 
@@ -93,14 +96,16 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
         NamedCompound setFieldEdit = new NamedCompound("CHANGE_SELECTED_FIELD");
         String toSetFieldValue = fieldValue.getValue();
         int affectedEntriesCount = 0;
-        for (BibEntry entry : selectedEntries) {
-            Optional<String> oldFieldValue = entry.getField(selectedField.get());
-            if (oldFieldValue.isEmpty() || overwriteFieldContent.get()) {
-                entry.setField(selectedField.get(), toSetFieldValue)
-                     .ifPresent(fieldChange -> setFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
-                fieldValue.set("");
-                // TODO: increment affected entries only when UndoableFieldChange.isPresent()
-                affectedEntriesCount++;
+        try (BibDatabaseTransaction transaction = bibDatabase.beginTransaction()) {
+            for (BibEntry entry : selectedEntries) {
+                Optional<String> oldFieldValue = entry.getField(selectedField.get());
+                if (oldFieldValue.isEmpty() || overwriteFieldContent.get()) {
+                    entry.setField(selectedField.get(), toSetFieldValue)
+                         .ifPresent(fieldChange -> setFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
+                    fieldValue.set("");
+                    // TODO: increment affected entries only when UndoableFieldChange.isPresent()
+                    affectedEntriesCount++;
+                }
             }
         }
 
@@ -118,17 +123,19 @@ public class EditFieldContentViewModel extends AbstractAutomaticFieldEditorTabVi
         NamedCompound appendToFieldEdit = new NamedCompound("APPEND_TO_SELECTED_FIELD");
         String toAppendFieldValue = fieldValue.getValue();
         int affectedEntriesCount = 0;
-        for (BibEntry entry : selectedEntries) {
-            Optional<String> oldFieldValue = entry.getField(selectedField.get());
-            // Append button should be disabled if 'overwriteNonEmptyFields' is false
-            if (overwriteFieldContent.get()) {
-                String newFieldValue = oldFieldValue.orElse("").concat(toAppendFieldValue);
-
-                entry.setField(selectedField.get(), newFieldValue)
-                        .ifPresent(fieldChange -> appendToFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
-
-                fieldValue.set("");
-                affectedEntriesCount++;
+        try (BibDatabaseTransaction transaction = bibDatabase.beginTransaction()) {
+            for (BibEntry entry : selectedEntries) {
+                Optional<String> oldFieldValue = entry.getField(selectedField.get());
+                // Append button should be disabled if 'overwriteNonEmptyFields' is false
+                if (overwriteFieldContent.get()) {
+                    String newFieldValue = oldFieldValue.orElse("").concat(toAppendFieldValue);
+
+                    entry.setField(selectedField.get(), newFieldValue)
+                            .ifPresent(fieldChange -> appendToFieldEdit.addEdit(new UndoableFieldChange(fieldChange)));
+
+                    fieldValue.set("");
+                    affectedEntriesCount++;
+                }
             }
         }
 
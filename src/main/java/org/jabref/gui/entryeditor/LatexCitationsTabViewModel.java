@@ -3,13 +3,11 @@ package org.jabref.gui.entryeditor;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyListWrapper;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
@@ -28,13 +26,12 @@ import org.jabref.gui.texparser.CitationsDisplay;
 import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexCitationIndex;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.texparser.Citation;
-import org.jabref.model.texparser.LatexParserResult;
-import org.jabref.model.texparser.LatexParserResults;
 import org.jabref.model.util.DirectoryMonitorManager;
 
 import org.apache.commons.io.filefilter.FileFilterUtils;
@@ -63,12 +60,11 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
     private final ObservableList<Citation> citationList;
     private final ObjectProperty<Status> status;
     private final StringProperty searchError;
-    private final BooleanProperty updateStatusOnCreate;
-    private final DefaultLatexParser latexParser;
-    private final LatexParserResults latexFiles;
     private final DirectoryMonitorManager directoryMonitorManager;
     private final FileAlterationListener listener;
+    private volatile LatexCitationIndex citationIndex;
     private FileAlterationObserver observer;
+    private boolean indexing;
     private BibEntry currentEntry;
 
     public LatexCitationsTabViewModel(BibDatabaseContext databaseContext,
@@ -86,64 +82,36 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         this.status = new SimpleObjectProperty<>(Status.IN_PROGRESS);
         this.searchError = new SimpleStringProperty("");
         this.directoryMonitorManager = directoryMonitorManager;
-        this.updateStatusOnCreate = new SimpleBooleanProperty(false);
         this.listener = getListener();
-
-        this.latexParser = new DefaultLatexParser();
-        this.latexFiles = new LatexParserResults();
+        this.citationIndex = LatexCitationIndex.getForDirectory(directory.get());
     }
 
     private FileAlterationListener getListener() {
         return new FileAlterationListener() {
             @Override
             public void onStart(FileAlterationObserver observer) {
-                if (!updateStatusOnCreate.get()) {
-                    UiTaskExecutor.runInJavaFXThread(() -> status.set(Status.IN_PROGRESS));
-                }
             }
 
             @Override
             public void onStop(FileAlterationObserver observer) {
-                if (!updateStatusOnCreate.get()) {
-                    updateStatusOnCreate.set(true);
-                    updateStatus();
-                }
             }
 
             @Override
             public void onFileCreate(File file) {
-                Path path = file.toPath();
-                LatexParserResult result = latexParser.parse(path).get();
-                latexFiles.add(path, result);
-
-                Optional<String> citationKey = currentEntry.getCitationKey();
-                if (citationKey.isPresent()) {
-                    Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
-                    UiTaskExecutor.runInJavaFXThread(() -> citationList.addAll(citations));
-                }
-
-                if (updateStatusOnCreate.get()) {
-                    updateStatus();
-                }
+                citationIndex.updateFile(file.toPath());
+                updateCitations();
             }
 
             @Override
             public void onFileDelete(File file) {
-                LatexParserResult result = latexFiles.remove(file.toPath());
-
-                Optional<String> citationKey = currentEntry.getCitationKey();
-                if (citationKey.isPresent()) {
-                    Collection<Citation> citations = result.getCitationsByKey(citationKey.get());
-                    UiTaskExecutor.runInJavaFXThread(() -> citationList.removeAll(citations));
-                    updateStatus();
-                }
+                citationIndex.removeFile(file.toPath());
+                updateCitations();
             }
 
             @Override
             public void onFileChange(File file) {
-                onFileDelete(file);
-                onFileCreate(file);
-                updateStatus();
+                citationIndex.updateFile(file.toPath());
+                updateCitations();
             }
 
             @Override
@@ -183,13 +151,14 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         Optional<String> citationKey = entry.getCitationKey();
 
         if (observer == null) {
-            observer = new FileAlterationObserver(directory.get().toFile(), FILE_FILTER);
-            directoryMonitorManager.addObserver(observer, listener);
+            startIndexing();
         }
 
         if (citationKey.isPresent()) {
-            citationList.setAll(latexFiles.getCitationsByKey(citationKey.get()));
-            if (status.get() != Status.IN_PROGRESS) {
+            citationList.setAll(citationIndex.getCitationsByKey(citationKey.get()));
+            if (indexing) {
+                status.set(Status.IN_PROGRESS);
+            } else {
                 updateStatus();
             }
         } else {
@@ -198,6 +167,53 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
         }
     }
 
+    /**
+     * Brings the index of the current directory up to date in the background and starts monitoring the directory
+     * afterwards. Until then, the citations known from the stored index are shown.
+     */
+    private void startIndexing() {
+        indexing = true;
+        status.set(Status.IN_PROGRESS);
+        citationIndex = LatexCitationIndex.getForDirectory(directory.get());
+        FileAlterationObserver newObserver = new FileAlterationObserver(directory.get().toFile(), FILE_FILTER);
+        observer = newObserver;
+        LatexCitationIndex index = citationIndex;
+
+        HeadlessExecutorService.INSTANCE.execute(() -> {
+            try {
+                // Record the current state first, thus the observer reports changes during indexing
+                newObserver.initialize();
+            } catch (Exception e) {
+                LOGGER.warn("Could not initialize monitoring of {}", index.getDirectory(), e);
+            }
+            index.refresh();
+            UiTaskExecutor.runInJavaFXThread(() -> {
+                if (observer != newObserver) {
+                    // the directory was changed in the meantime
+                    return;
+                }
+                directoryMonitorManager.addObserver(newObserver, listener);
+                indexing = false;
+                updateCitations();
+            });
+        });
+    }
+
+    private void updateCitations() {
+        if (currentEntry == null) {
+            return;
+        }
+        List<Citation> citations = currentEntry.getCitationKey()
+                                               .map(citationIndex::getCitationsByKey)
+                                               .orElse(List.of());
+        UiTaskExecutor.runInJavaFXThread(() -> {
+            citationList.setAll(citations);
+            if (!indexing && currentEntry.getCitationKey().isPresent()) {
+                updateStatus();
+            }
+        });
+    }
+
     public void setLatexDirectory() {
         DirectoryDialogConfiguration directoryDialogConfiguration = new DirectoryDialogConfiguration.Builder()
                 .withInitialDirectory(directory.get()).build();
@@ -213,15 +229,11 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
                                            .orElse(FileUtil.getInitialDirectory(databaseContext, preferences.getFilePreferences().getWorkingDirectory()));
 
         if (!newDirectory.equals(directory.get())) {
-            status.set(Status.IN_PROGRESS);
-            updateStatusOnCreate.set(false);
             citationList.clear();
-            latexFiles.clear();
 
             directoryMonitorManager.removeObserver(observer);
             directory.set(newDirectory);
-            observer = new FileAlterationObserver(directory.get().toFile(), FILE_FILTER);
-            directoryMonitorManager.addObserver(observer, listener);
+            startIndexing();
         }
     }
 
@@ -22,7 +22,7 @@ public class BibEntryRelationsRepository {
 
     public List<BibEntry> getCitations(BibEntry entry) {
         if (needToRefreshCitations(entry)) {
-            forceRefreshCitations(entry);
+            fetchCitations(entry, false);
         }
 
         return cache.getCitations(entry);
@@ -30,26 +30,17 @@ public class BibEntryRelationsRepository {
 
     public List<BibEntry> getReferences(BibEntry entry) {
         if (needToRefreshReferences(entry)) {
-            List<BibEntry> references;
-            try {
-                references = fetcher.searchCiting(entry);
-            } catch (FetcherException e) {
-                LOGGER.error("Error while fetching references", e);
-                references = List.of();
-            }
-            cache.cacheOrMergeReferences(entry, references);
+            fetchReferences(entry, false);
         }
 
         return cache.getReferences(entry);
     }
 
+    /**
+     * Fetches the citations, bypassing cached responses of the server
+     */
     public void forceRefreshCitations(BibEntry entry) {
-        try {
-            List<BibEntry> citations = fetcher.searchCitedBy(entry);
-            cache.cacheOrMergeCitations(entry, citations);
-        } catch (FetcherException e) {
-            LOGGER.error("Error while fetching citations", e);
-        }
+        fetchCitations(entry, true);
     }
 
     public boolean needToRefreshCitations(BibEntry entry) {
@@ -60,10 +51,26 @@ public class BibEntryRelationsRepository {
         return !cache.referencesCached(entry);
     }
 
+    /**
+     * Fetches the references, bypassing cached responses of the server
+     */
     public void forceRefreshReferences(BibEntry entry) {
+        fetchReferences(entry, true);
+    }
+
+    private void fetchCitations(BibEntry entry, boolean refresh) {
+        try {
+            List<BibEntry> citations = fetcher.searchCitedBy(entry, refresh);
+            cache.cacheOrMergeCitations(entry, citations);
+        } catch (FetcherException e) {
+            LOGGER.error("Error while fetching citations", e);
+        }
+    }
+
+    private void fetchReferences(BibEntry entry, boolean refresh) {
         List<BibEntry> references;
         try {
-            references = fetcher.searchCiting(entry);
+            references = fetcher.searchCiting(entry, refresh);
         } catch (FetcherException e) {
             LOGGER.error("Error while fetching references", e);
             references = List.of();
@@ -473,12 +473,13 @@ public class CitationRelationsTab extends EntryEditorTab {
                                              ObservableList<CitationRelationItem> observableList) {
         hideNodes(abortButton, progress);
 
+        BibDatabaseMode databaseMode = BibDatabaseModeDetection.inferMode(databaseContext.getDatabase());
         observableList.setAll(
         fetchedList.stream()
             .map(entr -> duplicateCheck.containsDuplicate(
                     databaseContext.getDatabase(),
                     entr,
-                    BibDatabaseModeDetection.inferMode(databaseContext.getDatabase()))
+                    databaseMode)
                 .map(localEntry -> new CitationRelationItem(entr, localEntry, true))
                 .orElseGet(() -> new CitationRelationItem(entr, false)))
             .toList()
@@ -2,11 +2,13 @@ package org.jabref.gui.entryeditor.citationrelationtab.semanticscholar;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.importer.fetcher.CustomizableKeyFetcher;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.entry.BibEntry;
@@ -18,6 +20,9 @@ public class SemanticScholarFetcher implements CitationFetcher, CustomizableKeyF
 
     private static final String SEMANTIC_SCHOLAR_API = "https://api.semanticscholar.org/graph/v1/";
 
+    // Citation counts change slowly; re-opening the citation relations tab should not query the API again
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofHours(12);
+
     private final ImporterPreferences importerPreferences;
 
     public SemanticScholarFetcher(ImporterPreferences importerPreferences) {
@@ -32,6 +37,13 @@ public class SemanticScholarFetcher implements CitationFetcher, CustomizableKeyF
 
     @Override
     public List<BibEntry> searchCitedBy(BibEntry entry) throws FetcherException {
+        return searchCitedBy(entry, false);
+    }
+
+    /**
+     * @param refresh {@code true} to ask the server again even if a cached response is still fresh
+     */
+    public List<BibEntry> searchCitedBy(BibEntry entry, boolean refresh) throws FetcherException {
         if (entry.getDOI().isEmpty()) {
             return List.of();
         }
@@ -42,7 +54,7 @@ public class SemanticScholarFetcher implements CitationFetcher, CustomizableKeyF
         } catch (MalformedURLException e) {
             throw new FetcherException("Malformed URL", e);
         }
-        URLDownload urlDownload = new URLDownload(citationsUrl);
+        URLDownload urlDownload = new URLDownload(citationsUrl).useCache(HttpResponseCache.getDefault(), getCacheTimeToLive(refresh));
 
         importerPreferences.getApiKey(getName()).ifPresent(apiKey -> urlDownload.addHeader("x-api-key", apiKey));
 
@@ -56,6 +68,13 @@ public class SemanticScholarFetcher implements CitationFetcher, CustomizableKeyF
 
     @Override
     public List<BibEntry> searchCiting(BibEntry entry) throws FetcherException {
+        return searchCiting(entry, false);
+    }
+
+    /**
+     * @param refresh {@code true} to ask the server again even if a cached response is still fresh
+     */
+    public List<BibEntry> searchCiting(BibEntry entry, boolean refresh) throws FetcherException {
         if (entry.getDOI().isEmpty()) {
             return List.of();
         }
@@ -67,7 +86,7 @@ public class SemanticScholarFetcher implements CitationFetcher, CustomizableKeyF
             throw new FetcherException("Malformed URL", e);
         }
 
-        URLDownload urlDownload = new URLDownload(referencesUrl);
+        URLDownload urlDownload = new URLDownload(referencesUrl).useCache(HttpResponseCache.getDefault(), getCacheTimeToLive(refresh));
         importerPreferences.getApiKey(getName()).ifPresent(apiKey -> urlDownload.addHeader("x-api-key", apiKey));
         ReferencesResponse referencesResponse = new Gson()
                 .fromJson(urlDownload.asString(), ReferencesResponse.class);
@@ -78,6 +97,14 @@ public class SemanticScholarFetcher implements CitationFetcher, CustomizableKeyF
                                  .map(referenceDataItem -> referenceDataItem.getCitedPaper().toBibEntry()).toList();
     }
 
+    /**
+     * A refresh treats the cached response as stale. It is still stored, so that the next search without refresh uses
+     * the new response.
+     */
+    private static Duration getCacheTimeToLive(boolean refresh) {
+        return refresh ? Duration.ZERO : CACHE_TIME_TO_LIVE;
+    }
+
     @Override
     public String getName() {
         return FETCHER_NAME;
@@ -4,11 +4,16 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.swing.undo.CompoundEdit;
 import javax.swing.undo.UndoManager;
@@ -40,6 +45,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileUtil;
@@ -66,6 +72,12 @@ import static org.jabref.gui.duplicationFinder.DuplicateResolverDialog.Duplicate
 public class ImportHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ImportHandler.class);
+
+    /**
+     * Limits the memory taken by the PDF documents parsed at the same time when importing several files
+     */
+    private static final int MAX_CONCURRENT_PDF_IMPORTS = 4;
+
     private final BibDatabaseContext bibDatabaseContext;
     private final GuiPreferences preferences;
     private final FileUpdateMonitor fileUpdateMonitor;
@@ -107,10 +119,19 @@ public class ImportHandler {
             private final List<ImportFilesResultItemViewModel> results = new ArrayList<>();
             private final List<BibEntry> allEntriesToAdd = new ArrayList<>();
 
+            // PDFs are imported a few at a time ahead of the loop below; the remaining steps (e.g., linking the file) are done file by file
+            private final Deque<Future<ParserResult>> pdfImports = new ArrayDeque<>(MAX_CONCURRENT_PDF_IMPORTS);
+            private Iterator<Path> pdfFilesToImport;
+
             @Override
             public List<ImportFilesResultItemViewModel> call() {
                 counter = 1;
                 CompoundEdit ce = new CompoundEdit();
+                // A single PDF is imported using the merge dialog
+                pdfFilesToImport = files.size() > 1
+                                   ? files.stream().filter(FileUtil::isPDFFile).iterator()
+                                   : Collections.emptyIterator();
+                startPdfImports();
                 for (final Path file : files) {
                     final List<BibEntry> entriesToAdd = new ArrayList<>();
 
@@ -140,7 +161,8 @@ public class ImportHandler {
                                     dialogService.showCustomDialogAndWait(dialog).ifPresent(pdfEntriesInFile::add);
                                 });
                             } else {
-                                ParserResult pdfImporterResult = contentImporter.importPDFContent(file, bibDatabaseContext, filePreferences);
+                                ParserResult pdfImporterResult = getNextPdfImport();
+                                startPdfImports();
                                 pdfEntriesInFile = pdfImporterResult.getDatabase().getEntries();
                                 if (pdfImporterResult.hasWarnings()) {
                                     addResultToList(file, false, Localization.lang("Error reading PDF content: %0", pdfImporterResult.getErrorMessage()));
@@ -196,12 +218,36 @@ public class ImportHandler {
 
                     counter++;
                 }
+                // only non-empty if the import was cancelled
+                pdfImports.forEach(pdfImport -> pdfImport.cancel(true));
+
                 // We need to run the actual import on the FX Thread, otherwise we will get some deadlocks with the UIThreadList
                 // That method does a clone() on each entry
                 UiTaskExecutor.runInJavaFXThread(() -> importEntries(allEntriesToAdd));
                 return results;
             }
 
+            private void startPdfImports() {
+                while ((pdfImports.size() < MAX_CONCURRENT_PDF_IMPORTS) && pdfFilesToImport.hasNext()) {
+                    Path pdfFile = pdfFilesToImport.next();
+                    pdfImports.add(HeadlessExecutorService.INSTANCE.execute(() -> contentImporter.importPDFContent(pdfFile, bibDatabaseContext, filePreferences)));
+                }
+            }
+
+            /**
+             * Returns the result of the next PDF in the order of the files
+             */
+            private ParserResult getNextPdfImport() {
+                try {
+                    return pdfImports.poll().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return ParserResult.fromError(e);
+                } catch (ExecutionException e) {
+                    return ParserResult.fromError(e.getCause() instanceof Exception cause ? cause : e);
+                }
+            }
+
             private void addResultToList(Path newFile, boolean success, String logMessage) {
                 var result = new ImportFilesResultItemViewModel(newFile, success, logMessage);
                 results.add(result);
@@ -2,11 +2,13 @@ package org.jabref.gui.fieldeditors;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiPredicate;
 
 import javafx.beans.Observable;
@@ -33,10 +35,12 @@ import org.jabref.gui.linkedfile.LinkedFileEditDialog;
 import org.jabref.gui.mergeentries.MultiMergeEntriesView;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.ControlHelper;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.externalfiles.LinkedFileHandler;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.io.FileStatusCache;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -61,6 +65,7 @@ public class LinkedFileViewModel extends AbstractViewModel {
     private final BooleanProperty downloadOngoing = new SimpleBooleanProperty(false);
     private final BooleanProperty isAutomaticallyFound = new SimpleBooleanProperty(false);
     private final BooleanProperty isOfflinePdf = new SimpleBooleanProperty(false);
+    private final BooleanProperty fileExists = new SimpleBooleanProperty(true);
     private final DialogService dialogService;
     private final BibEntry entry;
     private final TaskExecutor taskExecutor;
@@ -85,22 +90,43 @@ public class LinkedFileViewModel extends AbstractViewModel {
         this.dialogService = dialogService;
         this.taskExecutor = taskExecutor;
 
+        // Checking for the file may take a network round trip, thus the file is assumed to exist until its status is known
         fileExistsValidator = new FunctionBasedValidator<>(
-                linkedFile.linkProperty(),
-                link -> {
-                    if (linkedFile.isOnlineLink()) {
-                        return true;
-                    } else {
-                        Optional<Path> path = FileUtil.find(databaseContext, link, preferences.getFilePreferences());
-                        return path.isPresent() && Files.exists(path.get());
-                    }
-                },
+                fileExists,
+                exists -> exists,
                 ValidationMessage.warning(Localization.lang("Could not find file '%0'.", linkedFile.getLink())));
+        linkedFile.linkProperty().addListener((observable, oldValue, newValue) -> updateFileExists(newValue));
+        updateFileExists(linkedFile.getLink());
 
         downloadOngoing.bind(downloadProgress.greaterThanOrEqualTo(0).and(downloadProgress.lessThan(1)));
         isOfflinePdf.setValue(!linkedFile.isOnlineLink() && "pdf".equalsIgnoreCase(linkedFile.getFileType()));
     }
 
+    private void updateFileExists(String link) {
+        if (linkedFile.isOnlineLink()) {
+            fileExists.set(true);
+            return;
+        }
+        List<Path> directories = databaseContext.getFileDirectories(preferences.getFilePreferences());
+        CompletableFuture<Optional<Path>> file;
+        try {
+            file = FileStatusCache.getDefault().findAsync(link, directories);
+        } catch (InvalidPathException e) {
+            fileExists.set(false);
+            return;
+        }
+        if (file.isDone()) {
+            fileExists.set(file.join().isPresent());
+        } else {
+            file.thenAccept(path -> UiTaskExecutor.runInJavaFXThread(() -> {
+                // The link might have been changed while its file was searched
+                if (link.equals(linkedFile.getLink())) {
+                    fileExists.set(path.isPresent());
+                }
+            }));
+        }
+    }
+
     public static LinkedFileViewModel fromLinkedFile(
             LinkedFile linkedFile,
             BibEntry entry,
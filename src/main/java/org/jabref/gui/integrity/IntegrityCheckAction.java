@@ -1,10 +1,11 @@
 package org.jabref.gui.integrity;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -18,12 +19,16 @@ import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class IntegrityCheckAction extends SimpleCommand {
 
+    private record CheckConfiguration(BibDatabaseMode mode, Optional<Charset> encoding, boolean allowIntegerEdition) {
+    }
+
     private final UiTaskExecutor taskExecutor;
     private final DialogService dialogService;
     private final Supplier<LibraryTab> tabSupplier;
@@ -31,6 +36,10 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final StateManager stateManager;
     private final JournalAbbreviationRepository abbreviationRepository;
 
+    private BibDatabaseContext lastDatabase;
+    private CheckConfiguration lastConfiguration;
+    private IntegrityCheck lastIntegrityCheck;
+
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 GuiPreferences preferences,
                                 DialogService dialogService,
@@ -49,27 +58,14 @@ public class IntegrityCheckAction extends SimpleCommand {
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                preferences.getFilePreferences(),
-                preferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        IntegrityCheck check = getIntegrityCheck(database);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
+                List<BibEntry> entries = List.copyOf(database.getDatabase().getEntries());
                 List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
+                result.addAll(check.checkEntries(entries, checkedEntries -> updateProgress(checkedEntries, entries.size())));
                 return result;
             }
         };
@@ -89,4 +85,25 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    /**
+     * Reuses the check of the previous run on the same library, so that only the entries changed in the meantime are
+     * checked completely
+     */
+    private IntegrityCheck getIntegrityCheck(BibDatabaseContext database) {
+        CheckConfiguration configuration = new CheckConfiguration(database.getMode(),
+                database.getMetaData().getEncoding(),
+                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        // BibDatabaseContext#equals compares the contents, but the check is bound to the instance
+        if (database != lastDatabase || !configuration.equals(lastConfiguration)) {
+            lastDatabase = database;
+            lastConfiguration = configuration;
+            lastIntegrityCheck = new IntegrityCheck(database,
+                    preferences.getFilePreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    abbreviationRepository,
+                    configuration.allowIntegerEdition());
+        }
+        return lastIntegrityCheck;
+    }
 }
@@ -13,6 +13,7 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.EntryType;
 
 public class FieldViewModel {
@@ -61,6 +62,10 @@ public class FieldViewModel {
         // If the field is not known by JabRef (UnknownField), the new casing will be taken.
         Field field = FieldFactory.parseField(type, displayName.getValue());
         if (multiline.getValue()) {
+            if (field instanceof UnknownField unknownField) {
+                // FieldFactory shares the instances of unknown fields, thus the properties of a new instance are set
+                return new UnknownField(unknownField.getName(), unknownField.getDisplayName(), FieldProperty.MULTILINE_TEXT);
+            }
             field.getProperties().add(FieldProperty.MULTILINE_TEXT);
         }
         return field;
@@ -8,6 +8,7 @@ import org.jabref.cli.ArgumentProcessor;
 import org.jabref.gui.frame.UiMessageHandler;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.logic.remote.server.RemoteMessageHandler;
+import org.jabref.logic.remote.server.UiCommandBatcher;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
 
@@ -21,13 +22,13 @@ public class CLIMessageHandler implements RemoteMessageHandler {
     private final GuiPreferences preferences;
     private final FileUpdateMonitor fileUpdateMonitor;
     private final BibEntryTypesManager entryTypesManager;
-    private final UiMessageHandler uiMessageHandler;
+    private final UiCommandBatcher uiCommandBatcher;
 
     public CLIMessageHandler(UiMessageHandler uiMessageHandler,
                              GuiPreferences preferences,
                              FileUpdateMonitor fileUpdateMonitor,
                              BibEntryTypesManager entryTypesManager) {
-        this.uiMessageHandler = uiMessageHandler;
+        this.uiCommandBatcher = new UiCommandBatcher(uiCommands -> Platform.runLater(() -> uiMessageHandler.handleUiCommands(uiCommands)));
         this.preferences = preferences;
         this.fileUpdateMonitor = fileUpdateMonitor;
         this.entryTypesManager = entryTypesManager;
@@ -44,7 +45,8 @@ public class CLIMessageHandler implements RemoteMessageHandler {
                     fileUpdateMonitor,
                     entryTypesManager);
             argumentProcessor.processArguments();
-            Platform.runLater(() -> uiMessageHandler.handleUiCommands(argumentProcessor.getUiCommands()));
+            // Requests arriving in quick succession are handled together, e.g., one import dialog for several imports
+            uiCommandBatcher.add(argumentProcessor.getUiCommands());
         } catch (ParseException e) {
             LOGGER.error("Error when parsing CLI args", e);
         }
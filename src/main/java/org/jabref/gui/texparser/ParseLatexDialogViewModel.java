@@ -27,7 +27,7 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.logic.texparser.TexBibEntriesResolver;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -207,7 +207,8 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
                 preferences.getImportFormatPreferences(),
                 fileMonitor);
 
-        BackgroundTask.wrap(() -> entriesResolver.resolve(new DefaultLatexParser().parse(fileList)))
+        LatexCitationIndex citationIndex = LatexCitationIndex.getForDirectory(Path.of(latexFileDirectory.get()));
+        BackgroundTask.wrap(() -> entriesResolver.resolve(citationIndex.getResults(fileList)))
                       .onRunning(() -> searchInProgress.set(true))
                       .onFinished(() -> searchInProgress.set(false))
                       .onSuccess(result -> dialogService.showCustomDialogAndWait(
@@ -8,6 +8,7 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -19,6 +20,7 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,7 +34,8 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultFileUpdateMonitor.class);
 
-    private final Multimap<Path, FileUpdateListener> listeners = ArrayListMultimap.create(20, 4);
+    // Listeners are added from background threads, e.g., by the FileStatusCache
+    private final Multimap<Path, FileUpdateListener> listeners = Multimaps.synchronizedMultimap(ArrayListMultimap.create(20, 4));
     private volatile WatchService watcher;
     private final AtomicBoolean notShutdown = new AtomicBoolean(true);
     private final AtomicReference<Optional<JabRefException>> filesystemMonitorFailure = new AtomicReference<>(Optional.empty());
@@ -58,11 +61,16 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
                         Thread.yield();
                         continue;
                     } else if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                        // We only handle "ENTRY_CREATE" and "ENTRY_MODIFY" here, so the context is always a Path
+                        // We only handle "ENTRY_CREATE", "ENTRY_MODIFY" and "ENTRY_DELETE" here, so the context is always a Path
                         @SuppressWarnings("unchecked")
                         WatchEvent<Path> ev = (WatchEvent<Path>) event;
                         Path path = ((Path) key.watchable()).resolve(ev.context());
                         notifyAboutChange(path);
+                    } else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                        @SuppressWarnings("unchecked")
+                        WatchEvent<Path> ev = (WatchEvent<Path>) event;
+                        Path path = ((Path) key.watchable()).resolve(ev.context());
+                        notifyAboutDeletion(path);
                     }
                     key.reset();
                 }
@@ -82,7 +90,18 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
     }
 
     private void notifyAboutChange(Path path) {
-        listeners.get(path).forEach(FileUpdateListener::fileUpdated);
+        getListeners(path).forEach(FileUpdateListener::fileUpdated);
+    }
+
+    private void notifyAboutDeletion(Path path) {
+        getListeners(path).forEach(FileUpdateListener::fileDeleted);
+    }
+
+    private List<FileUpdateListener> getListeners(Path path) {
+        // Copies, because listeners might remove themselves when notified
+        synchronized (listeners) {
+            return List.copyOf(listeners.get(path));
+        }
     }
 
     @Override
@@ -90,7 +109,7 @@ public class DefaultFileUpdateMonitor implements Runnable, FileUpdateMonitor {
         if (isActive()) {
             // We can't watch files directly, so monitor their parent directory for updates
             Path directory = file.toAbsolutePath().getParent();
-            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
             listeners.put(file, listener);
         } else {
             LOGGER.warn("Not adding listener {} to file {} because the file update monitor isn't active", listener, file);
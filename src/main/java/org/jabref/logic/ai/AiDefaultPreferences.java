@@ -78,6 +78,19 @@ public class AiDefaultPreferences {
     public static final int DOCUMENT_SPLITTER_OVERLAP = 100;
     public static final int RAG_MAX_RESULTS_COUNT = 10;
     public static final double RAG_MIN_SCORE = 0.3;
+    public static final int SUMMARIZATION_PARALLELISM = 4;
+
+    /**
+     * Upper bound of concurrent requests to a provider, regardless of {@link #SUMMARIZATION_PARALLELISM}. Shared by all
+     * summarization tasks. Local inference servers (GPT4All) usually process requests one after another.
+     */
+    public static final Map<AiProvider, Integer> MAX_CONCURRENT_REQUESTS = Map.of(
+            AiProvider.OPEN_AI, 8,
+            AiProvider.MISTRAL_AI, 4,
+            AiProvider.GEMINI, 4,
+            AiProvider.HUGGING_FACE, 2,
+            AiProvider.GPT4ALL, 1
+    );
 
     public static final int FALLBACK_CONTEXT_WINDOW_SIZE = 8196;
 
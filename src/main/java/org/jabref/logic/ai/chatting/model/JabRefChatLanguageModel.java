@@ -137,6 +137,13 @@ public class JabRefChatLanguageModel implements ChatLanguageModel, AutoCloseable
         return langchainChatModel.get().generate(list);
     }
 
+    /**
+     * @return the provider, the model and the API base URL currently selected, which determine the answers of the model
+     */
+    public String getModelDescription() {
+        return aiPreferences.getAiProvider() + " " + aiPreferences.getSelectedChatModel() + " " + aiPreferences.getSelectedApiBaseUrl();
+    }
+
     @Override
     public void close() {
         httpClient.shutdownNow();
@@ -1,17 +1,16 @@
 package org.jabref.logic.ai.ingestion;
 
-import java.io.StringWriter;
+import java.io.InterruptedIOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
 
-import org.jabref.logic.pdf.InterruptablePDFTextStripper;
+import org.jabref.logic.pdf.PdfTextExtractionService;
+import org.jabref.logic.pdf.PdfTextExtractionService.PdfContent;
 import org.jabref.logic.util.io.FileUtil;
-import org.jabref.logic.xmp.XmpUtilReader;
 
 import dev.langchain4j.data.document.Document;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,20 +35,17 @@ public class FileToDocument {
     private Optional<Document> fromPdfFile(Path path) {
         // This method is private to ensure that the path is really pointing to PDF file (determined by extension).
 
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(path)) {
-            int lastPage = document.getNumberOfPages();
-            StringWriter writer = new StringWriter();
-
-            InterruptablePDFTextStripper stripper = new InterruptablePDFTextStripper(shutdownSignal);
-            stripper.setStartPage(1);
-            stripper.setEndPage(lastPage);
-            stripper.writeText(document, writer);
+        try {
+            PdfContent content = PdfTextExtractionService.getDefault().getContent(path, shutdownSignal::get);
 
             if (shutdownSignal.get()) {
                 return Optional.empty();
             }
 
-            return fromString(writer.toString());
+            return fromString(content.getText());
+        } catch (InterruptedIOException e) {
+            LOGGER.debug("Reading of the PDF file {} was interrupted", path);
+            return Optional.empty();
         } catch (Exception e) {
             LOGGER.error("An error occurred while reading the PDF file: {}", path, e);
             return Optional.empty();
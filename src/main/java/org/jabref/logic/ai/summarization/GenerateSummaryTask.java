@@ -13,7 +13,6 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.ai.AiPreferences;
 import org.jabref.logic.ai.ingestion.FileToDocument;
-import org.jabref.logic.ai.templates.AiTemplate;
 import org.jabref.logic.ai.templates.TemplatesService;
 import org.jabref.logic.ai.util.CitationKeyCheck;
 import org.jabref.logic.l10n.Localization;
@@ -24,9 +23,6 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 
 import dev.langchain4j.data.document.Document;
-import dev.langchain4j.data.document.DocumentSplitter;
-import dev.langchain4j.data.document.splitter.DocumentSplitters;
-import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,9 +37,6 @@ import org.slf4j.LoggerFactory;
 public class GenerateSummaryTask extends BackgroundTask<Summary> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateSummaryTask.class);
 
-    private static final int MAX_OVERLAP_SIZE_IN_CHARS = 100;
-    private static final int CHAR_TOKEN_FACTOR = 4; // Means, every token is roughly 4 characters.
-
     private final BibDatabaseContext bibDatabaseContext;
     private final BibEntry entry;
     private final String citationKey;
@@ -55,6 +48,7 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
     private final FilePreferences filePreferences;
 
     private final ProgressCounter progressCounter = new ProgressCounter();
+    private final MapReduceSummarizer summarizer;
 
     public GenerateSummaryTask(BibEntry entry,
                                BibDatabaseContext bibDatabaseContext,
@@ -74,6 +68,17 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
         this.shutdownSignal = shutdownSignal;
         this.aiPreferences = aiPreferences;
         this.filePreferences = filePreferences;
+        this.summarizer = new MapReduceSummarizer(chatLanguageModel, templatesService, summariesStorage, aiPreferences, shutdownSignal, new MapReduceSummarizer.ProgressListener() {
+            @Override
+            public void addWork(int amount) {
+                addMoreWork(amount);
+            }
+
+            @Override
+            public void workDone() {
+                doneOneWork();
+            }
+        });
 
         configure();
     }
@@ -116,6 +121,10 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
             } catch (InterruptedException e) {
                 LOGGER.debug("There was a summarization task for {}. It will be canceled, because user quits JabRef.", citationKey);
                 return null;
+            } catch (RuntimeException e) {
+                // Only an interrupted summarization is resumed from the stored answers
+                summarizer.clearIntermediateSummaries();
+                throw e;
             }
         }
 
@@ -126,6 +135,7 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
         } else {
             summariesStorage.set(bibDatabaseContext.getDatabasePath().get(), entry.getCitationKey().get(), summary);
         }
+        summarizer.clearIntermediateSummaries();
 
         LOGGER.debug("Finished summarization task for entry {}", citationKey);
         progressCounter.stop();
@@ -196,78 +206,13 @@ public class GenerateSummaryTask extends BackgroundTask<Summary> {
     }
 
     public String summarizeOneDocument(String filePath, String document) throws InterruptedException {
-        addMoreWork(1); // For the combination of summary chunks.
-
-        DocumentSplitter documentSplitter = DocumentSplitters.recursive(aiPreferences.getContextWindowSize() - MAX_OVERLAP_SIZE_IN_CHARS * 2 - estimateTokenCount(aiPreferences.getTemplate(AiTemplate.SUMMARIZATION_CHUNK)), MAX_OVERLAP_SIZE_IN_CHARS);
-
-        List<String> chunkSummaries = documentSplitter.split(new Document(document)).stream().map(TextSegment::text).toList();
-
-        LOGGER.debug("The file \"{}\" of entry {} was split into {} chunk(s)", filePath, citationKey, chunkSummaries.size());
-
-        int passes = 0;
-
-        do {
-            passes++;
-            LOGGER.debug("Summarizing chunk(s) for file \"{}\" of entry {} ({} pass)", filePath, citationKey, passes);
-
-            addMoreWork(chunkSummaries.size());
-
-            List<String> list = new ArrayList<>();
-
-            for (String chunkSummary : chunkSummaries) {
-                if (shutdownSignal.get()) {
-                    throw new InterruptedException();
-                }
-
-                String prompt = templatesService.makeSummarizationChunk(chunkSummary);
-
-                LOGGER.debug("Sending request to AI provider to summarize a chunk from file \"{}\" of entry {}", filePath, citationKey);
-                String chunk = chatLanguageModel.generate(prompt);
-                LOGGER.debug("Chunk summary for file \"{}\" of entry {} was generated successfully", filePath, citationKey);
-
-                list.add(chunk);
-                doneOneWork();
-            }
-
-            chunkSummaries = list;
-        } while (estimateTokenCount(chunkSummaries) > aiPreferences.getContextWindowSize() - estimateTokenCount(aiPreferences.getTemplate(AiTemplate.SUMMARIZATION_COMBINE)));
-
-        if (chunkSummaries.size() == 1) {
-            doneOneWork(); // No need to call LLM for combination of summary chunks.
-            LOGGER.debug("Summary of the file \"{}\" of entry {} was generated successfully", filePath, citationKey);
-            return chunkSummaries.getFirst();
-        }
-
-        String prompt = templatesService.makeSummarizationCombine(chunkSummaries);
-
-        if (shutdownSignal.get()) {
-            throw new InterruptedException();
-        }
-
-        LOGGER.debug("Sending request to AI provider to combine summary chunk(s) for file \"{}\" of entry {}", filePath, citationKey);
-        String result = chatLanguageModel.generate(prompt);
-        LOGGER.debug("Summary of the file \"{}\" of entry {} was generated successfully", filePath, citationKey);
-
-        doneOneWork();
-        return result;
+        return summarizer.summarize(filePath + " of entry " + citationKey, document);
     }
 
     public String summarizeSeveralDocuments(Stream<String> documents) throws InterruptedException {
         return summarizeOneDocument(citationKey, documents.collect(Collectors.joining("\n\n")));
     }
 
-    private static int estimateTokenCount(List<String> chunkSummaries) {
-        return chunkSummaries.stream().mapToInt(GenerateSummaryTask::estimateTokenCount).sum();
-    }
-
-    private static int estimateTokenCount(String string) {
-        return estimateTokenCount(string.length());
-    }
-
-    private static int estimateTokenCount(int numOfChars) {
-        return numOfChars / CHAR_TOKEN_FACTOR;
-    }
-
     private void updateProgress() {
         updateProgress(progressCounter.getWorkDone(), progressCounter.getWorkMax());
         updateMessage(progressCounter.getMessage());
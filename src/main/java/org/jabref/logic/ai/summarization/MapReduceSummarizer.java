@@ -0,0 +1,233 @@
+package org.jabref.logic.ai.summarization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+
+import org.jabref.logic.ai.AiDefaultPreferences;
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.templates.AiTemplate;
+import org.jabref.logic.ai.templates.TemplatesService;
+import org.jabref.model.ai.AiProvider;
+
+import com.google.common.hash.Hashing;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Summarizes a document that may exceed the context window of the chat model.
+ * <p>
+ * Map phase: the document is split into chunks, which are summarized concurrently. Reduce phase: neighboring chunk
+ * summaries are grouped so that each group fits into the context window, and the groups are combined concurrently.
+ * This is repeated until a single summary is left (tree-shaped combination). If a round neither reduces the number nor
+ * the length of the summaries, the remaining summaries are joined as they are.
+ * <p>
+ * The number of concurrent requests is limited by {@link AiPreferences#getSummarizationParallelism()} per document and by
+ * {@link AiDefaultPreferences#MAX_CONCURRENT_REQUESTS} per provider across all documents. The answer of each request is
+ * stored in the {@link SummariesStorage}, so that a retried summarization only sends the requests that did not finish.
+ */
+public class MapReduceSummarizer {
+
+    /**
+     * Receives the progress of a summarization. All methods are called on the thread calling {@link #summarize(String, String)}.
+     */
+    public interface ProgressListener {
+        void addWork(int amount);
+
+        void workDone();
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MapReduceSummarizer.class);
+
+    private static final int MAX_OVERLAP_SIZE_IN_CHARS = 100;
+    private static final int CHAR_TOKEN_FACTOR = 4; // Means, every token is roughly 4 characters.
+
+    private static final Map<AiProvider, Semaphore> PROVIDER_PERMITS = new ConcurrentHashMap<>();
+
+    // Requests block on network I/O only
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ChatLanguageModel chatLanguageModel;
+    private final TemplatesService templatesService;
+    private final SummariesStorage summariesStorage;
+    private final AiPreferences aiPreferences;
+    private final ReadOnlyBooleanProperty shutdownSignal;
+    private final ProgressListener progressListener;
+
+    private final Set<String> usedRequestKeys = ConcurrentHashMap.newKeySet();
+
+    public MapReduceSummarizer(ChatLanguageModel chatLanguageModel,
+                               TemplatesService templatesService,
+                               SummariesStorage summariesStorage,
+                               AiPreferences aiPreferences,
+                               ReadOnlyBooleanProperty shutdownSignal,
+                               ProgressListener progressListener) {
+        this.chatLanguageModel = chatLanguageModel;
+        this.templatesService = templatesService;
+        this.summariesStorage = summariesStorage;
+        this.aiPreferences = aiPreferences;
+        this.shutdownSignal = shutdownSignal;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * @param name used for logging only
+     */
+    public String summarize(String name, String document) throws InterruptedException {
+        DocumentSplitter documentSplitter = DocumentSplitters.recursive(aiPreferences.getContextWindowSize() - MAX_OVERLAP_SIZE_IN_CHARS * 2 - estimateTokenCount(aiPreferences.getTemplate(AiTemplate.SUMMARIZATION_CHUNK)), MAX_OVERLAP_SIZE_IN_CHARS);
+        List<String> chunks = documentSplitter.split(new Document(document)).stream().map(TextSegment::text).toList();
+        LOGGER.debug("\"{}\" was split into {} chunk(s)", name, chunks.size());
+        if (chunks.isEmpty()) {
+            return "";
+        }
+
+        List<String> summaries = generateAll(chunks, templatesService::makeSummarizationChunk);
+
+        int combineLimit = aiPreferences.getContextWindowSize() - estimateTokenCount(aiPreferences.getTemplate(AiTemplate.SUMMARIZATION_COMBINE));
+        int level = 0;
+        while (summaries.size() > 1 || estimateTokenCount(summaries) > combineLimit) {
+            level++;
+            List<List<String>> groups = groupToFit(summaries, combineLimit);
+            LOGGER.debug("Combining {} summaries of \"{}\" in {} group(s) (level {})", summaries.size(), name, groups.size(), level);
+            List<String> combined;
+            if (groups.size() == summaries.size()) {
+                // No two neighbors fit together; shorten each summary first
+                combined = generateAll(summaries, templatesService::makeSummarizationChunk);
+            } else {
+                combined = generateAll(groups, templatesService::makeSummarizationCombine);
+            }
+
+            // The answers are stored, thus repeating a round without progress would return the same answers forever
+            boolean progress = (combined.size() < summaries.size()) || (estimateTokenCount(combined) < estimateTokenCount(summaries));
+            summaries = combined;
+            if (!progress) {
+                LOGGER.warn("The summaries of \"{}\" could not be shortened to fit the context window (level {})", name, level);
+                break;
+            }
+        }
+
+        LOGGER.debug("Summary of \"{}\" was generated successfully", name);
+        return String.join("\n\n", summaries);
+    }
+
+    /**
+     * Removes the stored answers of all requests sent by this summarizer. To be called after the final summary is stored.
+     */
+    public void clearIntermediateSummaries() {
+        usedRequestKeys.forEach(summariesStorage::clearIntermediateSummary);
+        usedRequestKeys.clear();
+    }
+
+    /**
+     * Groups neighboring summaries so that each group fits into the given limit. A summary exceeding the limit on its own
+     * forms a group of its own.
+     */
+    private static List<List<String>> groupToFit(List<String> summaries, int limit) {
+        List<List<String>> groups = new ArrayList<>();
+        List<String> currentGroup = new ArrayList<>();
+        int currentSize = 0;
+        for (String summary : summaries) {
+            int size = estimateTokenCount(summary);
+            if (!currentGroup.isEmpty() && (currentSize + size > limit)) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+                currentSize = 0;
+            }
+            currentGroup.add(summary);
+            currentSize += size;
+        }
+        groups.add(currentGroup);
+        return groups;
+    }
+
+    private <T> List<String> generateAll(List<T> inputs, Function<T, String> promptCreator) throws InterruptedException {
+        progressListener.addWork(inputs.size());
+
+        Semaphore documentPermits = new Semaphore(aiPreferences.getSummarizationParallelism());
+        List<Future<String>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            String prompt = promptCreator.apply(input);
+            futures.add(EXECUTOR.submit(() -> {
+                documentPermits.acquire();
+                try {
+                    return generate(prompt);
+                } finally {
+                    documentPermits.release();
+                }
+            }));
+        }
+
+        List<String> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                results.add(future.get());
+                progressListener.workDone();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                // Same idiom as in langchain4j, see JabRefChatLanguageModel.generate
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private String generate(String prompt) throws InterruptedException {
+        AiProvider aiProvider = aiPreferences.getAiProvider();
+        String requestKey = Hashing.sha256()
+                                   .hashString(aiProvider.name() + "\n" + aiPreferences.getSelectedChatModel() + "\n" + prompt, StandardCharsets.UTF_8)
+                                   .toString();
+        usedRequestKeys.add(requestKey);
+
+        Optional<String> storedSummary = summariesStorage.getIntermediateSummary(requestKey);
+        if (storedSummary.isPresent()) {
+            return storedSummary.get();
+        }
+
+        Semaphore providerPermits = PROVIDER_PERMITS.computeIfAbsent(aiProvider,
+                provider -> new Semaphore(AiDefaultPreferences.MAX_CONCURRENT_REQUESTS.getOrDefault(provider, 1), true));
+        providerPermits.acquire();
+        try {
+            if (shutdownSignal.get()) {
+                throw new InterruptedException();
+            }
+            LOGGER.debug("Sending request to AI provider {}", aiProvider);
+            String summary = chatLanguageModel.generate(prompt);
+            summariesStorage.setIntermediateSummary(requestKey, summary);
+            return summary;
+        } finally {
+            providerPermits.release();
+        }
+    }
+
+    static int estimateTokenCount(List<String> texts) {
+        return texts.stream().mapToInt(MapReduceSummarizer::estimateTokenCount).sum();
+    }
+
+    static int estimateTokenCount(String string) {
+        return string.length() / CHAR_TOKEN_FACTOR;
+    }
+}
@@ -17,6 +17,7 @@ import org.jabref.logic.ai.util.CitationKeyCheck;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
@@ -94,6 +95,17 @@ public class SummariesService {
                 summarize(e.getBibEntry(), bibDatabaseContext);
             }
         }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent e) {
+            if (aiPreferences.getAutoGenerateSummaries()) {
+                e.getFieldChanges().stream()
+                 .filter(change -> change.getField() == StandardField.FILE)
+                 .map(FieldChangedEvent::getBibEntry)
+                 .distinct()
+                 .forEach(entry -> summarize(entry, bibDatabaseContext));
+            }
+        }
     }
 
     /**
@@ -9,4 +9,16 @@ public interface SummariesStorage {
     Optional<Summary> get(Path bibDatabasePath, String citationKey);
 
     void clear(Path bibDatabasePath, String citationKey);
+
+    /**
+     * Stores the answer of the AI provider for a single request of the summarization (summary of a chunk or combination
+     * of summaries). This allows resuming an interrupted summarization without repeating finished requests.
+     *
+     * @param requestKey identifies the request, including provider, model, and prompt
+     */
+    void setIntermediateSummary(String requestKey, String summary);
+
+    Optional<String> getIntermediateSummary(String requestKey);
+
+    void clearIntermediateSummary(String requestKey);
 }
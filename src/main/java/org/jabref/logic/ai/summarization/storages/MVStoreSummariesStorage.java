@@ -12,6 +12,7 @@ import org.jabref.logic.util.NotificationService;
 
 public class MVStoreSummariesStorage extends MVStoreBase implements SummariesStorage {
     private static final String SUMMARIES_MAP_PREFIX = "summaries";
+    private static final String INTERMEDIATE_SUMMARIES_MAP = "intermediateSummaries";
 
     public MVStoreSummariesStorage(Path path, NotificationService dialogService) {
         super(path, dialogService);
@@ -29,6 +30,18 @@ public class MVStoreSummariesStorage extends MVStoreBase implements SummariesSto
         getMap(bibDatabasePath).remove(citationKey);
     }
 
+    public void setIntermediateSummary(String requestKey, String summary) {
+        mvStore.<String, String>openMap(INTERMEDIATE_SUMMARIES_MAP).put(requestKey, summary);
+    }
+
+    public Optional<String> getIntermediateSummary(String requestKey) {
+        return Optional.ofNullable(mvStore.<String, String>openMap(INTERMEDIATE_SUMMARIES_MAP).get(requestKey));
+    }
+
+    public void clearIntermediateSummary(String requestKey) {
+        mvStore.<String, String>openMap(INTERMEDIATE_SUMMARIES_MAP).remove(requestKey);
+    }
+
     private Map<String, Summary> getMap(Path bibDatabasePath) {
         return mvStore.openMap(SUMMARIES_MAP_PREFIX + "-" + bibDatabasePath.toString());
     }
@@ -25,10 +25,9 @@ import de.undercouch.citeproc.output.Citation;
  * <p>
  * Note on the implementation:
  * The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTask, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * synchronized calling. The main CSL engine under the hood is not thread-safe. To allow concurrent rendering, several
+ * adapters are kept in a {@link CSLAdapterPool}, which hands out one adapter per caller and keeps it initialized for
+ * its style and output format.
  */
 public class CSLAdapter {
 
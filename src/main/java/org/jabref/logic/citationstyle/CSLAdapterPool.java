@@ -0,0 +1,107 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Keeps initialized {@link CSLAdapter}s per (style, output format) so that callers do not need to share one engine.
+ * <p>
+ * A {@link CSLAdapter} is not thread-safe and creating its CSL engine is expensive. Instead of serializing all callers
+ * through a single adapter (which additionally re-initializes the engine on every style switch), each caller borrows an
+ * adapter for its (style, format) pair and returns it afterwards. Concurrent callers get separate adapters.
+ * <p>
+ * Idle adapters are kept up to a fixed bound. If the bound is exceeded, an adapter of the least recently used
+ * (style, format) pair is dropped.
+ */
+public class CSLAdapterPool {
+
+    public static final int DEFAULT_MAX_IDLE_ADAPTERS = 8;
+
+    @FunctionalInterface
+    public interface AdapterCall<T> {
+        T apply(CSLAdapter adapter) throws IOException;
+    }
+
+    private record Key(String style, CitationStyleOutputFormat format) {
+    }
+
+    private final int maxIdleAdapters;
+
+    // access order: the first key is the least recently used one
+    private final LinkedHashMap<Key, Deque<CSLAdapter>> idleAdapters = new LinkedHashMap<>(16, 0.75f, true);
+    private int idleCount = 0;
+
+    public CSLAdapterPool() {
+        this(DEFAULT_MAX_IDLE_ADAPTERS);
+    }
+
+    public CSLAdapterPool(int maxIdleAdapters) {
+        if (maxIdleAdapters < 1) {
+            throw new IllegalArgumentException("At least one idle adapter has to be allowed");
+        }
+        this.maxIdleAdapters = maxIdleAdapters;
+    }
+
+    /**
+     * Runs the given call with an adapter for the given style and format. The adapter is exclusively used by the
+     * calling thread for the duration of the call.
+     */
+    public <T> T withAdapter(String style, CitationStyleOutputFormat outputFormat, AdapterCall<T> call) throws IOException {
+        Key key = new Key(Objects.requireNonNull(style), Objects.requireNonNull(outputFormat));
+        CSLAdapter adapter = borrow(key);
+        try {
+            return call.apply(adapter);
+        } finally {
+            release(key, adapter);
+        }
+    }
+
+    private synchronized CSLAdapter borrow(Key key) {
+        Deque<CSLAdapter> adapters = idleAdapters.get(key);
+        if (adapters == null || adapters.isEmpty()) {
+            return new CSLAdapter();
+        }
+        idleCount--;
+        CSLAdapter adapter = adapters.pop();
+        if (adapters.isEmpty()) {
+            idleAdapters.remove(key);
+        }
+        return adapter;
+    }
+
+    private synchronized void release(Key key, CSLAdapter adapter) {
+        idleAdapters.computeIfAbsent(key, k -> new ArrayDeque<>()).push(adapter);
+        idleCount++;
+        evictIfNeeded();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, Deque<CSLAdapter>>> iterator = idleAdapters.entrySet().iterator();
+        while (idleCount > maxIdleAdapters && iterator.hasNext()) {
+            Deque<CSLAdapter> adapters = iterator.next().getValue();
+            adapters.removeLast();
+            idleCount--;
+            if (adapters.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleCount() {
+        return idleCount;
+    }
+
+    @VisibleForTesting
+    synchronized int getIdleCount(String style, CitationStyleOutputFormat outputFormat) {
+        Deque<CSLAdapter> adapters = idleAdapters.get(new Key(style, outputFormat));
+        return adapters == null ? 0 : adapters.size();
+    }
+}
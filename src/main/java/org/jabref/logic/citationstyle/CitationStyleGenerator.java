@@ -1,10 +1,15 @@
 package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -16,12 +21,18 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses {@link CSLAdapter}s borrowed from a {@link CSLAdapterPool} to create output,
+ * so that calls for different styles (or concurrent calls for the same style) do not block each other.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool();
+
+    /**
+     * Below this number of entries, rendering per entry is done on the calling thread
+     */
+    private static final int MIN_ENTRIES_PER_CHUNK = 16;
 
     private CitationStyleGenerator() {
     }
@@ -54,7 +65,8 @@ public class CitationStyleGenerator {
     }
 
     public static Citation generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) throws IOException {
-        return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        return CSL_ADAPTER_POOL.withAdapter(style, outputFormat,
+                adapter -> adapter.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
     }
 
     /**
@@ -64,7 +76,8 @@ public class CitationStyleGenerator {
      */
     public static List<String> generateBibliographies(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            return CSL_ADAPTER_POOL.withAdapter(style, outputFormat,
+                    adapter -> adapter.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", e);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
@@ -81,4 +94,51 @@ public class CitationStyleGenerator {
                     e.getLocalizedMessage());
         }
     }
+
+    /**
+     * Generates the bibliography entry of each given entry on its own (as done for the preview). Large lists are split
+     * into chunks which are rendered concurrently, each with its own CSL engine. The result has the order of the
+     * given entries.
+     *
+     * @implNote The citations are generated using JavaScript which may take some time, better call it from outside the main thread.
+     */
+    public static List<String> generateBibliographyPerEntry(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        int chunkCount = Math.min(Runtime.getRuntime().availableProcessors(), bibEntries.size() / MIN_ENTRIES_PER_CHUNK);
+        if (chunkCount <= 1) {
+            return renderEachEntry(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+        }
+
+        int chunkSize = (bibEntries.size() + chunkCount - 1) / chunkCount;
+        List<List<BibEntry>> chunks = new ArrayList<>(chunkCount);
+        List<Callable<List<String>>> tasks = new ArrayList<>(chunkCount);
+        for (int start = 0; start < bibEntries.size(); start += chunkSize) {
+            List<BibEntry> chunk = bibEntries.subList(start, Math.min(start + chunkSize, bibEntries.size()));
+            chunks.add(chunk);
+            tasks.add(() -> renderEachEntry(chunk, style, outputFormat, databaseContext, entryTypesManager));
+        }
+
+        List<Future<List<String>>> futures = HeadlessExecutorService.INSTANCE.executeAll(tasks);
+        List<String> result = new ArrayList<>(bibEntries.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            // executeAll returns no futures if the calling thread was interrupted
+            if (i < futures.size()) {
+                try {
+                    result.addAll(futures.get(i).get());
+                    continue;
+                } catch (InterruptedException | ExecutionException e) {
+                    LOGGER.debug("Concurrent rendering failed, rendering chunk on the calling thread", e);
+                }
+            }
+            result.addAll(renderEachEntry(chunks.get(i), style, outputFormat, databaseContext, entryTypesManager));
+        }
+        return result;
+    }
+
+    private static List<String> renderEachEntry(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
+        List<String> result = new ArrayList<>(bibEntries.size());
+        for (BibEntry entry : bibEntries) {
+            result.add(generateBibliographies(List.of(entry), style, outputFormat, databaseContext, entryTypesManager).getFirst());
+        }
+        return result;
+    }
 }
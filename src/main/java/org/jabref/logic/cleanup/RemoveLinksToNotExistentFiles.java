@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.util.io.FileStatusCache;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -17,10 +18,16 @@ import org.jabref.model.util.OptionalUtil;
 public class RemoveLinksToNotExistentFiles implements CleanupJob {
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
+    private final FileStatusCache fileStatusCache;
 
     public RemoveLinksToNotExistentFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
+        this(databaseContext, filePreferences, FileStatusCache.getDefault());
+    }
+
+    public RemoveLinksToNotExistentFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences, FileStatusCache fileStatusCache) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
         this.filePreferences = Objects.requireNonNull(filePreferences);
+        this.fileStatusCache = Objects.requireNonNull(fileStatusCache);
     }
 
     @Override
@@ -28,11 +35,14 @@ public class RemoveLinksToNotExistentFiles implements CleanupJob {
         List<LinkedFile> files = entry.getFiles();
         List<LinkedFile> cleanedUpFiles = new ArrayList<>();
         boolean changed = false;
+        List<Path> directories = databaseContext.getFileDirectories(filePreferences);
         for (LinkedFile file : files) {
             if (file.isOnlineLink()) {
                 cleanedUpFiles.add(file);
             } else {
-                Optional<Path> oldFile = file.findIn(databaseContext, filePreferences);
+                // A file cached as missing might have been added in the meantime, thus its link is removed only if it is still missing
+                Optional<Path> oldFile = file.findIn(directories, fileStatusCache::exists)
+                                             .or(() -> file.findIn(directories, path -> fileStatusCache.refresh(path).exists()));
 
                 if (oldFile.isEmpty()) {
                     changed = true;
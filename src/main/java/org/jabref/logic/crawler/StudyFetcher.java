@@ -1,35 +1,37 @@
 package org.jabref.logic.crawler;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 
-import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetchEngine;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.database.BibDatabase;
-import org.jabref.model.entry.BibEntry;
 import org.jabref.model.study.FetchResult;
 import org.jabref.model.study.QueryResult;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
  */
 class StudyFetcher {
-    private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
     private static final int MAX_AMOUNT_OF_RESULTS_PER_FETCHER = 100;
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final FetchEngine fetchEngine;
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, FetchEngine.INSTANCE);
+    }
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, FetchEngine fetchEngine) throws IllegalArgumentException {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.fetchEngine = fetchEngine;
     }
 
     /**
@@ -38,43 +40,46 @@ class StudyFetcher {
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+        return crawl(FetchEngine.NO_DEADLINE);
+    }
+
+    /**
+     * Crawls like {@link #crawl()}, but cancels all requests not finished until the given deadline.
+     * The libraries not answering in time are missing from the result.
+     */
+    public List<QueryResult> crawl(Instant deadline) {
+        // Start the requests for all queries on all catalogs at once, the fetch engine applies the limits per catalog
+        Map<String, List<FetchEngine.PendingSearch>> searchesByQuery = new LinkedHashMap<>();
+        for (String searchQuery : searchQueries) {
+            searchesByQuery.put(searchQuery, activeFetchers.stream()
+                                                           .map(fetcher -> startSearch(searchQuery, fetcher))
+                                                           .toList());
+        }
+
+        List<QueryResult> results = new ArrayList<>();
+        searchesByQuery.forEach((searchQuery, searches) -> results.add(new QueryResult(searchQuery, awaitSearches(searches, deadline))));
+        return results;
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    private FetchEngine.PendingSearch startSearch(String searchQuery, SearchBasedFetcher fetcher) {
+        if (fetcher instanceof PagedSearchBasedFetcher pagedFetcher) {
+            int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / pagedFetcher.getPageSize());
+            return fetchEngine.startPagedSearch(pagedFetcher, page -> pagedFetcher.performSearchPaged(searchQuery, page).getContent(), pages);
+        }
+        return fetchEngine.startSearch(fetcher, () -> fetcher.performSearch(searchQuery));
     }
 
     /**
-     * Queries all catalogs on the given searchQuery.
+     * Collects the results of all catalogs for one query.
      *
-     * @param searchQuery The query the search is performed for.
      * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
-    }
-
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
-        try {
-            List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
-                int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
-                for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(basedFetcher.performSearchPaged(searchQuery, page).getContent());
-                }
-            } else {
-                fetchResult = fetcher.performSearch(searchQuery);
-            }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
-        } catch (FetcherException e) {
-            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
-            return null;
+    private List<FetchResult> awaitSearches(List<FetchEngine.PendingSearch> searches, Instant deadline) {
+        List<FetchResult> fetchResults = new ArrayList<>();
+        for (FetchEngine.PendingSearch search : searches) {
+            fetchEngine.await(search, deadline)
+                       .ifPresent(entries -> fetchResults.add(new FetchResult(search.fetcher().getName(), new BibDatabase(entries))));
         }
+        return fetchResults;
     }
 }
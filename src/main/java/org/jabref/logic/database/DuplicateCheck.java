@@ -362,9 +362,10 @@ public class DuplicateCheck {
     }
 
     /**
-     * Goes through all entries in the given database, and if at least one of
+     * Goes through the entries in the given database, and if at least one of
      * them is a duplicate of the given entry, as per
-     * Util.isDuplicate(BibEntry, BibEntry), the duplicate is returned.
+     * {@link #isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}, the duplicate is returned.
+     * Only the candidates of the {@link org.jabref.model.database.DuplicateCandidateIndex} of the database are compared.
      * The search is terminated when the first duplicate is found.
      *
      * @param database The database to search.
@@ -375,6 +376,10 @@ public class DuplicateCheck {
                                                 final BibEntry entry,
                                                 final BibDatabaseMode bibDatabaseMode) {
 
-        return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
+        return database.getDuplicateCandidateIndex()
+                       .getCandidates(entry)
+                       .stream()
+                       .filter(other -> isDuplicate(entry, other, bibDatabaseMode))
+                       .findFirst();
     }
 }
@@ -7,6 +7,7 @@ import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -103,62 +104,85 @@ public class EmbeddedBibFilePdfExporter extends Exporter {
         // See https://issues.apache.org/jira/browse/PDFBOX-4028
         Path newFile = Files.createTempFile("JabRef", "pdf");
         try (PDDocument document = Loader.loadPDF(path.toFile())) {
-            PDDocumentNameDictionary nameDictionary = document.getDocumentCatalog().getNames();
-            PDEmbeddedFilesNameTreeNode efTree;
-            Map<String, PDComplexFileSpecification> names;
+            embedBibTex(bibTeX, document, path);
+            document.save(newFile.toFile());
+            FileUtil.copyFile(newFile, path, true);
+        }
+        Files.delete(newFile);
+    }
 
-            if (nameDictionary == null) {
+    /**
+     * Embeds the given BibTeX string into an opened document. Changed objects are marked, so that the document can be
+     * saved using {@link PDDocument#saveIncremental(java.io.OutputStream)}.
+     *
+     * @param path the file the document was loaded from, used for error messages only
+     * @return whether the document was changed, i.e., false if the same BibTeX string was already embedded
+     */
+    boolean embedBibTex(String bibTeX, PDDocument document, Path path) throws IOException {
+        PDDocumentNameDictionary nameDictionary = document.getDocumentCatalog().getNames();
+        PDEmbeddedFilesNameTreeNode efTree;
+        Map<String, PDComplexFileSpecification> names;
+
+        if (nameDictionary == null) {
+            efTree = new PDEmbeddedFilesNameTreeNode();
+            names = new HashMap<>();
+            nameDictionary = new PDDocumentNameDictionary(document.getDocumentCatalog());
+            nameDictionary.setEmbeddedFiles(efTree);
+            document.getDocumentCatalog().setNames(nameDictionary);
+        } else {
+            efTree = nameDictionary.getEmbeddedFiles();
+            if (efTree == null) {
                 efTree = new PDEmbeddedFilesNameTreeNode();
-                names = new HashMap<>();
-                nameDictionary = new PDDocumentNameDictionary(document.getDocumentCatalog());
                 nameDictionary.setEmbeddedFiles(efTree);
-                document.getDocumentCatalog().setNames(nameDictionary);
-            } else {
-                efTree = nameDictionary.getEmbeddedFiles();
-                if (efTree == null) {
-                    efTree = new PDEmbeddedFilesNameTreeNode();
-                    nameDictionary.setEmbeddedFiles(efTree);
-                }
-                names = efTree.getNames();
-                if (names == null) {
-                    names = new HashMap<>();
-                    efTree.setNames(names);
-                }
             }
+            names = efTree.getNames();
+            if (names == null) {
+                names = new HashMap<>();
+                efTree.setNames(names);
+            }
+        }
 
-            PDComplexFileSpecification fileSpecification;
-            if (names.containsKey(EMBEDDED_FILE_NAME)) {
-                fileSpecification = names.get(EMBEDDED_FILE_NAME);
-            } else {
-                fileSpecification = new PDComplexFileSpecification();
+        byte[] bibTeXBytes = bibTeX.getBytes(StandardCharsets.UTF_8);
+        PDComplexFileSpecification fileSpecification;
+        if (names.containsKey(EMBEDDED_FILE_NAME)) {
+            fileSpecification = names.get(EMBEDDED_FILE_NAME);
+            PDEmbeddedFile existingFile = fileSpecification.getEmbeddedFile();
+            if ((existingFile != null) && Arrays.equals(existingFile.toByteArray(), bibTeXBytes)) {
+                return false;
             }
-            if (efTree != null) {
-                InputStream inputStream = new ByteArrayInputStream(bibTeX.getBytes(StandardCharsets.UTF_8));
-                fileSpecification.setFile(EMBEDDED_FILE_NAME);
-                PDEmbeddedFile embeddedFile = new PDEmbeddedFile(document, inputStream);
-                embeddedFile.setSubtype("text/x-bibtex");
-                embeddedFile.setSize(bibTeX.length());
-                fileSpecification.setEmbeddedFile(embeddedFile);
-
-                if (!names.containsKey(EMBEDDED_FILE_NAME)) {
-                    try {
-                        names.put(EMBEDDED_FILE_NAME, fileSpecification);
-                    } catch (UnsupportedOperationException e) {
-                        throw new IOException(Localization.lang("File '%0' is write protected.", path.toString()));
-                    }
-                }
+        } else {
+            fileSpecification = new PDComplexFileSpecification();
+        }
 
-                efTree.setNames(names);
-                nameDictionary.setEmbeddedFiles(efTree);
-                document.getDocumentCatalog().setNames(nameDictionary);
+        InputStream inputStream = new ByteArrayInputStream(bibTeXBytes);
+        fileSpecification.setFile(EMBEDDED_FILE_NAME);
+        PDEmbeddedFile embeddedFile = new PDEmbeddedFile(document, inputStream);
+        embeddedFile.setSubtype("text/x-bibtex");
+        embeddedFile.setSize(bibTeX.length());
+        fileSpecification.setEmbeddedFile(embeddedFile);
+
+        if (!names.containsKey(EMBEDDED_FILE_NAME)) {
+            try {
+                names.put(EMBEDDED_FILE_NAME, fileSpecification);
+            } catch (UnsupportedOperationException e) {
+                throw new IOException(Localization.lang("File '%0' is write protected.", path.toString()));
             }
-            document.save(newFile.toFile());
-            FileUtil.copyFile(newFile, path, true);
         }
-        Files.delete(newFile);
+
+        efTree.setNames(names);
+        nameDictionary.setEmbeddedFiles(efTree);
+        document.getDocumentCatalog().setNames(nameDictionary);
+
+        // Mark the path to the new stream for incremental saves
+        embeddedFile.getCOSObject().setNeedToBeUpdated(true);
+        fileSpecification.getCOSObject().setNeedToBeUpdated(true);
+        efTree.getCOSObject().setNeedToBeUpdated(true);
+        nameDictionary.getCOSObject().setNeedToBeUpdated(true);
+        document.getDocumentCatalog().getCOSObject().setNeedToBeUpdated(true);
+        return true;
     }
 
-    private String getBibString(List<BibEntry> entries) throws IOException {
+    String getBibString(List<BibEntry> entries) throws IOException {
         StringWriter stringWriter = new StringWriter();
         BibWriter bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
         FieldWriter fieldWriter = FieldWriter.buildIgnoreHashes(fieldPreferences);
@@ -1,6 +1,8 @@
 package org.jabref.logic.exporter;
 
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -11,12 +13,6 @@ import java.util.SequencedMap;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
@@ -119,35 +115,43 @@ public class EndnoteXmlExporter extends Exporter {
         Element recordsElement = document.createElement("records");
         rootElement.appendChild(recordsElement);
 
-        for (BibEntry entry : entries) {
-            Element recordElement = document.createElement("record");
-            recordsElement.appendChild(recordElement);
-
-            mapEntryType(entry, document, recordElement);
-            createMetaInformationElements(databaseContext, document, recordElement);
-            mapAuthorAndEditor(entry, document, recordElement);
-            mapTitle(entry, document, recordElement);
-            mapJournalTitle(entry, document, recordElement);
-            mapKeywords(databaseContext.getDatabase(), entry, document, recordElement);
-            mapDates(entry, document, recordElement);
-            mapUrls(entry, document, recordElement);
-
-            for (Map.Entry<Field, String> fieldMapping : STANDARD_FIELD_MAPPING.entrySet()) {
-                Field field = fieldMapping.getKey();
-                String xmlElement = fieldMapping.getValue();
-
-                entry.getField(field).ifPresent(value -> {
-                    Element fieldElement = document.createElement(xmlElement);
-                    fieldElement.setTextContent(value);
-                    recordElement.appendChild(fieldElement);
-                });
-            }
+        // The records are not added to the document, but written one after another to keep the memory usage constant
+        try (Writer fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            IndentingXmlStreamWriter writer = new IndentingXmlStreamWriter(fileWriter, 2);
+            writer.writeXmlDeclaration(false);
+            writer.writeElement(rootElement, recordsElement, () -> {
+                for (BibEntry entry : entries) {
+                    writer.writeElement(createRecordElement(databaseContext, entry, document));
+                }
+            });
+            writer.writeEndDocument();
+            writer.close();
         }
+    }
 
-        Transformer transformer = createTransformer();
-        DOMSource source = new DOMSource(document);
-        StreamResult result = new StreamResult(file.toFile());
-        transformer.transform(source, result);
+    private Element createRecordElement(BibDatabaseContext databaseContext, BibEntry entry, Document document) {
+        Element recordElement = document.createElement("record");
+
+        mapEntryType(entry, document, recordElement);
+        createMetaInformationElements(databaseContext, document, recordElement);
+        mapAuthorAndEditor(entry, document, recordElement);
+        mapTitle(entry, document, recordElement);
+        mapJournalTitle(entry, document, recordElement);
+        mapKeywords(databaseContext.getDatabase(), entry, document, recordElement);
+        mapDates(entry, document, recordElement);
+        mapUrls(entry, document, recordElement);
+
+        for (Map.Entry<Field, String> fieldMapping : STANDARD_FIELD_MAPPING.entrySet()) {
+            Field field = fieldMapping.getKey();
+            String xmlElement = fieldMapping.getValue();
+
+            entry.getField(field).ifPresent(value -> {
+                Element fieldElement = document.createElement(xmlElement);
+                fieldElement.setTextContent(value);
+                recordElement.appendChild(fieldElement);
+            });
+        }
+        return recordElement;
     }
 
     private static void mapTitle(BibEntry entry, Document document, Element recordElement) {
@@ -292,13 +296,4 @@ public class EndnoteXmlExporter extends Exporter {
         }
         contributorsElement.appendChild(container);
     }
-
-    private static Transformer createTransformer() throws TransformerConfigurationException {
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        Transformer transformer = transformerFactory.newTransformer();
-        transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-        return transformer;
-    }
 }
@@ -0,0 +1,338 @@
+package org.jabref.logic.exporter;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * An {@link XMLStreamWriter} writing the XML incrementally, formatted the same way as a
+ * {@link javax.xml.transform.Transformer} with enabled indentation does: each element starts on a new line, elements
+ * containing text only are kept on one line, and elements without content are written as empty elements.
+ * <p>
+ * In contrast to building the complete document before transforming it, the memory needed does not grow with the
+ * number of exported entries. Exporters creating DOM elements can build the elements of a single entry and hand them
+ * over to {@link #writeElement(Element)}.
+ */
+class IndentingXmlStreamWriter implements XMLStreamWriter {
+
+    @FunctionalInterface
+    interface ContentWriter {
+        void write() throws XMLStreamException;
+    }
+
+    @FunctionalInterface
+    private interface XmlAction {
+        void apply(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    /**
+     * A started element whose start tag is not written yet, because it may turn out to be empty
+     *
+     * @param closed whether the element has been written using {@code writeEmptyElement}
+     */
+    private record PendingElement(XmlAction start, XmlAction empty, List<XmlAction> attributes, boolean closed) {
+    }
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final XMLStreamWriter writer;
+    private final String indent;
+
+    private final BitSet hasChildElements = new BitSet();
+    private int depth;
+    private boolean hasOutput;
+    private PendingElement pendingElement;
+
+    IndentingXmlStreamWriter(Writer output, int indentAmount) throws XMLStreamException {
+        this.writer = OUTPUT_FACTORY.createXMLStreamWriter(output);
+        this.indent = " ".repeat(indentAmount);
+    }
+
+    /**
+     * Writes the XML declaration as written by a {@link javax.xml.transform.Transformer} using UTF-8
+     */
+    public void writeXmlDeclaration(boolean standalone) throws XMLStreamException {
+        writer.writeDTD("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"" + (standalone ? "yes" : "no") + "\"?>");
+        hasOutput = true;
+    }
+
+    /**
+     * Writes the given element including its attributes and all descendants
+     */
+    public void writeElement(Element element) throws XMLStreamException {
+        writeElement(element, null, null);
+    }
+
+    /**
+     * Writes the given element including its attributes and all descendants. After the children of the given
+     * {@code container} element, the content written by {@code contentWriter} is added.
+     */
+    public void writeElement(Element element, Element container, ContentWriter contentWriter) throws XMLStreamException {
+        writeStartElement(element.getTagName());
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr attribute = (Attr) attributes.item(i);
+            writeAttribute(attribute.getName(), attribute.getValue());
+        }
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            switch (child.getNodeType()) {
+                case Node.ELEMENT_NODE ->
+                        writeElement((Element) child, container, contentWriter);
+                case Node.TEXT_NODE ->
+                        writeCharacters(child.getNodeValue());
+                case Node.CDATA_SECTION_NODE ->
+                        writeCData(child.getNodeValue());
+                default -> {
+                    // comments and processing instructions are not used by the exporters
+                }
+            }
+        }
+        if (element == container) {
+            contentWriter.write();
+        }
+        writeEndElement();
+    }
+
+    private void startElement(XmlAction start, XmlAction empty, boolean closed) throws XMLStreamException {
+        writePendingElement();
+        if (depth > 0) {
+            hasChildElements.set(depth - 1);
+        }
+        if (hasOutput) {
+            writer.writeCharacters("\n" + indent.repeat(depth));
+        }
+        hasOutput = true;
+        if (!closed) {
+            hasChildElements.clear(depth);
+            depth++;
+        }
+        pendingElement = new PendingElement(start, empty, new ArrayList<>(), closed);
+    }
+
+    private void writePendingElement() throws XMLStreamException {
+        if (pendingElement != null) {
+            pendingElement.start().apply(writer);
+            for (XmlAction attribute : pendingElement.attributes()) {
+                attribute.apply(writer);
+            }
+            pendingElement = null;
+        }
+    }
+
+    private void addToStartTag(XmlAction action) throws XMLStreamException {
+        if (pendingElement != null) {
+            pendingElement.attributes().add(action);
+        } else {
+            action.apply(writer);
+        }
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        startElement(w -> w.writeStartElement(localName), w -> w.writeEmptyElement(localName), false);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        startElement(w -> w.writeStartElement(namespaceURI, localName), w -> w.writeEmptyElement(namespaceURI, localName), false);
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        startElement(w -> w.writeStartElement(prefix, localName, namespaceURI), w -> w.writeEmptyElement(prefix, localName, namespaceURI), false);
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        XmlAction empty = w -> w.writeEmptyElement(namespaceURI, localName);
+        startElement(empty, empty, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        XmlAction empty = w -> w.writeEmptyElement(prefix, localName, namespaceURI);
+        startElement(empty, empty, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        XmlAction empty = w -> w.writeEmptyElement(localName);
+        startElement(empty, empty, true);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        depth--;
+        if ((pendingElement != null) && !pendingElement.closed()) {
+            pendingElement.empty().apply(writer);
+            for (XmlAction attribute : pendingElement.attributes()) {
+                attribute.apply(writer);
+            }
+            pendingElement = null;
+            return;
+        }
+        writePendingElement();
+        if (hasChildElements.get(depth)) {
+            writer.writeCharacters("\n" + indent.repeat(depth));
+        }
+        writer.writeEndElement();
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (depth > 0) {
+            writeEndElement();
+        }
+        writePendingElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        writer.close();
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        writer.flush();
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        addToStartTag(w -> w.writeAttribute(localName, value));
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value) throws XMLStreamException {
+        addToStartTag(w -> w.writeAttribute(prefix, namespaceURI, localName, value));
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        addToStartTag(w -> w.writeAttribute(namespaceURI, localName, value));
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        addToStartTag(w -> w.writeNamespace(prefix, namespaceURI));
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        addToStartTag(w -> w.writeDefaultNamespace(namespaceURI));
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        writePendingElement();
+        writer.writeComment(data);
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        writePendingElement();
+        writer.writeProcessingInstruction(target);
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+        writePendingElement();
+        writer.writeProcessingInstruction(target, data);
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        writePendingElement();
+        writer.writeCData(data);
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        writer.writeDTD(dtd);
+        hasOutput = true;
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        writePendingElement();
+        writer.writeEntityRef(name);
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        writer.writeStartDocument();
+        hasOutput = true;
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        writer.writeStartDocument(version);
+        hasOutput = true;
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        writer.writeStartDocument(encoding, version);
+        hasOutput = true;
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        // A Transformer writes elements with empty text as empty elements
+        if (!text.isEmpty()) {
+            writePendingElement();
+            writer.writeCharacters(text);
+        }
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writeCharacters(new String(text, start, len));
+    }
+
+    @Override
+    public String getPrefix(String uri) throws XMLStreamException {
+        return writer.getPrefix(uri);
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) throws XMLStreamException {
+        writer.setPrefix(prefix, uri);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) throws XMLStreamException {
+        writer.setDefaultNamespace(uri);
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+        writer.setNamespaceContext(context);
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return writer.getNamespaceContext();
+    }
+
+    @Override
+    public Object getProperty(String name) throws IllegalArgumentException {
+        return writer.getProperty(name);
+    }
+}
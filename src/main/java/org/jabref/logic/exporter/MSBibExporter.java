@@ -6,13 +6,8 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.TransformerFactoryConfigurationError;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.msbib.MSBibDatabase;
 import org.jabref.logic.util.StandardFileType;
@@ -20,17 +15,16 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
 import org.jspecify.annotations.NonNull;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 /**
  * TemplateExporter for exporting in MSBIB XML format.
  */
 class MSBibExporter extends Exporter {
 
-    private final TransformerFactory transformerFactory;
-
     public MSBibExporter() {
         super("MSBib", "MS Office 2007", StandardFileType.XML);
-        transformerFactory = TransformerFactory.newInstance();
     }
 
     @Override
@@ -47,12 +41,20 @@ class MSBibExporter extends Exporter {
         // forcing to use UTF8 output format for some problems with XML export in other encodings
         try (AtomicFileWriter ps = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
             try {
-                DOMSource source = new DOMSource(msBibDatabase.getDomForExport());
-                StreamResult result = new StreamResult(ps);
-                Transformer trans = transformerFactory.newTransformer();
-                trans.setOutputProperty(OutputKeys.INDENT, "yes");
-                trans.transform(source, result);
-            } catch (TransformerException | IllegalArgumentException | TransformerFactoryConfigurationError e) {
+                // the entries are converted and written one by one instead of building the DOM of all entries first
+                Document document = msBibDatabase.newDocumentBuilder().newDocument();
+                Element rootNode = msBibDatabase.createRootElementForExport(document);
+
+                IndentingXmlStreamWriter writer = new IndentingXmlStreamWriter(ps, 4);
+                writer.writeXmlDeclaration(false);
+                writer.writeElement(rootNode, rootNode, () -> {
+                    for (Element entryNode : (Iterable<Element>) msBibDatabase.getEntryElementsForExport(document)::iterator) {
+                        writer.writeElement(entryNode);
+                    }
+                });
+                writer.writeEndDocument();
+                writer.close();
+            } catch (ParserConfigurationException | XMLStreamException e) {
                 throw new SaveException(e);
             }
         } catch (IOException ex) {
@@ -1,10 +1,9 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -14,15 +13,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 
-import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.stream.StreamResult;
-import javax.xml.transform.stream.StreamSource;
 
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
@@ -32,9 +24,6 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.EntryType;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * TemplateExporter for exporting in MODS XML format.
  */
@@ -45,8 +34,6 @@ class ModsExporter extends Exporter {
     private static final String DOUBLE_MINUS = "--";
     private static final String MODS_SCHEMA_LOCATION = "http://www.loc.gov/standards/mods/v3/mods-3-6.xsd";
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ModsExporter.class);
-
     public ModsExporter() {
         super("mods", "MODS", StandardFileType.XML);
     }
@@ -59,11 +46,8 @@ class ModsExporter extends Exporter {
             return;
         }
 
-        XMLStreamWriter writer = null;
-        try {
-            StringWriter sw = new StringWriter();
-            // writer is not an auto closable!
-            writer = createWriter(sw);
+        try (Writer fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            XMLStreamWriter writer = createWriter(fileWriter);
 
             for (BibEntry bibEntry : entries) {
                 if (bibEntry.getCitationKey().isPresent()) {
@@ -127,26 +111,17 @@ class ModsExporter extends Exporter {
                 writer.writeEndElement(); // end mods
             }
             writer.writeEndDocument();
-            writerFormatted(file, sw);
-        } catch (XMLStreamException | IOException | TransformerException ex) {
+            // writer is not an auto closable! Closing it does not close the file writer.
+            writer.close();
+        } catch (XMLStreamException | IOException ex) {
             throw new SaveException(ex);
-        } finally {
-            try {
-                if (writer != null) {
-                    writer.flush();
-                    writer.close();
-                }
-            } catch (XMLStreamException e) {
-                LOGGER.error("Error closing XML writer", e);
-            }
         }
     }
 
-    private XMLStreamWriter createWriter(StringWriter sw) throws XMLStreamException {
-        XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
-
-        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(new StreamResult(sw));
-        writer.writeDTD("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+    private XMLStreamWriter createWriter(Writer output) throws XMLStreamException {
+        // The entries are written directly to the file, indented as done by a Transformer before
+        IndentingXmlStreamWriter writer = new IndentingXmlStreamWriter(output, 4);
+        writer.writeXmlDeclaration(true);
         writer.writeStartElement("mods", "modsCollection", MODS_NAMESPACE_URI);
         writer.writeNamespace("mods", MODS_NAMESPACE_URI);
         writer.writeNamespace("ns2", "http://www.w3.org/1999/xlink");
@@ -155,17 +130,6 @@ class ModsExporter extends Exporter {
         return writer;
     }
 
-    private void writerFormatted(Path file, StringWriter sw) throws TransformerException, IOException {
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
-        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-        transformer.setOutputProperty(OutputKeys.STANDALONE, "yes");
-        transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-
-        try (OutputStream outputStream = Files.newOutputStream(file)) {
-            transformer.transform(new StreamSource(new StringReader(sw.toString())), new StreamResult(outputStream));
-        }
-    }
-
     private void writeOriginInformation(XMLStreamWriter writer, List<String> originItems, Map<Field, String> fieldMap) throws XMLStreamException {
         if (originItems.isEmpty()) {
             writer.writeEmptyElement("mods", "originInfo", MODS_NAMESPACE_URI);
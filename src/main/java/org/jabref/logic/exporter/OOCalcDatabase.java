@@ -1,11 +1,14 @@
 package org.jabref.logic.exporter;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.bibtex.comparator.FieldComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
@@ -55,18 +58,12 @@ class OOCalcDatabase {
         Document document = null;
         try {
             document = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().newDocument();
-            Element root = createRootElement(document);
-            Element body = document.createElement("office:body");
             Element table = createTableElement(document);
-
-            body.appendChild(table);
-            root.appendChild(body);
+            Element root = createRootElement(document, table);
             document.appendChild(root);
 
-            addTableHeader(table, document);
-
             for (BibEntry entry : entries) {
-                addEntryRow(entry, table, document);
+                table.appendChild(createEntryRow(entry, document));
             }
         } catch (Exception e) {
             LOGGER.warn("Exception caught...", e);
@@ -74,7 +71,26 @@ class OOCalcDatabase {
         return document;
     }
 
-    private void addEntryRow(BibEntry entry, Element table, Document document) {
+    /**
+     * Writes the same content as {@link #getDOMrepresentation()}, but creates the row of one entry at a time
+     */
+    public void writeTo(Writer output) throws ParserConfigurationException, XMLStreamException {
+        Document document = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().newDocument();
+        Element table = createTableElement(document);
+        Element root = createRootElement(document, table);
+
+        IndentingXmlStreamWriter writer = new IndentingXmlStreamWriter(output, 4);
+        writer.writeXmlDeclaration(false);
+        writer.writeElement(root, table, () -> {
+            for (BibEntry entry : entries) {
+                writer.writeElement(createEntryRow(entry, document));
+            }
+        });
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    private Element createEntryRow(BibEntry entry, Document document) {
         final Element row = document.createElement("table:table-row");
 
         addTableCell(document, row, new GetOpenOfficeType().format(entry.getType().getName()));
@@ -86,17 +102,18 @@ class OOCalcDatabase {
             }
         });
 
-        table.appendChild(row);
+        return row;
     }
 
     private Element createTableElement(Document document) {
         Element table = document.createElement("table:table");
         table.setAttribute("table:name", "biblio");
         table.setAttribute("table.style-name", "ta1");
+        addTableHeader(table, document);
         return table;
     }
 
-    private Element createRootElement(Document document) {
+    private Element createRootElement(Document document, Element table) {
         Element root = document.createElement("office:document-content");
         root.setAttribute("xmlns:office", "http://openoffice.org/2000/office");
         root.setAttribute("xmlns:style", "http://openoffice.org/2000/style");
@@ -128,6 +145,10 @@ class OOCalcDatabase {
         el.appendChild(el2);
         root.appendChild(el);
 
+        Element body = document.createElement("office:body");
+        body.appendChild(table);
+        root.appendChild(body);
+
         return root;
     }
 
@@ -1,10 +1,13 @@
 package org.jabref.logic.exporter;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.jabref.logic.bibtex.comparator.FieldComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
@@ -59,143 +62,174 @@ class OpenDocumentRepresentation {
         try {
             DocumentBuilder dbuild = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
             result = dbuild.newDocument();
-            Element collection = result.createElement("office:document-content");
-            // collection.setAttribute("xmlns", "http://openoffice.org/2000/office");
-            collection.setAttribute("xmlns:office", "urn:oasis:names:tc:opendocument:xmlns:office:1.0");
-            collection.setAttribute("xmlns:style", "urn:oasis:names:tc:opendocument:xmlns:style:1.0");
-            collection.setAttribute("xmlns:text", "urn:oasis:names:tc:opendocument:xmlns:text:1.0");
-            collection.setAttribute("xmlns:table", "urn:oasis:names:tc:opendocument:xmlns:table:1.0");
-            collection.setAttribute("xmlns:meta", "urn:oasis:names:tc:opendocument:xmlns:meta:1.0");
-            collection.setAttribute("office:version", "1.0");
-            collection.setAttribute("xmlns:fo", "urn:oasis:names:tc:opendocument:xmlns:xsl-fo-compatible:1.0");
-            collection.setAttribute("xmlns:xlink", "http://www.w3.org/1999/xlink");
-            Element el = result.createElement("office:scripts");
-            collection.appendChild(el);
-
-            el = result.createElement("office:automatic-styles");
-            Element el2 = result.createElement("style:style");
-            el2.setAttribute("style:name", "ro1");
-            el2.setAttribute("style:family", "table-row");
-            Element el3 = result.createElement("style.table-row-properties");
-            el3.setAttribute("style:row-height", "0.1681inch");
-            el3.setAttribute("fo:break-before", "auto");
-            el3.setAttribute("style:use-optimal-row-height", "true");
-            el2.appendChild(el3);
-            el.appendChild(el2);
-            el2 = result.createElement("style:style");
-            el2.setAttribute("style:name", "ta1");
-            el2.setAttribute("style:family", "table");
-            el2.setAttribute("style:master-page-name", "Default");
-            el3 = result.createElement("style:properties");
-            el3.setAttribute("table:display", "true");
-            el2.appendChild(el3);
-            el.appendChild(el2);
-            collection.appendChild(el);
-
-            Element body = result.createElement("office:body");
-            Element spreadsheet = result.createElement("office:spreadsheet");
-            Element table = result.createElement("table:table");
-            table.setAttribute("table:name", "biblio");
-            table.setAttribute("table.style-name", "ta1");
-
-            Element row = result.createElement("table:table-row");
-            row.setAttribute("table.style-name", "ro1");
-            addTableCell(result, row, "Identifier");
-            addTableCell(result, row, "Type");
-            addTableCell(result, row, "Address");
-            addTableCell(result, row, "Assignee");
-            addTableCell(result, row, "Annote");
-            addTableCell(result, row, "Author");
-            addTableCell(result, row, "Booktitle");
-            addTableCell(result, row, "Chapter");
-            addTableCell(result, row, "Day");
-            addTableCell(result, row, "Dayfiled");
-            addTableCell(result, row, "Edition");
-            addTableCell(result, row, "Editor");
-            addTableCell(result, row, "Howpublish");
-            addTableCell(result, row, "Institution");
-            addTableCell(result, row, "Journal");
-            addTableCell(result, row, "Language");
-            addTableCell(result, row, "Month");
-            addTableCell(result, row, "Monthfiled");
-            addTableCell(result, row, "Nationality");
-            addTableCell(result, row, "Note");
-            addTableCell(result, row, "Number");
-            addTableCell(result, row, "Organization");
-            addTableCell(result, row, "Pages");
-            addTableCell(result, row, "Publisher");
-            addTableCell(result, row, "Revision");
-            addTableCell(result, row, "School");
-            addTableCell(result, row, "Series");
-            addTableCell(result, row, "Title");
-            addTableCell(result, row, "RepType");
-            addTableCell(result, row, "Volume");
-            addTableCell(result, row, "Year");
-            addTableCell(result, row, "Yearfiled");
-            addTableCell(result, row, "URL");
-            addTableCell(result, row, "Custom1");
-            addTableCell(result, row, "Custom2");
-            addTableCell(result, row, "Custom3");
-            addTableCell(result, row, "Custom4");
-            addTableCell(result, row, "Custom5");
-            addTableCell(result, row, "ISBN");
-            table.appendChild(row);
+            Element table = createTableElement(result);
+            result.appendChild(createRootElement(result, table));
 
             for (BibEntry e : entries) {
-                row = result.createElement("table:table-row");
-                addTableCell(result, row, getField(e, InternalField.KEY_FIELD));
-                addTableCell(result, row, new GetOpenOfficeType().format(e.getType().getName()));
-                addTableCell(result, row, getField(e, StandardField.ADDRESS));
-                addTableCell(result, row, getField(e, StandardField.ASSIGNEE));
-                addTableCell(result, row, getField(e, StandardField.ANNOTE));
-                addTableCell(result, row, getField(e, StandardField.AUTHOR)); // new AuthorLastFirst().format(getField(e, StandardField.AUTHOR_FIELD)));
-                addTableCell(result, row, getField(e, StandardField.BOOKTITLE));
-                addTableCell(result, row, getField(e, StandardField.CHAPTER));
-                addTableCell(result, row, getField(e, StandardField.DAY));
-                addTableCell(result, row, getField(e, StandardField.DAYFILED));
-                addTableCell(result, row, getField(e, StandardField.EDITION));
-                addTableCell(result, row, getField(e, StandardField.EDITOR)); // new AuthorLastFirst().format(getField(e, StandardField.EDITOR_FIELD)));
-                addTableCell(result, row, getField(e, StandardField.HOWPUBLISHED));
-                addTableCell(result, row, getField(e, StandardField.INSTITUTION));
-                addTableCell(result, row, getField(e, StandardField.JOURNAL));
-                addTableCell(result, row, getField(e, StandardField.LANGUAGE));
-                addTableCell(result, row, getField(e, StandardField.MONTH));
-                addTableCell(result, row, getField(e, StandardField.MONTHFILED));
-                addTableCell(result, row, getField(e, StandardField.NATIONALITY));
-                addTableCell(result, row, getField(e, StandardField.NOTE));
-                addTableCell(result, row, getField(e, StandardField.NUMBER));
-                addTableCell(result, row, getField(e, StandardField.ORGANIZATION));
-                addTableCell(result, row, getField(e, StandardField.PAGES));
-                addTableCell(result, row, getField(e, StandardField.PUBLISHER));
-                addTableCell(result, row, getField(e, StandardField.REVISION));
-                addTableCell(result, row, getField(e, StandardField.SCHOOL));
-                addTableCell(result, row, getField(e, StandardField.SERIES));
-                addTableCell(result, row, new RemoveWhitespace().format(new RemoveBrackets().format(getField(e, StandardField.TITLE))));
-                addTableCell(result, row, getField(e, new UnknownField("reporttype")));
-                addTableCell(result, row, getField(e, StandardField.VOLUME));
-                addTableCell(result, row, getField(e, StandardField.YEAR));
-                addTableCell(result, row, getField(e, StandardField.YEARFILED));
-                addTableCell(result, row, getField(e, StandardField.URL));
-                addTableCell(result, row, "");
-                addTableCell(result, row, "");
-                addTableCell(result, row, "");
-                addTableCell(result, row, "");
-                addTableCell(result, row, "");
-                addTableCell(result, row, getField(e, StandardField.ISBN));
-                table.appendChild(row);
+                table.appendChild(createEntryRow(e, result));
             }
-
-            spreadsheet.appendChild(table);
-            body.appendChild(spreadsheet);
-            collection.appendChild(body);
-
-            result.appendChild(collection);
         } catch (Exception e) {
             LOGGER.warn("Exception caught...", e);
         }
         return result;
     }
 
+    /**
+     * Writes the same content as {@link #getDOMrepresentation()}, but creates the row of one entry at a time
+     */
+    public void writeTo(Writer output) throws ParserConfigurationException, XMLStreamException {
+        Document document = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder().newDocument();
+        Element table = createTableElement(document);
+        Element root = createRootElement(document, table);
+
+        IndentingXmlStreamWriter writer = new IndentingXmlStreamWriter(output, 4);
+        writer.writeXmlDeclaration(false);
+        writer.writeElement(root, table, () -> {
+            for (BibEntry e : entries) {
+                writer.writeElement(createEntryRow(e, document));
+            }
+        });
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    private Element createRootElement(Document document, Element table) {
+        Element collection = document.createElement("office:document-content");
+        // collection.setAttribute("xmlns", "http://openoffice.org/2000/office");
+        collection.setAttribute("xmlns:office", "urn:oasis:names:tc:opendocument:xmlns:office:1.0");
+        collection.setAttribute("xmlns:style", "urn:oasis:names:tc:opendocument:xmlns:style:1.0");
+        collection.setAttribute("xmlns:text", "urn:oasis:names:tc:opendocument:xmlns:text:1.0");
+        collection.setAttribute("xmlns:table", "urn:oasis:names:tc:opendocument:xmlns:table:1.0");
+        collection.setAttribute("xmlns:meta", "urn:oasis:names:tc:opendocument:xmlns:meta:1.0");
+        collection.setAttribute("office:version", "1.0");
+        collection.setAttribute("xmlns:fo", "urn:oasis:names:tc:opendocument:xmlns:xsl-fo-compatible:1.0");
+        collection.setAttribute("xmlns:xlink", "http://www.w3.org/1999/xlink");
+        Element el = document.createElement("office:scripts");
+        collection.appendChild(el);
+
+        el = document.createElement("office:automatic-styles");
+        Element el2 = document.createElement("style:style");
+        el2.setAttribute("style:name", "ro1");
+        el2.setAttribute("style:family", "table-row");
+        Element el3 = document.createElement("style.table-row-properties");
+        el3.setAttribute("style:row-height", "0.1681inch");
+        el3.setAttribute("fo:break-before", "auto");
+        el3.setAttribute("style:use-optimal-row-height", "true");
+        el2.appendChild(el3);
+        el.appendChild(el2);
+        el2 = document.createElement("style:style");
+        el2.setAttribute("style:name", "ta1");
+        el2.setAttribute("style:family", "table");
+        el2.setAttribute("style:master-page-name", "Default");
+        el3 = document.createElement("style:properties");
+        el3.setAttribute("table:display", "true");
+        el2.appendChild(el3);
+        el.appendChild(el2);
+        collection.appendChild(el);
+
+        Element body = document.createElement("office:body");
+        Element spreadsheet = document.createElement("office:spreadsheet");
+        spreadsheet.appendChild(table);
+        body.appendChild(spreadsheet);
+        collection.appendChild(body);
+        return collection;
+    }
+
+    private Element createTableElement(Document document) {
+        Element table = document.createElement("table:table");
+        table.setAttribute("table:name", "biblio");
+        table.setAttribute("table.style-name", "ta1");
+
+        Element row = document.createElement("table:table-row");
+        row.setAttribute("table.style-name", "ro1");
+        addTableCell(document, row, "Identifier");
+        addTableCell(document, row, "Type");
+        addTableCell(document, row, "Address");
+        addTableCell(document, row, "Assignee");
+        addTableCell(document, row, "Annote");
+        addTableCell(document, row, "Author");
+        addTableCell(document, row, "Booktitle");
+        addTableCell(document, row, "Chapter");
+        addTableCell(document, row, "Day");
+        addTableCell(document, row, "Dayfiled");
+        addTableCell(document, row, "Edition");
+        addTableCell(document, row, "Editor");
+        addTableCell(document, row, "Howpublish");
+        addTableCell(document, row, "Institution");
+        addTableCell(document, row, "Journal");
+        addTableCell(document, row, "Language");
+        addTableCell(document, row, "Month");
+        addTableCell(document, row, "Monthfiled");
+        addTableCell(document, row, "Nationality");
+        addTableCell(document, row, "Note");
+        addTableCell(document, row, "Number");
+        addTableCell(document, row, "Organization");
+        addTableCell(document, row, "Pages");
+        addTableCell(document, row, "Publisher");
+        addTableCell(document, row, "Revision");
+        addTableCell(document, row, "School");
+        addTableCell(document, row, "Series");
+        addTableCell(document, row, "Title");
+        addTableCell(document, row, "RepType");
+        addTableCell(document, row, "Volume");
+        addTableCell(document, row, "Year");
+        addTableCell(document, row, "Yearfiled");
+        addTableCell(document, row, "URL");
+        addTableCell(document, row, "Custom1");
+        addTableCell(document, row, "Custom2");
+        addTableCell(document, row, "Custom3");
+        addTableCell(document, row, "Custom4");
+        addTableCell(document, row, "Custom5");
+        addTableCell(document, row, "ISBN");
+        table.appendChild(row);
+
+        return table;
+    }
+
+    private Element createEntryRow(BibEntry e, Document document) {
+        Element row = document.createElement("table:table-row");
+        addTableCell(document, row, getField(e, InternalField.KEY_FIELD));
+        addTableCell(document, row, new GetOpenOfficeType().format(e.getType().getName()));
+        addTableCell(document, row, getField(e, StandardField.ADDRESS));
+        addTableCell(document, row, getField(e, StandardField.ASSIGNEE));
+        addTableCell(document, row, getField(e, StandardField.ANNOTE));
+        addTableCell(document, row, getField(e, StandardField.AUTHOR)); // new AuthorLastFirst().format(getField(e, StandardField.AUTHOR_FIELD)));
+        addTableCell(document, row, getField(e, StandardField.BOOKTITLE));
+        addTableCell(document, row, getField(e, StandardField.CHAPTER));
+        addTableCell(document, row, getField(e, StandardField.DAY));
+        addTableCell(document, row, getField(e, StandardField.DAYFILED));
+        addTableCell(document, row, getField(e, StandardField.EDITION));
+        addTableCell(document, row, getField(e, StandardField.EDITOR)); // new AuthorLastFirst().format(getField(e, StandardField.EDITOR_FIELD)));
+        addTableCell(document, row, getField(e, StandardField.HOWPUBLISHED));
+        addTableCell(document, row, getField(e, StandardField.INSTITUTION));
+        addTableCell(document, row, getField(e, StandardField.JOURNAL));
+        addTableCell(document, row, getField(e, StandardField.LANGUAGE));
+        addTableCell(document, row, getField(e, StandardField.MONTH));
+        addTableCell(document, row, getField(e, StandardField.MONTHFILED));
+        addTableCell(document, row, getField(e, StandardField.NATIONALITY));
+        addTableCell(document, row, getField(e, StandardField.NOTE));
+        addTableCell(document, row, getField(e, StandardField.NUMBER));
+        addTableCell(document, row, getField(e, StandardField.ORGANIZATION));
+        addTableCell(document, row, getField(e, StandardField.PAGES));
+        addTableCell(document, row, getField(e, StandardField.PUBLISHER));
+        addTableCell(document, row, getField(e, StandardField.REVISION));
+        addTableCell(document, row, getField(e, StandardField.SCHOOL));
+        addTableCell(document, row, getField(e, StandardField.SERIES));
+        addTableCell(document, row, new RemoveWhitespace().format(new RemoveBrackets().format(getField(e, StandardField.TITLE))));
+        addTableCell(document, row, getField(e, new UnknownField("reporttype")));
+        addTableCell(document, row, getField(e, StandardField.VOLUME));
+        addTableCell(document, row, getField(e, StandardField.YEAR));
+        addTableCell(document, row, getField(e, StandardField.YEARFILED));
+        addTableCell(document, row, getField(e, StandardField.URL));
+        addTableCell(document, row, "");
+        addTableCell(document, row, "");
+        addTableCell(document, row, "");
+        addTableCell(document, row, "");
+        addTableCell(document, row, "");
+        addTableCell(document, row, getField(e, StandardField.ISBN));
+        return row;
+    }
+
     private String getField(BibEntry e, Field field) {
         return e.getResolvedFieldOrAlias(field, database).orElse("");
     }
@@ -0,0 +1,186 @@
+package org.jabref.logic.exporter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilWriter;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.LinkedFile;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the metadata of entries to many existing PDF files.
+ * <p>
+ * In contrast to {@link XmpPdfExporter} and {@link EmbeddedBibFilePdfExporter}, each file is loaded only once: the
+ * document information, the XMP metadata, and the embedded BibTeX file are updated together and stored using a single
+ * incremental save, which appends the changed objects only. Files already containing the metadata are not written at
+ * all. Files are processed in parallel. Each worker holds at most one document, whose streams are cached in temporary
+ * files instead of main memory.
+ */
+public class PdfMetadataBatchWriter {
+
+    public enum Result {
+        WRITTEN,
+        UP_TO_DATE,
+        FAILED
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfMetadataBatchWriter.class);
+
+    private final XmpUtilWriter xmpUtilWriter;
+    private final EmbeddedBibFilePdfExporter embeddedBibFilePdfExporter;
+    private final boolean writeXmp;
+    private final boolean embedBibFile;
+    private final int parallelism;
+
+    public PdfMetadataBatchWriter(XmpPreferences xmpPreferences,
+                                  BibDatabaseMode bibDatabaseMode,
+                                  BibEntryTypesManager bibEntryTypesManager,
+                                  FieldPreferences fieldPreferences,
+                                  boolean writeXmp,
+                                  boolean embedBibFile) {
+        this(xmpPreferences, bibDatabaseMode, bibEntryTypesManager, fieldPreferences, writeXmp, embedBibFile, Runtime.getRuntime().availableProcessors());
+    }
+
+    public PdfMetadataBatchWriter(XmpPreferences xmpPreferences,
+                                  BibDatabaseMode bibDatabaseMode,
+                                  BibEntryTypesManager bibEntryTypesManager,
+                                  FieldPreferences fieldPreferences,
+                                  boolean writeXmp,
+                                  boolean embedBibFile,
+                                  int parallelism) {
+        this.xmpUtilWriter = new XmpUtilWriter(xmpPreferences);
+        this.embeddedBibFilePdfExporter = new EmbeddedBibFilePdfExporter(bibDatabaseMode, bibEntryTypesManager, fieldPreferences);
+        this.writeXmp = writeXmp;
+        this.embedBibFile = embedBibFile;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Collects the existing PDF files linked to the given entries.
+     *
+     * @return the entries linking to a file by the real path of the file, in the order of the given entries
+     */
+    public static Map<Path, List<BibEntry>> getLinkedPdfs(BibDatabaseContext databaseContext,
+                                                          List<BibEntry> entries,
+                                                          FilePreferences filePreferences) {
+        List<Path> fileDirectories = databaseContext.getFileDirectories(filePreferences);
+        Map<Path, List<BibEntry>> entriesByFile = new LinkedHashMap<>();
+        for (BibEntry entry : entries) {
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                if (!linkedFile.getFileType().equals(StandardFileType.PDF.getName())) {
+                    continue;
+                }
+                Optional<Path> path = linkedFile.findIn(fileDirectories);
+                if (path.isEmpty() || !Files.exists(path.get())) {
+                    continue;
+                }
+                try {
+                    List<BibEntry> linkingEntries = entriesByFile.computeIfAbsent(path.get().toRealPath(), file -> new ArrayList<>());
+                    if (!linkingEntries.contains(entry)) {
+                        linkingEntries.add(entry);
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("Could not resolve {}", path.get(), e);
+                }
+            }
+        }
+        return entriesByFile;
+    }
+
+    /**
+     * Writes the given entries to the respective files. If a file is linked by several entries, all of them are written
+     * to the XMP metadata and to the embedded BibTeX file, and the document information is filled by the first one.
+     *
+     * @return the result for each file, in the order of the given map
+     */
+    public Map<Path, Result> write(BibDatabaseContext databaseContext, Map<Path, List<BibEntry>> entriesByFile) throws InterruptedException {
+        Map<Path, Future<Result>> futures = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            entriesByFile.forEach((file, entries) -> futures.put(file, executor.submit(() -> write(databaseContext, file, entries))));
+
+            Map<Path, Result> results = new LinkedHashMap<>();
+            for (Map.Entry<Path, Future<Result>> future : futures.entrySet()) {
+                try {
+                    results.put(future.getKey(), future.getValue().get());
+                } catch (ExecutionException e) {
+                    LOGGER.error("Could not write metadata to {}", future.getKey(), e.getCause());
+                    results.put(future.getKey(), Result.FAILED);
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result write(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) {
+        if (!FileUtil.isPDFFile(file)) {
+            LOGGER.warn("Skipped {}, because it is not a PDF file", file);
+            return Result.FAILED;
+        }
+
+        Path newFile = null;
+        try {
+            // Read from another file
+            // Reason: Apache PDFBox does not support writing while the file is opened
+            // See https://issues.apache.org/jira/browse/PDFBOX-4028
+            try (PDDocument document = Loader.loadPDF(file.toFile(), null, null, null, IOUtils.createTempFileOnlyStreamCache())) {
+                boolean changed = false;
+                if (writeXmp) {
+                    changed = xmpUtilWriter.writeXmp(document, entries, databaseContext.getDatabase());
+                }
+                if (embedBibFile) {
+                    changed |= embeddedBibFilePdfExporter.embedBibTex(embeddedBibFilePdfExporter.getBibString(entries), document, file);
+                }
+                if (!changed) {
+                    LOGGER.debug("Metadata of {} is up to date", file);
+                    return Result.UP_TO_DATE;
+                }
+
+                newFile = Files.createTempFile("JabRef", "pdf");
+                try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(newFile))) {
+                    document.saveIncremental(outputStream);
+                }
+            }
+            return FileUtil.copyFile(newFile, file, true) ? Result.WRITTEN : Result.FAILED;
+        } catch (Exception e) {
+            LOGGER.error("Could not write metadata to {}", file, e);
+            return Result.FAILED;
+        } finally {
+            if (newFile != null) {
+                try {
+                    Files.deleteIfExists(newFile);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not delete temporary file {}", newFile, e);
+                }
+            }
+        }
+    }
+}
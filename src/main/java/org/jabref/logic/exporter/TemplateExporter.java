@@ -5,16 +5,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -24,7 +29,9 @@ import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
@@ -45,6 +52,7 @@ public class TemplateExporter extends Exporter {
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
+    private static final int ENTRIES_PER_CHUNK = 500;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
@@ -253,48 +261,29 @@ public class TemplateExporter extends Exporter {
                     LOGGER.warn("Missing formatters found: {}", missingFormatters);
                 }
             }
+            // Compile the type-specific layouts once, so that the entries can be rendered concurrently
             Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
-            for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+            for (EntryType type : sorted.stream().map(BibEntry::getType).distinct().toList()) {
+                try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    // We try to get a type-specific layout for this entry.
+                    layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                    Layout layout = layoutHelper.getLayoutFromText();
+                    layouts.put(type, layout);
+                    if (layout != null) {
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     }
+                } catch (IOException ex) {
+                    // The exception indicates that no type-specific layout
+                    // exists, so we
+                    // go with the default one.
+                    layouts.put(type, defLayout);
                 }
             }
 
+            Number.serialExportNumber = 0;
+            writeEntries(ps, sorted, Collections.unmodifiableMap(layouts), databaseContext.getDatabase());
+            Number.serialExportNumber = sorted.size();
+
             // Print footer
             Layout endLayout = null;
             try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
@@ -319,6 +308,70 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Writes the rendered entries in the given order. Large exports are split into chunks, which are rendered
+     * concurrently. To limit the memory needed, at most two chunks per processor are rendered ahead of the writer.
+     * Layouts using groups keep the current group between entries, thus they are rendered sequentially.
+     */
+    private void writeEntries(Writer writer, List<BibEntry> sorted, Map<EntryType, Layout> layouts, BibDatabase database)
+            throws IOException, InterruptedException, ExecutionException {
+        if ((sorted.size() <= ENTRIES_PER_CHUNK) || layouts.values().stream().anyMatch(Layout::usesGroups)) {
+            writer.write(renderEntries(sorted, 0, layouts, database));
+            return;
+        }
+
+        int maxPendingChunks = 2 * Runtime.getRuntime().availableProcessors();
+        Deque<Future<String>> pendingChunks = new ArrayDeque<>(maxPendingChunks);
+        try {
+            for (int start = 0; start < sorted.size(); start += ENTRIES_PER_CHUNK) {
+                List<BibEntry> chunk = sorted.subList(start, Math.min(start + ENTRIES_PER_CHUNK, sorted.size()));
+                int entriesBefore = start;
+                pendingChunks.add(HeadlessExecutorService.INSTANCE.execute(() -> renderEntries(chunk, entriesBefore, layouts, database)));
+                if (pendingChunks.size() >= maxPendingChunks) {
+                    writer.write(pendingChunks.poll().get());
+                }
+            }
+            while (!pendingChunks.isEmpty()) {
+                writer.write(pendingChunks.poll().get());
+            }
+        } finally {
+            // only non-empty if writing failed
+            pendingChunks.forEach(chunk -> chunk.cancel(true));
+        }
+    }
+
+    /**
+     * @param entriesBefore the number of entries exported before the given ones, used for {@link Number}
+     */
+    private String renderEntries(List<BibEntry> entries, int entriesBefore, Map<EntryType, Layout> layouts, BibDatabase database) {
+        StringBuilder result = new StringBuilder();
+        try {
+            int entryNumber = entriesBefore;
+            for (BibEntry entry : entries) {
+                entryNumber++;
+                Number.setCurrentEntryNumber(entryNumber);
+                Layout layout = layouts.get(entry.getType());
+                if (layout == null) {
+                    continue;
+                }
+
+                if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                    String[] lines = layout.doLayout(entry, database).split(BLANK_LINE_PATTERN);
+                    for (String line : lines) {
+                        if (!line.isBlank() && !line.isEmpty()) {
+                            result.append(line).append(OS.NEWLINE);
+                        }
+                    }
+                } else {
+                    result.append(layout.doLayout(entry, database));
+                }
+            }
+        } finally {
+            Number.clearCurrentEntryNumber();
+        }
+        return result.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
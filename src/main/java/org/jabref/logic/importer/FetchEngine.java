@@ -0,0 +1,168 @@
+package org.jabref.logic.importer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs blocking fetcher requests on virtual threads instead of the common ForkJoin pool.
+ * <p>
+ * Requests are grouped by host. For each host, the number of concurrent requests and the number of requests per second
+ * (token bucket, see {@link RateLimiter}) are limited. The host of a fetcher is identified by its name, because the
+ * fetchers build their URLs internally and each catalog is served by one provider.
+ * <p>
+ * Paged fetchers get all requested pages in parallel (still within the limits of their host). Searches can be awaited
+ * with a deadline; requests which did not finish in time are cancelled.
+ */
+public class FetchEngine implements AutoCloseable {
+
+    public static final FetchEngine INSTANCE = new FetchEngine();
+
+    public static final Instant NO_DEADLINE = Instant.MAX;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FetchEngine.class);
+
+    public record HostLimit(int maxConcurrentRequests, double requestsPerSecond) {
+        public static final HostLimit DEFAULT = new HostLimit(2, 5.0);
+
+        public HostLimit {
+            if (maxConcurrentRequests < 1 || requestsPerSecond <= 0) {
+                throw new IllegalArgumentException("Limits have to be positive");
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Request<T> {
+        T execute() throws FetcherException;
+    }
+
+    @FunctionalInterface
+    public interface PageRequest {
+        Collection<BibEntry> fetchPage(int pageNumber) throws FetcherException;
+    }
+
+    /**
+     * A started search of one fetcher. The futures contain the result of each page in page order.
+     */
+    public record PendingSearch(WebFetcher fetcher, List<Future<Collection<BibEntry>>> pages) {
+    }
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, HostLimit> hostLimits;
+    private final HostLimit defaultLimit;
+    private final Map<String, Semaphore> concurrentRequests = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    public FetchEngine() {
+        this(Map.of(), HostLimit.DEFAULT);
+    }
+
+    /**
+     * @param hostLimits   limits for specific hosts
+     * @param defaultLimit limit for all other hosts
+     */
+    public FetchEngine(Map<String, HostLimit> hostLimits, HostLimit defaultLimit) {
+        this.hostLimits = Map.copyOf(hostLimits);
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * Submits a request to the given host. The request is executed as soon as the limits of the host allow it.
+     */
+    public <T> Future<T> submit(String host, Request<T> request) {
+        return executorService.submit(() -> {
+            HostLimit limit = hostLimits.getOrDefault(host, defaultLimit);
+            Semaphore semaphore = concurrentRequests.computeIfAbsent(host, key -> new Semaphore(limit.maxConcurrentRequests(), true));
+            semaphore.acquire();
+            try {
+                rateLimiters.computeIfAbsent(host, key -> RateLimiter.create(limit.requestsPerSecond())).acquire();
+                return request.execute();
+            } finally {
+                semaphore.release();
+            }
+        });
+    }
+
+    /**
+     * Starts a search consisting of a single request
+     */
+    public PendingSearch startSearch(WebFetcher fetcher, Request<? extends Collection<BibEntry>> request) {
+        return new PendingSearch(fetcher, List.of(this.<Collection<BibEntry>>submit(fetcher.getName(), request::execute)));
+    }
+
+    /**
+     * Starts a search requesting the pages {@code 0} to {@code numberOfPages - 1} concurrently
+     */
+    public PendingSearch startPagedSearch(PagedSearchBasedFetcher fetcher, PageRequest request, int numberOfPages) {
+        List<Future<Collection<BibEntry>>> pages = new ArrayList<>(numberOfPages);
+        for (int page = 0; page < numberOfPages; page++) {
+            int pageNumber = page;
+            pages.add(submit(fetcher.getName(), () -> request.fetchPage(pageNumber)));
+        }
+        return new PendingSearch(fetcher, pages);
+    }
+
+    /**
+     * Waits for all pages of the given search.
+     *
+     * @param deadline point in time after which the search is cancelled, {@link #NO_DEADLINE} to wait without limit
+     * @return the entries of all pages in page order, or an empty optional if any page failed, timed out or the waiting thread was interrupted
+     */
+    public Optional<List<BibEntry>> await(PendingSearch search, Instant deadline) {
+        List<BibEntry> result = new ArrayList<>();
+        try {
+            for (Future<Collection<BibEntry>> page : search.pages()) {
+                if (NO_DEADLINE.equals(deadline)) {
+                    result.addAll(page.get());
+                } else {
+                    long remainingMillis = Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+                    result.addAll(page.get(remainingMillis, TimeUnit.MILLISECONDS));
+                }
+            }
+            return Optional.of(result);
+        } catch (ExecutionException e) {
+            LOGGER.warn("%s API request failed".formatted(search.fetcher().getName()), e.getCause());
+        } catch (CancellationException e) {
+            LOGGER.debug("Search of {} was cancelled", search.fetcher().getName());
+        } catch (TimeoutException e) {
+            LOGGER.warn("%s API request did not finish in time".formatted(search.fetcher().getName()));
+        } catch (InterruptedException e) {
+            LOGGER.debug("Waiting for {} was interrupted", search.fetcher().getName());
+            Thread.currentThread().interrupt();
+        }
+        cancel(search);
+        return Optional.empty();
+    }
+
+    public void cancel(PendingSearch search) {
+        search.pages().forEach(page -> page.cancel(true));
+    }
+
+    /**
+     * Cancels all running requests. The engine cannot be used afterward.
+     */
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
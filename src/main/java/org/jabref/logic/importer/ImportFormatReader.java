@@ -41,6 +41,11 @@ public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    /**
+     * Number of import filters importing the complete input at first, if several of them are equally promising
+     */
+    private static final int MAX_FULL_IMPORTS = 2;
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -141,10 +146,9 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import a file by iterating through the available import filters,
-     * and keeping the import that seems most promising.
+     * Tries to import a file by choosing the most promising import filters, see {@link ImportFormatSniffer}.
      * <p/>
-     * This method first attempts to read this file as bibtex.
+     * If no import filter finds an entry, the file is read as bibtex.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
@@ -152,7 +156,13 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            ImportFormatSniffer.Sample sample;
+            try {
+                sample = ImportFormatSniffer.readSample(filePath);
+            } catch (IOException e) {
+                throw new ImportException(Localization.lang("Could not find a suitable import format."), e);
+            }
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(sample, importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -173,27 +183,70 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Tries to import entries using the import filters recognizing the sample of the input, and keeping the import that
+     * seems the most promising.
+     * <p>
+     * Importing the complete input is expensive for large files, thus the best ranked import filters (at most
+     * {@link #MAX_FULL_IMPORTS}) are tried first. Only if they do not find any entry, the other import filters
+     * recognizing the sample are tried, and finally the import filters recognizing the complete input (e.g., a format
+     * identified deeper in the input than the sample reaches).
      *
+     * @param sample             the beginning of the input
      * @param importDatabase     the function to import the entries with a formatter
-     * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
+     * @param isRecognizedFormat the function to check whether the complete input is in the correct format for an importer
      * @return an UnknownFormatImport with the imported entries and metadata
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+    private UnknownFormatImport importUnknownFormat(ImportFormatSniffer.Sample sample, CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+        List<ImportFormatSniffer.Candidate> candidates = new ImportFormatSniffer(formats).rank(sample);
+
+        List<Importer> bestImporters = candidates.stream()
+                                                 .filter(candidate -> candidate.isRankedEqually(candidates.getFirst()))
+                                                 .limit(MAX_FULL_IMPORTS)
+                                                 .map(ImportFormatSniffer.Candidate::importer)
+                                                 .toList();
+        Optional<UnknownFormatImport> result = importBestResult(bestImporters, importDatabase);
+        if (result.isPresent()) {
+            return result.get();
+        }
+
+        List<Importer> otherCandidates = candidates.stream()
+                                                   .map(ImportFormatSniffer.Candidate::importer)
+                                                   .filter(importer -> !bestImporters.contains(importer))
+                                                   .toList();
+        result = importBestResult(otherCandidates, importDatabase);
+        if (result.isPresent()) {
+            return result.get();
+        }
+
+        List<Importer> remainingImporters = new ArrayList<>();
+        for (Importer importer : formats) {
+            if (bestImporters.contains(importer) || otherCandidates.contains(importer)) {
+                continue;
+            }
+            try {
+                if (isRecognizedFormat.apply(importer)) {
+                    remainingImporters.add(importer);
+                }
+            } catch (IOException ex) {
+                // The check did not succeed. Go on.
+            }
+        }
+        return importBestResult(remainingImporters, importDatabase)
+                .orElseThrow(() -> new ImportException(Localization.lang("Could not find a suitable import format.")));
+    }
+
+    /**
+     * @return the import with the most entries, empty if no importer found an entry
+     */
+    private Optional<UnknownFormatImport> importBestResult(List<Importer> importers, CheckedFunction<Importer, ParserResult> importDatabase) {
         // stores ref to best result, gets updated at the next loop
         List<BibEntry> bestResult = null;
         int bestResultCount = 0;
         String bestFormatName = null;
 
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
+        for (Importer imFo : importers) {
             try {
-                if (!isRecognizedFormat.apply(imFo)) {
-                    continue;
-                }
-
                 ParserResult parserResult = importDatabase.apply(imFo);
                 List<BibEntry> entries = parserResult.getDatabase().getEntries();
 
@@ -213,10 +266,9 @@ public class ImportFormatReader {
         if (bestResult != null) {
             // we found something
             ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+            return Optional.of(new UnknownFormatImport(bestFormatName, parserResult));
         }
-
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+        return Optional.empty();
     }
 
     @FunctionalInterface
@@ -226,8 +278,7 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import a String by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Tries to import a String by choosing the most promising import filters, see {@link ImportFormatSniffer}.
      *
      * @param data the string to import
      * @return an UnknownFormatImport with the imported entries and metadata
@@ -236,6 +287,6 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        return importUnknownFormat(ImportFormatSniffer.sampleOf(data), importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
     }
 }
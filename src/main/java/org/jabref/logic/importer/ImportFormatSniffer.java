@@ -0,0 +1,114 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.util.io.FileUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ranks the importers for a file of unknown format, so that only the most promising ones import the complete file.
+ * <p>
+ * The beginning of the file is read once, and each importer checks it in memory using
+ * {@link Importer#isRecognizedFormat(String)}. Importers recognizing a signature of their format (e.g., the "TY  - "
+ * lines of RIS, the root element of an XML format, or the "%PDF" header) rank above importers accepting any input
+ * (e.g., Biblioscape). BibTeX accepts any input, too, but ranks as recognized if there is an "@" entry. Within each of
+ * these tiers, the importers for the extension of the file come first. The extension never lifts an importer above a
+ * higher tier.
+ */
+class ImportFormatSniffer {
+
+    /**
+     * Number of characters read from the beginning of a file. Large enough for the headers of XML formats and the first
+     * entries of line-based formats.
+     */
+    static final int SAMPLE_LENGTH = 64 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatSniffer.class);
+
+    private static final Pattern BIBTEX_ENTRY = Pattern.compile("^\\s*@\\w+\\s*[{(]", Pattern.MULTILINE);
+
+    /**
+     * @param text      the beginning of the input
+     * @param extension the extension of the file, if the input is a file
+     */
+    record Sample(String text, Optional<String> extension) {
+    }
+
+    /**
+     * @param recognized       the importer recognized a signature of its format, as opposed to accepting any input
+     * @param extensionMatches the importer is made for the extension of the file
+     */
+    record Candidate(Importer importer, boolean recognized, boolean extensionMatches) {
+        /**
+         * Orders the more promising candidates first
+         */
+        static final Comparator<Candidate> RANKING = Comparator.comparing(Candidate::recognized)
+                                                               .thenComparing(Candidate::extensionMatches)
+                                                               .reversed();
+
+        boolean isRankedEqually(Candidate other) {
+            return RANKING.compare(this, other) == 0;
+        }
+    }
+
+    private final List<Importer> importers;
+
+    ImportFormatSniffer(List<Importer> importers) {
+        this.importers = importers;
+    }
+
+    static Sample readSample(Path filePath) throws IOException {
+        char[] buffer = new char[SAMPLE_LENGTH];
+        int length = 0;
+        try (BufferedReader reader = Importer.getReader(filePath)) {
+            int read;
+            while ((length < SAMPLE_LENGTH) && ((read = reader.read(buffer, length, SAMPLE_LENGTH - length)) != -1)) {
+                length += read;
+            }
+        }
+        return new Sample(new String(buffer, 0, length), FileUtil.getFileExtension(filePath));
+    }
+
+    static Sample sampleOf(String data) {
+        return new Sample(data.substring(0, Math.min(data.length(), SAMPLE_LENGTH)), Optional.empty());
+    }
+
+    /**
+     * @return the importers recognizing the sample, the most promising first
+     */
+    List<Candidate> rank(Sample sample) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (Importer importer : importers) {
+            if (!isRecognizedFormat(importer, sample.text())) {
+                continue;
+            }
+
+            boolean recognized = !isRecognizedFormat(importer, "") || ((importer instanceof BibtexImporter) && BIBTEX_ENTRY.matcher(sample.text()).find());
+            boolean extensionMatches = sample.extension().isPresent() && importer.getFileType().getExtensions().stream().anyMatch(sample.extension().get()::equalsIgnoreCase);
+            candidates.add(new Candidate(importer, recognized, extensionMatches));
+        }
+        // The sort is stable, thus equally ranked importers keep their order
+        candidates.sort(Candidate.RANKING);
+        return candidates;
+    }
+
+    private static boolean isRecognizedFormat(Importer importer, String text) {
+        try {
+            return importer.isRecognizedFormat(text);
+        } catch (IOException | RuntimeException e) {
+            // e.g., the sample ends in the middle of an element the importer parses
+            LOGGER.debug("Importer {} could not check the sample", importer.getName(), e);
+            return false;
+        }
+    }
+}
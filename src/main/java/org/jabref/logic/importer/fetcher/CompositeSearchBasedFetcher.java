@@ -4,29 +4,31 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.help.HelpFile;
+import org.jabref.logic.importer.FetchEngine;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImporterPreferences;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     public static final String FETCHER_NAME = "Search pre-configured";
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(CompositeSearchBasedFetcher.class);
-
     private Set<SearchBasedFetcher> fetchers;
     private final int maximumNumberOfReturnedResults;
+    private final FetchEngine fetchEngine;
 
     public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults)
             throws IllegalArgumentException {
+        this(searchBasedFetchers, importerPreferences, maximumNumberOfReturnedResults, FetchEngine.INSTANCE);
+    }
+
+    public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults, FetchEngine fetchEngine)
+            throws IllegalArgumentException {
         if (searchBasedFetchers == null) {
             throw new IllegalArgumentException("The set of searchBasedFetchers must not be null!");
         }
@@ -39,6 +41,7 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
                                                                                        .anyMatch((name -> name.equals(searchBasedFetcher.getName()))))
                                       .collect(Collectors.toSet());
         this.maximumNumberOfReturnedResults = maximumNumberOfReturnedResults;
+        this.fetchEngine = fetchEngine;
     }
 
     @Override
@@ -53,16 +56,13 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
-        // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn("%s API request failed".formatted(searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
+        // The blocking requests run on virtual threads of the fetch engine, failing fetchers are logged there and skipped
+        List<FetchEngine.PendingSearch> searches = fetchers.stream()
+                                                           .map(fetcher -> fetchEngine.startSearch(fetcher, () -> fetcher.performSearch(luceneQuery)))
+                                                           .toList();
+        return searches.stream()
+                       .flatMap(search -> fetchEngine.await(search, FetchEngine.NO_DEADLINE).stream())
+                       .flatMap(List::stream)
                        .limit(maximumNumberOfReturnedResults)
                        .collect(Collectors.toList());
     }
@@ -3,6 +3,7 @@ package org.jabref.logic.importer.fetcher;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +22,8 @@ import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.SearchBasedParserFetcher;
 import org.jabref.logic.importer.fetcher.transformers.DefaultQueryTransformer;
 import org.jabref.logic.importer.util.JsonReader;
+import org.jabref.logic.net.HttpResponseCache;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.util.strings.StringSimilarity;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.AuthorList;
@@ -46,6 +49,9 @@ public class CrossRef implements IdParserFetcher<DOI>, EntryBasedParserFetcher,
 
     private static final String API_URL = "https://api.crossref.org/works";
 
+    // Crossref metadata rarely changes, thus identical lookups (e.g., during duplicate checks or repeated imports) are served from the cache for a day
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofDays(1);
+
     private static final RemoveEnclosingBracesFormatter REMOVE_BRACES_FORMATTER = new RemoveEnclosingBracesFormatter();
 
     @Override
@@ -53,6 +59,11 @@ public class CrossRef implements IdParserFetcher<DOI>, EntryBasedParserFetcher,
         return "Crossref";
     }
 
+    @Override
+    public URLDownload getUrlDownload(URL url) {
+        return new URLDownload(url).useCache(HttpResponseCache.getDefault(), CACHE_TIME_TO_LIVE);
+    }
+
     @Override
     public URL getURLForEntry(BibEntry entry) throws URISyntaxException, MalformedURLException, FetcherException {
         URIBuilder uriBuilder = new URIBuilder(API_URL);
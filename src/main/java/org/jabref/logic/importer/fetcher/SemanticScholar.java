@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.fetcher.transformers.DefaultQueryTransformer;
 import org.jabref.logic.importer.util.JsonReader;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.util.URLUtil;
 import org.jabref.model.entry.BibEntry;
@@ -46,6 +48,9 @@ public class SemanticScholar implements FulltextFetcher, PagedSearchBasedParserF
 
     private static final String SOURCE_ID_SEARCH = "https://api.semanticscholar.org/v1/paper/";
     private static final String SOURCE_WEB_SEARCH = "https://api.semanticscholar.org/graph/v1/paper/search?";
+
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofDays(1);
+
     private final ImporterPreferences importerPreferences;
 
     public SemanticScholar(ImporterPreferences importerPreferences) {
@@ -124,7 +129,7 @@ public class SemanticScholar implements FulltextFetcher, PagedSearchBasedParserF
     }
 
     String getURLBySource(String source) throws IOException, FetcherException {
-        URLDownload download = new URLDownload(source);
+        URLDownload download = new URLDownload(source).useCache(HttpResponseCache.getDefault(), CACHE_TIME_TO_LIVE);
         JSONObject json = new JSONObject(download.asString());
         LOGGER.debug("URL for source: {}", json.get("url").toString());
         if (!json.has("url")) {
@@ -2,7 +2,6 @@ package org.jabref.logic.importer.fileformat;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,10 +20,11 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.pdf.PdfContentImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.pdf.PdfTextExtractionService;
+import org.jabref.logic.pdf.PdfTextExtractionService.PdfContent;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.xmp.EncryptedPdfsNotSupportedException;
-import org.jabref.logic.xmp.XmpUtilReader;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Date;
@@ -34,8 +34,6 @@ import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -116,8 +114,8 @@ public class BibliographyFromPdfImporter extends Importer {
     public ParserResult importDatabase(Path filePath) {
         List<BibEntry> result;
 
-        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(filePath)) {
-            String contents = getReferencesPagesText(document);
+        try {
+            String contents = getReferencesPagesText(PdfTextExtractionService.getDefault().getContent(filePath));
             result = getEntriesFromPDFContent(contents);
         } catch (EncryptedPdfsNotSupportedException e) {
             return ParserResult.fromErrorMessage(Localization.lang("Decryption not supported."));
@@ -168,16 +166,16 @@ public class BibliographyFromPdfImporter extends Importer {
     /**
      * Extracts the text from all pages containing references. It simply goes from the last page backwards until there is probably no reference anymore.
      */
-    private String getReferencesPagesText(PDDocument document) throws IOException {
-        int lastPage = document.getNumberOfPages();
-        String result = prependToResult("", document, new PDFTextStripper(), lastPage);
+    private String getReferencesPagesText(PdfContent content) {
+        int lastPage = content.getNumberOfPages();
+        String result = prependToResult("", content, lastPage);
 
         // Same matcher uses as in {@link containsWordReferences}
         Matcher matcher = REFERENCES.matcher(result);
         if (!matcher.find()) {
             // Ensure that not too much is returned
             LOGGER.warn("Could not found 'References'. Returning last page only.");
-            return getPageContents(document, new PDFTextStripper(), lastPage);
+            return getPageContents(content, lastPage);
         }
 
         int end = matcher.end();
@@ -189,21 +187,23 @@ public class BibliographyFromPdfImporter extends Importer {
         return matcher.find();
     }
 
-    private String prependToResult(String currentText, PDDocument document, PDFTextStripper stripper, int pageNumber) throws IOException {
-        String pageContents = getPageContents(document, stripper, pageNumber);
+    private String prependToResult(String currentText, PdfContent content, int pageNumber) {
+        String pageContents = getPageContents(content, pageNumber);
         String result = pageContents + currentText;
         if (!containsWordReferences(pageContents) && (pageNumber > 0)) {
-            return prependToResult(result, document, stripper, pageNumber - 1);
+            return prependToResult(result, content, pageNumber - 1);
         }
         return result;
     }
 
-    private static String getPageContents(PDDocument document, PDFTextStripper stripper, int lastPage) throws IOException {
-        stripper.setStartPage(lastPage);
-        stripper.setEndPage(lastPage);
-        StringWriter writer = new StringWriter();
-        stripper.writeText(document, writer);
-        return writer.toString();
+    /**
+     * @param pageNumber 1-based page number, 0 yields an empty text
+     */
+    private static String getPageContents(PdfContent content, int pageNumber) {
+        if (pageNumber < 1) {
+            return "";
+        }
+        return content.pages().get(pageNumber - 1).text();
     }
 
     /**
@@ -3,10 +3,19 @@ package org.jabref.logic.importer.fileformat;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
@@ -26,6 +35,7 @@ import org.jabref.logic.importer.fileformat.pdf.PdfVerbatimBibtexImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfXmpImporter;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
@@ -33,6 +43,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.ParsedValueCache;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
@@ -43,11 +54,38 @@ import org.slf4j.LoggerFactory;
  * See {@link PdfMergeMetadataImporter#metadataImporters} for the list of importers used.
  * <p>
  * After all importers are applied, this importer tries to fetch additional metadata for the entry using the DOI and ISBN.
+ * <p>
+ * An instance keeps no state per file, thus it may import several files concurrently.
  */
 public class PdfMergeMetadataImporter extends PdfImporter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PdfMergeMetadataImporter.class);
 
+    /**
+     * Results of the identifier lookups. The fetched entries are only read when merging, thus they are shared between
+     * the imports.
+     */
+    private static final ParsedValueCache<IdentifierLookup, Optional<BibEntry>> FETCHED_ENTRIES = ParsedValueCache.create("PDF identifier lookups", 1_000);
+
+    private static final Map<IdentifierLookup, CompletableFuture<Optional<BibEntry>>> RUNNING_LOOKUPS = new ConcurrentHashMap<>();
+
+    private enum IdentifierType {
+        DOI("DOI"), ARXIV("arXiv ID"), ISBN("ISBN");
+
+        private final String displayName;
+
+        IdentifierType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private record IdentifierLookup(IdentifierType type, String identifier) {
+    }
+
     private final ImportFormatPreferences importFormatPreferences;
     private final List<PdfImporter> metadataImporters;
 
@@ -94,68 +132,110 @@ public class PdfMergeMetadataImporter extends PdfImporter {
     }
 
     private List<BibEntry> extractCandidatesFromPdf(Path filePath, PDDocument document) {
-        List<BibEntry> candidates = new ArrayList<>();
+        List<List<BibEntry>> candidatesPerImporter = new ArrayList<>(Collections.nCopies(metadataImporters.size(), List.of()));
+
+        // GROBID reads the file on its own, thus it runs while the local importers work on the shared document,
+        // which must not be used by several threads at once
+        Map<Integer, Future<List<BibEntry>>> remoteImports = new HashMap<>();
+        for (int i = 0; i < metadataImporters.size(); i++) {
+            PdfImporter metadataImporter = metadataImporters.get(i);
+            if (metadataImporter instanceof PdfGrobidImporter) {
+                remoteImports.put(i, HeadlessExecutorService.INSTANCE.execute(() -> metadataImporter.importDatabase(filePath, document)));
+            }
+        }
 
-        for (PdfImporter metadataImporter : metadataImporters) {
+        for (int i = 0; i < metadataImporters.size(); i++) {
+            if (remoteImports.containsKey(i)) {
+                continue;
+            }
             try {
-                List<BibEntry> extractedEntries = metadataImporter.importDatabase(filePath, document);
-                candidates.addAll(extractedEntries);
+                candidatesPerImporter.set(i, metadataImporters.get(i).importDatabase(filePath, document));
             } catch (Exception e) {
                 LOGGER.error("Got an exception while importing PDF file", e);
             }
         }
 
-        return candidates;
+        for (Map.Entry<Integer, Future<List<BibEntry>>> remoteImport : remoteImports.entrySet()) {
+            try {
+                candidatesPerImporter.set(remoteImport.getKey(), remoteImport.getValue().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                remoteImport.getValue().cancel(true);
+            } catch (ExecutionException e) {
+                LOGGER.error("Got an exception while importing PDF file", e.getCause());
+            }
+        }
+
+        // Keeps the priority of the importers
+        return candidatesPerImporter.stream().flatMap(List::stream).collect(Collectors.toList());
     }
 
+    /**
+     * Looks up the identifiers found in the candidates concurrently. Each identifier is looked up once, even if it is
+     * found by several importers or in several files imported at the same time.
+     */
     private List<BibEntry> fetchIdsOfCandidates(List<BibEntry> candidates) {
-        List<BibEntry> fetchedCandidates = new ArrayList<>();
+        Set<IdentifierLookup> lookups = new LinkedHashSet<>();
 
         for (BibEntry candidate : candidates) {
-            Optional<String> doi = candidate.getField(StandardField.DOI);
-            if (doi.isPresent()) {
-                try {
-                    new DoiFetcher(importFormatPreferences)
-                            .performSearchById(doi.get())
-                            .ifPresent(fetchedCandidates::add);
-                } catch (FetcherException e) {
-                    LOGGER.error("Fetching failed for DOI \"{}\".", doi, e);
-                }
-            }
+            candidate.getField(StandardField.DOI)
+                     .ifPresent(doi -> lookups.add(new IdentifierLookup(IdentifierType.DOI, doi)));
 
-            Optional<String> eprint = candidate.getField(StandardField.EPRINT);
-            if (eprint.isPresent()) {
-                // This code assumes that `eprint` field refers to an arXiv preprint, which is not correct.
-                // One should also check if `archivePrefix` is equal to `arXiv`, and handle other cases too.
-                try {
-                    new ArXivFetcher(importFormatPreferences)
-                            .performSearchById(eprint.get())
-                            .ifPresent(fetchedCandidates::add);
-                } catch (FetcherException e) {
-                    LOGGER.error("Fetching failed for arXiv ID \"{}\".", eprint.get(), e);
-                }
-            }
+            // This code assumes that `eprint` field refers to an arXiv preprint, which is not correct.
+            // One should also check if `archivePrefix` is equal to `arXiv`, and handle other cases too.
+            candidate.getField(StandardField.EPRINT)
+                     .ifPresent(eprint -> lookups.add(new IdentifierLookup(IdentifierType.ARXIV, eprint)));
 
-            Optional<String> isbn = candidate.getField(StandardField.ISBN);
-            if (isbn.isPresent()) {
-                try {
-                    new IsbnFetcher(importFormatPreferences)
-                            // .addRetryFetcher(new EbookDeIsbnFetcher(importFormatPreferences))
-                            // .addRetryFetcher(new DoiToBibtexConverterComIsbnFetcher(importFormatPreferences))
-                            .performSearchById(isbn.get())
-                            .ifPresent(fetchedCandidates::add);
-                } catch (FetcherException e) {
-                    LOGGER.error("Fetching failed for ISBN \"{}\".", isbn.get(), e);
-                }
-            }
+            candidate.getField(StandardField.ISBN)
+                     .ifPresent(isbn -> lookups.add(new IdentifierLookup(IdentifierType.ISBN, isbn)));
 
             // TODO: Handle URLs too.
             // However, it may have problems if URL refers to the same identifier in DOI, ISBN, or arXiv.
         }
 
+        List<CompletableFuture<Optional<BibEntry>>> fetchedEntries = lookups.stream().map(this::lookUp).toList();
+
+        List<BibEntry> fetchedCandidates = new ArrayList<>();
+        for (CompletableFuture<Optional<BibEntry>> fetchedEntry : fetchedEntries) {
+            fetchedEntry.join().ifPresent(fetchedCandidates::add);
+        }
         return fetchedCandidates;
     }
 
+    private CompletableFuture<Optional<BibEntry>> lookUp(IdentifierLookup lookup) {
+        Optional<Optional<BibEntry>> fetchedEntry = FETCHED_ENTRIES.getIfPresent(lookup);
+        if (fetchedEntry.isPresent()) {
+            return CompletableFuture.completedFuture(fetchedEntry.get());
+        }
+
+        CompletableFuture<Optional<BibEntry>> runningLookup = RUNNING_LOOKUPS.computeIfAbsent(lookup,
+                key -> CompletableFuture.supplyAsync(() -> fetch(key), HeadlessExecutorService.INSTANCE));
+        runningLookup.whenComplete((entry, exception) -> RUNNING_LOOKUPS.remove(lookup, runningLookup));
+        return runningLookup;
+    }
+
+    private Optional<BibEntry> fetch(IdentifierLookup lookup) {
+        try {
+            Optional<BibEntry> entry = switch (lookup.type()) {
+                case DOI ->
+                        new DoiFetcher(importFormatPreferences).performSearchById(lookup.identifier());
+                case ARXIV ->
+                        new ArXivFetcher(importFormatPreferences).performSearchById(lookup.identifier());
+                case ISBN ->
+                        new IsbnFetcher(importFormatPreferences)
+                                // .addRetryFetcher(new EbookDeIsbnFetcher(importFormatPreferences))
+                                // .addRetryFetcher(new DoiToBibtexConverterComIsbnFetcher(importFormatPreferences))
+                                .performSearchById(lookup.identifier());
+            };
+            FETCHED_ENTRIES.put(lookup, entry);
+            return entry;
+        } catch (FetcherException e) {
+            // Not cached, so that the lookup is tried again with the next file
+            LOGGER.error("Fetching failed for {} \"{}\".", lookup.type().getDisplayName(), lookup.identifier(), e);
+            return Optional.empty();
+        }
+    }
+
     private static BibEntry mergeCandidates(Stream<BibEntry> candidates) {
         BibEntry entry = new BibEntry();
 
@@ -23,7 +23,7 @@ public class PdfXmpImporter extends PdfImporter {
     }
 
     public List<BibEntry> importDatabase(Path filePath, PDDocument document) throws IOException {
-        return new XmpUtilReader().readXmp(filePath, xmpPreferences);
+        return new XmpUtilReader().readXmp(filePath, document, xmpPreferences);
     }
 
     @Override
@@ -1,7 +1,9 @@
 package org.jabref.logic.importer.plaincitation;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.net.SocketTimeoutException;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.http.dto.SimpleHttpResponse;
@@ -31,6 +33,11 @@ public class GrobidPlainCitationParser implements PlainCitationParser {
         this.grobidService = grobidService;
     }
 
+    @Override
+    public String getSettings() {
+        return grobidService.getGrobidURL();
+    }
+
     /**
      * Passes request to grobid server, using consolidateCitations option to improve result. Takes a while, since the
      * server has to look up the entry.
@@ -41,16 +48,48 @@ public class GrobidPlainCitationParser implements PlainCitationParser {
     public Optional<BibEntry> parsePlainCitation(String text) throws FetcherException {
         try {
             return grobidService.processCitation(text, importFormatPreferences, GrobidService.ConsolidateCitations.WITH_METADATA);
+        } catch (IOException | ParseException e) {
+            throw toFetcherException(e);
+        }
+    }
+
+    /**
+     * Passes all citations in one request to the grobid server. Falls back to one request per citation if the server
+     * does not offer processing a list of citations, or if its answer cannot be assigned to the citations.
+     */
+    @Override
+    public List<Optional<BibEntry>> parsePlainCitations(List<String> texts) throws FetcherException {
+        try {
+            return grobidService.processCitationList(texts, importFormatPreferences, GrobidService.ConsolidateCitations.WITH_METADATA);
         } catch (HttpStatusException e) {
-            LOGGER.debug("Could not connect to Grobid", e);
-            throw new FetcherException("{grobid}", new SimpleHttpResponse(e));
-        } catch (SocketTimeoutException e) {
-            String msg = "Connection timed out.";
-            LOGGER.debug(msg, e);
-            throw new FetcherException(msg, e.getCause());
+            if (e.getStatusCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+                throw toFetcherException(e);
+            }
+            LOGGER.debug("Grobid server does not support processing a list of citations", e);
+            return PlainCitationParser.super.parsePlainCitations(texts);
+        } catch (GrobidService.CitationCountMismatchException e) {
+            LOGGER.debug("Grobid server response does not match the citations, parsing them one by one", e);
+            return PlainCitationParser.super.parsePlainCitations(texts);
         } catch (IOException | ParseException e) {
-            LOGGER.debug("Could not process citation", e);
-            throw new FetcherException("Could not process citation", e);
+            throw toFetcherException(e);
         }
     }
+
+    private static FetcherException toFetcherException(Exception e) {
+        return switch (e) {
+            case HttpStatusException httpStatusException -> {
+                LOGGER.debug("Could not connect to Grobid", e);
+                yield new FetcherException("{grobid}", new SimpleHttpResponse(httpStatusException));
+            }
+            case SocketTimeoutException socketTimeoutException -> {
+                String msg = "Connection timed out.";
+                LOGGER.debug(msg, e);
+                yield new FetcherException(msg, e.getCause());
+            }
+            default -> {
+                LOGGER.debug("Could not process citation", e);
+                yield new FetcherException("Could not process citation", e);
+            }
+        };
+    }
 }
@@ -1,13 +1,19 @@
 package org.jabref.logic.importer.plaincitation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 
+import org.jabref.logic.ai.chatting.model.JabRefChatLanguageModel;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
 
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
@@ -15,8 +21,10 @@ import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.input.PromptTemplate;
 
 public class LlmPlainCitationParser implements PlainCitationParser {
+    private static final String CITATION_KEY_PREFIX = "citation";
     private static final String SYSTEM_MESSAGE = "You are a bot to convert a plain text citation to a BibTeX entry. The user you talk to understands only BibTeX code, so provide it plainly without any wrappings.";
     private static final PromptTemplate USER_MESSAGE_TEMPLATE = PromptTemplate.from("Please convert this plain text citation to a BibTeX entry:\n{{citation}}\nIn your output, please provide only BibTex code as your message.");
+    private static final PromptTemplate MULTIPLE_CITATIONS_USER_MESSAGE_TEMPLATE = PromptTemplate.from("Please convert each of these numbered plain text citations to a BibTeX entry. Use \"" + CITATION_KEY_PREFIX + "\" followed by the number of the citation as citation key:\n{{citations}}\nIn your output, please provide only BibTex code as your message.");
 
     private final ImportFormatPreferences importFormatPreferences;
     private final ChatLanguageModel llm;
@@ -26,6 +34,17 @@ public class LlmPlainCitationParser implements PlainCitationParser {
         this.llm = llm;
     }
 
+    /**
+     * Other models do not tell their settings, thus their results are cached per instance
+     */
+    @Override
+    public String getSettings() {
+        if (llm instanceof JabRefChatLanguageModel jabRefChatLanguageModel) {
+            return jabRefChatLanguageModel.getModelDescription();
+        }
+        return llm.getClass().getName() + "@" + System.identityHashCode(llm);
+    }
+
     @Override
     public Optional<BibEntry> parsePlainCitation(String text) throws FetcherException {
         try {
@@ -35,10 +54,49 @@ public class LlmPlainCitationParser implements PlainCitationParser {
         }
     }
 
+    /**
+     * Asks the LLM to convert all citations in one prompt. The LLM is told to number the entries using their citation
+     * keys, so that each entry can be assigned to its citation. Citations the LLM skipped are converted one by one.
+     */
+    @Override
+    public List<Optional<BibEntry>> parsePlainCitations(List<String> texts) throws FetcherException {
+        if (texts.size() <= 1) {
+            return PlainCitationParser.super.parsePlainCitations(texts);
+        }
+
+        StringJoiner citations = new StringJoiner("\n");
+        for (int i = 0; i < texts.size(); i++) {
+            citations.add((i + 1) + ". " + texts.get(i));
+        }
+        String bibtex = generate(MULTIPLE_CITATIONS_USER_MESSAGE_TEMPLATE.apply(Map.of("citations", citations.toString())).toString());
+
+        Map<String, BibEntry> entriesByKey = new HashMap<>();
+        try {
+            for (BibEntry entry : new BibtexParser(importFormatPreferences).parseEntries(bibtex)) {
+                entry.getCitationKey().ifPresent(key -> entriesByKey.putIfAbsent(key, entry));
+            }
+        } catch (ParseException e) {
+            throw new FetcherException("Could not parse BibTeX returned from LLM", e);
+        }
+
+        List<Optional<BibEntry>> result = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            BibEntry entry = entriesByKey.get(CITATION_KEY_PREFIX + (i + 1));
+            if (entry == null) {
+                result.add(parsePlainCitation(texts.get(i)));
+            } else {
+                entry.clearField(InternalField.KEY_FIELD);
+                result.add(Optional.of(entry));
+            }
+        }
+        return result;
+    }
+
     private String getBibtexStringFromLlm(String searchQuery) {
-        return llm.generate(new SystemMessage(SYSTEM_MESSAGE),
-                new UserMessage(
-                        USER_MESSAGE_TEMPLATE.apply(Map.of("citation", searchQuery)).toString()
-                )).content().text();
+        return generate(USER_MESSAGE_TEMPLATE.apply(Map.of("citation", searchQuery)).toString());
+    }
+
+    private String generate(String userMessage) {
+        return llm.generate(new SystemMessage(SYSTEM_MESSAGE), new UserMessage(userMessage)).content().text();
     }
 }
@@ -1,5 +1,7 @@
 package org.jabref.logic.importer.plaincitation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.importer.FetcherException;
@@ -7,4 +9,26 @@ import org.jabref.model.entry.BibEntry;
 
 public interface PlainCitationParser {
     Optional<BibEntry> parsePlainCitation(String text) throws FetcherException;
+
+    /**
+     * Parses several citations. Parsers calling a remote service should override this to send all citations in one
+     * request.
+     *
+     * @return the results in the order of the given citations
+     */
+    default List<Optional<BibEntry>> parsePlainCitations(List<String> texts) throws FetcherException {
+        List<Optional<BibEntry>> result = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            result.add(parsePlainCitation(text));
+        }
+        return result;
+    }
+
+    /**
+     * Describes the settings the results depend on, e.g., the server or the model used. Parsed citations are cached per
+     * parser type and settings, see {@link SeveralPlainCitationParser}.
+     */
+    default String getSettings() {
+        return "";
+    }
 }
@@ -1,35 +1,142 @@
 package org.jabref.logic.importer.plaincitation;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.ParsedValueCache;
 
-import org.jooq.lambda.Unchecked;
-import org.jooq.lambda.UncheckedException;
-
+/**
+ * Parses a text containing several plain citations separated by blank lines.
+ * <p>
+ * The citations are passed in batches to {@link PlainCitationParser#parsePlainCitations(List)}, so that parsers calling
+ * a remote service need one request per batch only. A few batches are parsed concurrently. Parsed citations are cached
+ * per parser type, so that parsing the same text again (e.g., after changing a single reference) does not call the
+ * service for the unchanged citations. The cache distinguishes the settings of the parser (see
+ * {@link PlainCitationParser#getSettings()}), thus changing the GROBID server or the LLM does not return stale results.
+ */
 public class SeveralPlainCitationParser {
+    /**
+     * Keeps the single requests to a remote service small enough to not run into timeouts
+     */
+    private static final int CITATIONS_PER_BATCH = 20;
+
+    /**
+     * Limits the load put on a remote service
+     */
+    private static final int MAX_CONCURRENT_BATCHES = 4;
+
+    private static final ParsedValueCache<CacheKey, BibEntry> PARSED_CITATIONS = ParsedValueCache.create("Plain citations", 1_000);
+
+    private record CacheKey(Class<? extends PlainCitationParser> parserType, String settings, String citation) {
+    }
+
     private final PlainCitationParser parser;
+    private final int citationsPerBatch;
+    private final int maxConcurrentBatches;
 
     public SeveralPlainCitationParser(PlainCitationParser parser) {
+        this(parser, CITATIONS_PER_BATCH, MAX_CONCURRENT_BATCHES);
+    }
+
+    SeveralPlainCitationParser(PlainCitationParser parser, int citationsPerBatch, int maxConcurrentBatches) {
         this.parser = parser;
+        this.citationsPerBatch = citationsPerBatch;
+        this.maxConcurrentBatches = maxConcurrentBatches;
     }
 
+    /**
+     * @return the entries in the order of the citations in the text. Citations which could not be parsed are skipped.
+     */
     public List<BibEntry> parseSeveralPlainCitations(String text) throws FetcherException {
+        List<String> citations = splitCitations(text).toList();
+
+        Map<String, BibEntry> parsedCitations = new ConcurrentHashMap<>();
+        List<String> uncachedCitations = new ArrayList<>();
+        for (String citation : new LinkedHashSet<>(citations)) {
+            PARSED_CITATIONS.getIfPresent(cacheKey(citation))
+                            .ifPresentOrElse(entry -> parsedCitations.put(citation, entry), () -> uncachedCitations.add(citation));
+        }
+        parse(uncachedCitations, parsedCitations);
+
+        List<BibEntry> result = new ArrayList<>(citations.size());
+        for (String citation : citations) {
+            BibEntry entry = parsedCitations.get(citation);
+            if (entry != null) {
+                // Copies, because the cached entries must not be modified when the result is imported
+                result.add((BibEntry) entry.clone());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses the given citations in batches, with a bounded number of batches at the same time
+     */
+    private void parse(List<String> citations, Map<String, BibEntry> parsedCitations) throws FetcherException {
+        if (citations.isEmpty()) {
+            return;
+        }
+        if (citations.size() <= citationsPerBatch) {
+            store(citations, parser.parsePlainCitations(citations), parsedCitations);
+            return;
+        }
+
+        Deque<Future<Void>> pendingBatches = new ArrayDeque<>(maxConcurrentBatches);
         try {
-            return splitCitations(text)
-                    .map(Unchecked.function(parser::parsePlainCitation))
-                    .flatMap(Optional::stream)
-                    .collect(Collectors.toList());
-        } catch (UncheckedException e) {
-            throw (FetcherException) e.getCause();
+            for (int start = 0; start < citations.size(); start += citationsPerBatch) {
+                List<String> batch = citations.subList(start, Math.min(start + citationsPerBatch, citations.size()));
+                pendingBatches.add(HeadlessExecutorService.INSTANCE.execute(() -> {
+                    store(batch, parser.parsePlainCitations(batch), parsedCitations);
+                    return null;
+                }));
+                if (pendingBatches.size() >= maxConcurrentBatches) {
+                    pendingBatches.poll().get();
+                }
+            }
+            while (!pendingBatches.isEmpty()) {
+                pendingBatches.poll().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FetcherException("Parsing of citations was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FetcherException fetcherException) {
+                throw fetcherException;
+            }
+            throw new FetcherException("Could not parse citations", e.getCause());
+        } finally {
+            // only non-empty if parsing failed
+            pendingBatches.forEach(batch -> batch.cancel(true));
         }
     }
 
+    private void store(List<String> citations, List<Optional<BibEntry>> entries, Map<String, BibEntry> parsedCitations) {
+        for (int i = 0; i < citations.size(); i++) {
+            String citation = citations.get(i);
+            entries.get(i).ifPresent(entry -> {
+                parsedCitations.put(citation, entry);
+                PARSED_CITATIONS.put(cacheKey(citation), entry);
+            });
+        }
+    }
+
+    private CacheKey cacheKey(String citation) {
+        return new CacheKey(parser.getClass(), parser.getSettings(), citation);
+    }
+
     public Stream<String> splitCitations(String text) {
         return Arrays.stream(text.split("\\r\\r+|\\n\\n+|\\r\\n(\\r\\n)+"))
                      .map(String::trim)
@@ -11,6 +11,8 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
 
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
@@ -44,6 +46,16 @@ public class GrobidService {
         }
     }
 
+    /**
+     * The GROBID server returned a different number of entries than citations were sent, e.g., because one returned
+     * record is malformed. The entries cannot be assigned to the citations then.
+     */
+    public static class CitationCountMismatchException extends IOException {
+        public CitationCountMismatchException(String message) {
+            super(message);
+        }
+    }
+
     private final GrobidPreferences grobidPreferences;
 
     public GrobidService(GrobidPreferences grobidPreferences) {
@@ -53,6 +65,10 @@ public class GrobidService {
         }
     }
 
+    public String getGrobidURL() {
+        return grobidPreferences.getGrobidURL();
+    }
+
     /**
      * Calls the Grobid server for converting the citation into a BibEntry
      *
@@ -78,6 +94,50 @@ public class GrobidService {
         return BibtexParser.singleFromString(httpResponse, importFormatPreferences);
     }
 
+    /**
+     * Calls the Grobid server for converting several citations into BibEntries using a single request
+     *
+     * @return the BibEntries in the order of the given citations, empty for citations Grobid could not make sense of
+     * @throws CitationCountMismatchException if the number of returned entries does not match the number of citations
+     * @throws IOException                     if an I/O exception during the call occurred
+     */
+    public List<Optional<BibEntry>> processCitationList(List<String> rawCitations, ImportFormatPreferences importFormatPreferences, ConsolidateCitations consolidateCitations) throws IOException, ParseException {
+        Connection connection = Jsoup.connect(grobidPreferences.getGrobidURL() + "/api/processCitationList")
+                                     .header("Accept", MediaTypes.APPLICATION_BIBTEX)
+                                     .data("consolidateCitations", String.valueOf(consolidateCitations.getCode()))
+                                     .method(Connection.Method.POST)
+                                     .ignoreContentType(true)
+                                     .timeout(100_000);
+        for (String rawCitation : rawCitations) {
+            connection.data("citations", rawCitation);
+        }
+        String httpResponse = connection.execute().body();
+        LOGGER.debug("{} raw citations -> response: {}", rawCitations.size(), httpResponse);
+
+        if (httpResponse == null) {
+            throw new IOException("The GROBID server response does not contain anything.");
+        }
+
+        List<BibEntry> entries = new BibtexParser(importFormatPreferences).parseEntries(httpResponse);
+        if (entries.size() != rawCitations.size()) {
+            throw new CitationCountMismatchException("The GROBID server returned %d entries for %d citations.".formatted(entries.size(), rawCitations.size()));
+        }
+
+        List<Optional<BibEntry>> result = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            String author = entry.getField(StandardField.AUTHOR).orElse("");
+            boolean onlyAuthor = entry.getFields().stream().allMatch(field -> field == StandardField.AUTHOR || field == InternalField.KEY_FIELD);
+            // Filters empty BibTeX entries, see processCitation
+            if (onlyAuthor && (author.isBlank() || author.equals(rawCitations.get(i)))) {
+                result.add(Optional.empty());
+            } else {
+                result.add(Optional.of(entry));
+            }
+        }
+        return result;
+    }
+
     public List<BibEntry> processPDF(Path filePath, ImportFormatPreferences importFormatPreferences) throws IOException, ParseException {
         Connection.Response response = Jsoup.connect(grobidPreferences.getGrobidURL() + "/api/processHeaderDocument")
                 .header("Accept", MediaTypes.APPLICATION_BIBTEX)
@@ -0,0 +1,58 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jabref.logic.util.DelayTaskThrottler;
+import org.jabref.model.entry.event.EntriesEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the integrity report of a library current while its entries are edited.
+ * <p>
+ * The library is checked again as soon as no further change happened for a short time. Due to the cache of
+ * {@link IntegrityCheck}, only the changed entries are checked completely. The report is passed to the listener on a
+ * background thread.
+ */
+public class BackgroundIntegrityCheck implements AutoCloseable {
+
+    private static final int DELAY_IN_MILLISECONDS = 1000;
+
+    private final IntegrityCheck integrityCheck;
+    private final Consumer<List<IntegrityMessage>> reportListener;
+    private final DelayTaskThrottler throttler;
+
+    public BackgroundIntegrityCheck(IntegrityCheck integrityCheck, Consumer<List<IntegrityMessage>> reportListener) {
+        this(integrityCheck, reportListener, DELAY_IN_MILLISECONDS);
+    }
+
+    BackgroundIntegrityCheck(IntegrityCheck integrityCheck, Consumer<List<IntegrityMessage>> reportListener, int delayInMilliseconds) {
+        this.integrityCheck = integrityCheck;
+        this.reportListener = reportListener;
+        this.throttler = new DelayTaskThrottler(delayInMilliseconds);
+    }
+
+    /**
+     * Checks the library and starts listening for changes
+     */
+    public void start() {
+        integrityCheck.getDatabase().registerListener(this);
+        throttler.schedule(this::updateReport);
+    }
+
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        throttler.schedule(this::updateReport);
+    }
+
+    private void updateReport() {
+        reportListener.accept(integrityCheck.check());
+    }
+
+    @Override
+    public void close() {
+        integrityCheck.getDatabase().unregisterListener(this);
+        throttler.shutdown();
+    }
+}
@@ -1,6 +1,5 @@
 package org.jabref.logic.integrity;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +8,7 @@ import java.util.stream.Collectors;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.util.FileFieldParser;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.FileStatusCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.strings.StringUtil;
@@ -17,10 +17,16 @@ public class FileChecker implements ValueChecker {
 
     private final BibDatabaseContext context;
     private final FilePreferences filePreferences;
+    private final FileStatusCache fileStatusCache;
 
     public FileChecker(BibDatabaseContext context, FilePreferences filePreferences) {
+        this(context, filePreferences, FileStatusCache.getDefault());
+    }
+
+    public FileChecker(BibDatabaseContext context, FilePreferences filePreferences, FileStatusCache fileStatusCache) {
         this.context = context;
         this.filePreferences = filePreferences;
+        this.fileStatusCache = fileStatusCache;
     }
 
     @Override
@@ -34,9 +40,10 @@ public class FileChecker implements ValueChecker {
                 .filter(file -> !file.isOnlineLink())
                 .collect(Collectors.toList());
 
+        List<Path> directories = context.getFileDirectories(filePreferences);
         for (LinkedFile file : linkedFiles) {
-            Optional<Path> linkedFile = file.findIn(context, filePreferences);
-            if ((linkedFile.isEmpty()) || !Files.exists(linkedFile.get())) {
+            Optional<Path> linkedFile = file.findIn(directories, fileStatusCache::exists);
+            if (linkedFile.isEmpty()) {
                 return Optional.of(Localization.lang("link should refer to a correct file path"));
             }
         }
@@ -1,22 +1,51 @@
 package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
-
+import org.jabref.model.entry.types.EntryType;
+
+/**
+ * Runs all checkers on the entries of a library.
+ * <p>
+ * The entries are checked concurrently in chunks. The results of the checkers only looking at the entry itself are
+ * cached per entry, together with the type and fields the entry had when being checked. Thus, checking the library
+ * again only re-runs these checkers for entries changed in the meantime. Checkers depending on other entries (e.g.,
+ * duplicate citation keys) or on the file system (linked files) are run on every check.
+ */
 public class IntegrityCheck {
 
+    private static final int ENTRIES_PER_CHUNK = 100;
+
+    private record CachedResult(EntryType type, Map<Field, String> fields, List<IntegrityMessage> messages) {
+        boolean isValidFor(BibEntry entry) {
+            return type.equals(entry.getType()) && fields.equals(entry.getFieldMap());
+        }
+    }
+
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+    private final List<EntryChecker> cachedCheckers = new ArrayList<>();
+    private final List<EntryChecker> uncachedCheckers = new ArrayList<>();
+    private final Map<String, CachedResult> cachedResults = new ConcurrentHashMap<>();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,27 +54,35 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            if (fieldChecker.field == StandardField.FILE) {
+                uncachedCheckers.add(fieldChecker);
+            } else {
+                cachedCheckers.add(fieldChecker);
+            }
+        }
 
-        entryCheckers = new ArrayList<>(List.of(
+        cachedCheckers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
+        uncachedCheckers.addAll(List.of(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
+                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase())));
 
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            cachedCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
         } else {
-            entryCheckers.addAll(List.of(
+            cachedCheckers.addAll(List.of(
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new UnicodeNormalFormCanonicalCompositionCheck(),
@@ -54,16 +91,68 @@ public class IntegrityCheck {
         }
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
-
+    public List<IntegrityMessage> check() {
         BibDatabase database = bibDatabaseContext.getDatabase();
+        List<BibEntry> entries = List.copyOf(database.getEntries());
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = checkEntries(entries, checkedEntries -> { });
         result.addAll(checkDatabase(database));
 
+        // Forget the results of removed entries
+        Set<String> ids = entries.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        cachedResults.keySet().retainAll(ids);
+
+        return result;
+    }
+
+    /**
+     * Checks the given entries concurrently. Stops early if the calling thread is interrupted.
+     *
+     * @param progressListener called on the calling thread with the number of entries checked so far
+     * @return the messages in the order of the given entries
+     */
+    public List<IntegrityMessage> checkEntries(List<BibEntry> entries, IntConsumer progressListener) {
+        if (entries.size() <= ENTRIES_PER_CHUNK) {
+            List<IntegrityMessage> result = checkEachEntry(entries);
+            progressListener.accept(entries.size());
+            return result;
+        }
+
+        List<IntegrityMessage> result = new ArrayList<>();
+        int maxPendingChunks = 2 * Runtime.getRuntime().availableProcessors();
+        Deque<Future<List<IntegrityMessage>>> pendingChunks = new ArrayDeque<>(maxPendingChunks);
+        int checkedEntries = 0;
+        try {
+            for (int start = 0; start < entries.size(); start += ENTRIES_PER_CHUNK) {
+                List<BibEntry> chunk = entries.subList(start, Math.min(start + ENTRIES_PER_CHUNK, entries.size()));
+                pendingChunks.add(HeadlessExecutorService.INSTANCE.execute(() -> checkEachEntry(chunk)));
+                if (pendingChunks.size() >= maxPendingChunks) {
+                    result.addAll(pendingChunks.poll().get());
+                    checkedEntries = Math.min(checkedEntries + ENTRIES_PER_CHUNK, entries.size());
+                    progressListener.accept(checkedEntries);
+                }
+            }
+            while (!pendingChunks.isEmpty()) {
+                result.addAll(pendingChunks.poll().get());
+                checkedEntries = Math.min(checkedEntries + ENTRIES_PER_CHUNK, entries.size());
+                progressListener.accept(checkedEntries);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Integrity check failed", e.getCause());
+        } finally {
+            // only non-empty if checking was interrupted or failed
+            pendingChunks.forEach(chunk -> chunk.cancel(true));
+        }
+        return result;
+    }
+
+    private List<IntegrityMessage> checkEachEntry(List<BibEntry> entries) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            result.addAll(checkEntry(entry));
+        }
         return result;
     }
 
@@ -73,17 +162,31 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        CachedResult cachedResult = cachedResults.get(entry.getId());
+        if (cachedResult == null || !cachedResult.isValidFor(entry)) {
+            // The state is taken before checking: if the entry is changed meanwhile, it is checked again next time
+            EntryType type = entry.getType();
+            Map<Field, String> fields = Map.copyOf(entry.getFieldMap());
+            List<IntegrityMessage> messages = new ArrayList<>();
+            for (EntryChecker checker : cachedCheckers) {
+                messages.addAll(checker.check(entry));
+            }
+            cachedResult = new CachedResult(type, fields, List.copyOf(messages));
+            cachedResults.put(entry.getId(), cachedResult);
         }
+        result.addAll(cachedResult.messages());
 
-        for (EntryChecker entryChecker : entryCheckers) {
-            result.addAll(entryChecker.check(entry));
+        for (EntryChecker checker : uncachedCheckers) {
+            result.addAll(checker.check(entry));
         }
 
         return result;
     }
 
+    BibDatabase getDatabase() {
+        return bibDatabaseContext.getDatabase();
+    }
+
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
         return new DoiDuplicationChecker().check(database);
     }
@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,8 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    private static MVStore builtInJournalList;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -36,17 +39,13 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
+        try {
+            MVStore journalList = openBuiltInJournalList();
+            if (journalList == null) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list");
                 repository = new JournalAbbreviationRepository();
             } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
+                repository = new JournalAbbreviationRepository(journalList);
             }
         } catch (IOException e) {
             LOGGER.error("Error while copying journal list", e);
@@ -71,6 +70,30 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    /**
+     * Opens the built-in journal list on first call. The store is shared by all repositories and stays open until
+     * JabRef exits, because a repository replaced on reload of the preferences may still be in use.
+     *
+     * @return the store, null if there is no built-in journal list
+     */
+    private static synchronized MVStore openBuiltInJournalList() throws IOException {
+        if (builtInJournalList != null) {
+            return builtInJournalList;
+        }
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resourceAsStream == null) {
+                return null;
+            }
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            builtInJournalList = new MVStore.Builder().readOnly().fileName(tempJournalList.toAbsolutePath().toString()).open();
+            tempDir.toFile().deleteOnExit();
+            tempJournalList.toFile().deleteOnExit();
+        }
+        return builtInJournalList;
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), true));
     }
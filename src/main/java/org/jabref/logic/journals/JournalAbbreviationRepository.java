@@ -1,6 +1,5 @@
 package org.jabref.logic.journals;
 
-import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -15,42 +14,54 @@ import java.util.regex.Pattern;
 
 import org.jabref.logic.util.strings.StringSimilarity;
 
-import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are read lazily from the MV file generated by {@link org.jabref.cli.JournalListMvGenerator}.
+ * Besides the map from full names to abbreviations, that file contains the reverse lookup maps and a
+ * {@link JournalNameFuzzyIndex} for fuzzy matching. For MV files lacking these, the lookup structures are built in memory.
+ * The store is opened once by {@link JournalAbbreviationLoader} and shared by all repositories.
  */
 public class JournalAbbreviationRepository {
+    public static final String FULL_TO_ABBREVIATION_MAP = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_MAP = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL_MAP = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL_MAP = "ShortestUniqueToFull";
+    public static final String FUZZY_INDEX_MAP = "FuzzyIndex";
+
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    // The stored abbreviations do not contain the name (it is transient), thus we always go through #getByFullName
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, String> abbreviationToFullName;
+    private final Map<String, String> dotlessToFullName;
+    private final Map<String, String> shortestUniqueToFullName;
+    private final JournalNameFuzzyIndex fuzzyIndex;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
+    private volatile List<Abbreviation> allLoaded;
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Serves the lookups from the maps of the given (read-only) store. The store is not closed by the repository, thus
+     * it has to stay open as long as the repository is used.
      */
-    public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
+    public JournalAbbreviationRepository(MVStore store) {
+        fullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP);
+        if (store.hasMap(FUZZY_INDEX_MAP)) {
+            abbreviationToFullName = store.openMap(ABBREVIATION_TO_FULL_MAP);
+            dotlessToFullName = store.openMap(DOTLESS_TO_FULL_MAP);
+            shortestUniqueToFullName = store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP);
+            fuzzyIndex = new JournalNameFuzzyIndex(store.openMap(FUZZY_INDEX_MAP));
+        } else {
+            // MV file generated by an older version: build the lookup structures in memory
+            abbreviationToFullName = new HashMap<>();
+            dotlessToFullName = new HashMap<>();
+            shortestUniqueToFullName = new HashMap<>();
+            Map<String, String> fuzzyIndexEdges = new HashMap<>();
+            buildLookups(fullToAbbreviationObject, abbreviationToFullName, dotlessToFullName, shortestUniqueToFullName, fuzzyIndexEdges);
+            fuzzyIndex = new JournalNameFuzzyIndex(fuzzyIndexEdges);
         }
     }
 
@@ -58,15 +69,45 @@ public class JournalAbbreviationRepository {
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
-        Abbreviation newAbbreviation = new Abbreviation(
-                "Demonstration",
-                "Demo",
-                "Dem"
-        );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToFullName = new HashMap<>();
+        dotlessToFullName = new HashMap<>();
+        shortestUniqueToFullName = new HashMap<>();
+        Map<String, String> fuzzyIndexEdges = new HashMap<>();
+        fullToAbbreviationObject.put("Demonstration", new Abbreviation("Demonstration", "Demo", "Dem"));
+        buildLookups(fullToAbbreviationObject, abbreviationToFullName, dotlessToFullName, shortestUniqueToFullName, fuzzyIndexEdges);
+        fuzzyIndex = new JournalNameFuzzyIndex(fuzzyIndexEdges);
+    }
+
+    /**
+     * Fills the reverse lookup maps and the fuzzy index based on the given map from full names to abbreviations.
+     * Used by {@link org.jabref.cli.JournalListMvGenerator} to persist the lookups next to the journal list.
+     */
+    public static void buildLookups(Map<String, Abbreviation> fullToAbbreviation,
+                                    Map<String, String> abbreviationToFull,
+                                    Map<String, String> dotlessToFull,
+                                    Map<String, String> shortestUniqueToFull,
+                                    Map<String, String> fuzzyIndexEdges) {
+        JournalNameFuzzyIndex index = new JournalNameFuzzyIndex(fuzzyIndexEdges);
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            Abbreviation abbreviation = restore(name, storedAbbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+            index.add(name);
+        });
+    }
+
+    private static Abbreviation restore(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(
+                name,
+                storedAbbreviation.getAbbreviation(),
+                storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    private Optional<Abbreviation> getByFullName(String name) {
+        return Optional.ofNullable(fullToAbbreviationObject.get(name))
+                       .map(storedAbbreviation -> restore(name, storedAbbreviation));
     }
 
     private static boolean isMatched(String name, Abbreviation abbreviation) {
@@ -108,9 +149,9 @@ public class JournalAbbreviationRepository {
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
         return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+                || abbreviationToFullName.containsKey(journal)
+                || dotlessToFullName.containsKey(journal)
+                || shortestUniqueToFullName.containsKey(journal);
     }
 
     /**
@@ -130,10 +171,10 @@ public class JournalAbbreviationRepository {
             return customAbbreviation;
         }
 
-        Optional<Abbreviation> abbreviation = Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        Optional<Abbreviation> abbreviation = getByFullName(journal)
+                .or(() -> Optional.ofNullable(abbreviationToFullName.get(journal)).flatMap(this::getByFullName))
+                .or(() -> Optional.ofNullable(dotlessToFullName.get(journal)).flatMap(this::getByFullName))
+                .or(() -> Optional.ofNullable(shortestUniqueToFullName.get(journal)).flatMap(this::getByFullName));
 
         if (abbreviation.isEmpty()) {
             abbreviation = findAbbreviationFuzzyMatched(journal);
@@ -148,7 +189,11 @@ public class JournalAbbreviationRepository {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        List<Abbreviation> candidates = fuzzyIndex.findWithin(input, StringSimilarity.METRIC_THRESHOLD)
+                                                  .stream()
+                                                  .flatMap(name -> getByFullName(name).stream())
+                                                  .toList();
+        return findBestFuzzyMatched(candidates, input);
     }
 
     private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
@@ -214,7 +259,17 @@ public class JournalAbbreviationRepository {
         return fullToAbbreviationObject.keySet();
     }
 
+    /**
+     * Returns the abbreviations of the journal list, without the custom ones. The list is built on first call.
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        List<Abbreviation> abbreviations = allLoaded;
+        if (abbreviations == null) {
+            abbreviations = fullToAbbreviationObject.entrySet().stream()
+                                                    .map(entry -> restore(entry.getKey(), entry.getValue()))
+                                                    .toList();
+            allLoaded = abbreviations;
+        }
+        return abbreviations;
     }
 }
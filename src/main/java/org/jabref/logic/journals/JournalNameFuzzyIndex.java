@@ -0,0 +1,97 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+/**
+ * A BK-tree over journal names using the (case-insensitive) edit distance of {@link StringSimilarity}.
+ * <p>
+ * The tree allows finding all names within a given edit distance without comparing the input to every known name.
+ * It is stored in a plain {@code Map<String, String>} so that it can be persisted in the MVStore next to the journal
+ * list (see {@link org.jabref.cli.JournalListMvGenerator}) and read lazily from there:
+ * <ul>
+ *     <li>The key {@link #ROOT_KEY} maps to the name stored at the root node.</li>
+ *     <li>The key {@code parent + '\0' + distance} maps to the child of {@code parent} having the given distance to it.</li>
+ * </ul>
+ */
+public class JournalNameFuzzyIndex {
+
+    static final String ROOT_KEY = "";
+    private static final char SEPARATOR = '\0';
+
+    private final Map<String, String> edges;
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    public JournalNameFuzzyIndex(Map<String, String> edges) {
+        this.edges = Objects.requireNonNull(edges);
+    }
+
+    /**
+     * Adds the given name to the tree. Only to be used while building the index; the backing map needs to be writable.
+     */
+    public void add(String name) {
+        if (name.isEmpty()) {
+            return;
+        }
+        String node = edges.get(ROOT_KEY);
+        if (node == null) {
+            edges.put(ROOT_KEY, name);
+            return;
+        }
+        while (true) {
+            if (node.equals(name)) {
+                return;
+            }
+            String edgeKey = edgeKey(node, distance(name, node));
+            String child = edges.get(edgeKey);
+            if (child == null) {
+                edges.put(edgeKey, name);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns all names having an edit distance of at most {@code maxDistance} to the given input
+     */
+    public List<String> findWithin(String input, int maxDistance) {
+        List<String> result = new ArrayList<>();
+        String root = edges.get(ROOT_KEY);
+        if (root == null) {
+            return result;
+        }
+
+        Deque<String> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            String node = nodesToVisit.pop();
+            int distance = distance(input, node);
+            if (distance <= maxDistance) {
+                result.add(node);
+            }
+            // Triangle inequality: only children with an edge distance in [distance - maxDistance, distance + maxDistance] can match
+            for (int edgeDistance = Math.max(0, distance - maxDistance); edgeDistance <= distance + maxDistance; edgeDistance++) {
+                String child = edges.get(edgeKey(node, edgeDistance));
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    private int distance(String a, String b) {
+        return (int) similarity.editDistanceIgnoreCase(a, b);
+    }
+
+    private static String edgeKey(String parent, int distance) {
+        return parent + SEPARATOR + distance;
+    }
+}
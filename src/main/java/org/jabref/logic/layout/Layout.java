@@ -141,4 +141,12 @@ public class Layout {
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
+
+    /**
+     * @return true if the layout contains a {@code \begingroup}. Such a layout compares each entry with the group
+     * of the previous one, thus the entries have to be rendered one after another.
+     */
+    public boolean usesGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::usesGroups);
+    }
 }
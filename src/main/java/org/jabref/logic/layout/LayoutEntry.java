@@ -543,6 +543,14 @@ class LayoutEntry {
         return invalidFormatter;
     }
 
+    /**
+     * @return true if this entry or a nested one starts a group, which depends on the entries rendered before
+     */
+    public boolean usesGroups() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::usesGroups));
+    }
+
     public static List<List<String>> parseMethodsCalls(String calls) {
         List<List<String>> result = new ArrayList<>();
 
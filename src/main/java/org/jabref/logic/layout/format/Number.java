@@ -5,11 +5,16 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * Entries rendered concurrently (see {@link org.jabref.logic.exporter.TemplateExporter}) get their number from
+ * {@link #setCurrentEntryNumber(int)}, which overrides {@link #serialExportNumber} for the calling thread.
  */
 public class Number implements ParamLayoutFormatter {
 
     public static int serialExportNumber;
 
+    private static final ThreadLocal<Integer> CURRENT_ENTRY_NUMBER = new ThreadLocal<>();
+
     @Override
     public void setArgument(String arg) {
         // No effect currently.
@@ -17,6 +22,18 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        Integer currentEntryNumber = CURRENT_ENTRY_NUMBER.get();
+        return String.valueOf(currentEntryNumber == null ? serialExportNumber : currentEntryNumber);
+    }
+
+    /**
+     * Sets the number of the entry rendered by the calling thread
+     */
+    public static void setCurrentEntryNumber(int entryNumber) {
+        CURRENT_ENTRY_NUMBER.set(entryNumber);
+    }
+
+    public static void clearCurrentEntryNumber() {
+        CURRENT_ENTRY_NUMBER.remove();
     }
 }
@@ -4,9 +4,8 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -19,7 +18,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -38,33 +36,31 @@ public class MSBibDatabase {
 
     private final DocumentBuilderFactory factory;
 
-    private Set<MSBibEntry> entriesForExport;
+    private final BibDatabase database;
+    private final List<BibEntry> entriesForExport;
 
     /**
      * Creates a {@link MSBibDatabase} for <b>import</b>
      */
     public MSBibDatabase() {
-        entriesForExport = new HashSet<>();
+        this.database = new BibDatabase();
+        this.entriesForExport = Collections.emptyList();
         factory = DocumentBuilderFactory.newInstance();
         factory.setNamespaceAware(true);
     }
 
     /**
      * Creates a new {@link MSBibDatabase} for <b>export</b>.
-     * Directly converts the given entries.
+     * The entries are converted one by one during the export.
      *
      * @param database The bib database
      * @param entries  List of {@link BibEntry}
      */
     public MSBibDatabase(BibDatabase database, List<BibEntry> entries) {
-        this();
-        if (entries == null) {
-            var resolvedEntries = database.resolveForStrings(database.getEntries(), false);
-            setEntriesForExport(resolvedEntries);
-        } else {
-            var resolvedEntries = database.resolveForStrings(entries, false);
-            setEntriesForExport(resolvedEntries);
-        }
+        this.database = database;
+        this.entriesForExport = entries == null ? database.getEntries() : entries;
+        factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
     }
 
     /**
@@ -73,7 +69,6 @@ public class MSBibDatabase {
      * @return List of {@link BibEntry}
      */
     public List<BibEntry> importEntriesFromXml(BufferedReader reader) {
-        entriesForExport = new HashSet<>();
         Document inputDocument;
         try {
             DocumentBuilder documentBuilder = factory.newDocumentBuilder();
@@ -94,19 +89,36 @@ public class MSBibDatabase {
         NodeList sourceList = ((Element) rootList.item(0)).getElementsByTagNameNS("*", "Source");
         for (int i = 0; i < sourceList.getLength(); i++) {
             MSBibEntry entry = new MSBibEntry((Element) sourceList.item(i));
-            entriesForExport.add(entry);
             bibitems.add(BibTeXConverter.convert(entry));
         }
 
         return bibitems;
     }
 
-    private void setEntriesForExport(List<BibEntry> entriesToAdd) {
-        entriesForExport = new HashSet<>();
-        for (BibEntry entry : entriesToAdd) {
-            MSBibEntry newMods = MSBibConverter.convert(entry);
-            entriesForExport.add(newMods);
-        }
+    /**
+     * Creates the root element for the export. The elements of the entries have to be added using {@link #getEntryElementsForExport(Document)}.
+     */
+    public Element createRootElementForExport(Document document) {
+        Element rootNode = document.createElementNS(NAMESPACE, PREFIX + "Sources");
+        rootNode.setAttributeNS("http://www.w3.org/2000/xmlns/", "xmlns", NAMESPACE);
+        rootNode.setAttributeNS("http://www.w3.org/2000/xmlns/",
+                "xmlns:" + PREFIX.substring(0, PREFIX.length() - 1), NAMESPACE);
+        rootNode.setAttribute("SelectedStyle", "");
+        return rootNode;
+    }
+
+    /**
+     * Converts the entries for the export lazily, so that the caller may write each element before the next entry is
+     * converted.
+     */
+    public Stream<Element> getEntryElementsForExport(Document document) {
+        return entriesForExport.stream()
+                               .map(entry -> MSBibConverter.convert(database.resolveForStrings(entry, false)))
+                               .map(entry -> entry.getEntryDom(document));
+    }
+
+    public DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        return factory.newDocumentBuilder();
     }
 
     public Document getDomForExport() {
@@ -115,16 +127,8 @@ public class MSBibDatabase {
             DocumentBuilder documentBuilder = factory.newDocumentBuilder();
             document = documentBuilder.newDocument();
 
-            Element rootNode = document.createElementNS(NAMESPACE, PREFIX + "Sources");
-            rootNode.setAttributeNS("http://www.w3.org/2000/xmlns/", "xmlns", NAMESPACE);
-            rootNode.setAttributeNS("http://www.w3.org/2000/xmlns/",
-                    "xmlns:" + PREFIX.substring(0, PREFIX.length() - 1), NAMESPACE);
-            rootNode.setAttribute("SelectedStyle", "");
-
-            for (MSBibEntry entry : entriesForExport) {
-                Node node = entry.getEntryDom(document);
-                rootNode.appendChild(node);
-            }
+            Element rootNode = createRootElementForExport(document);
+            getEntryElementsForExport(document).forEach(rootNode::appendChild);
             document.appendChild(rootNode);
         } catch (ParserConfigurationException e) {
             LOGGER.warn("Could not build XML document", e);
@@ -0,0 +1,372 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.jabref.logic.util.Directories;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache for HTTP GET responses, used by {@link URLDownload} if enabled via {@link URLDownload#useCache(HttpResponseCache)}.
+ * <p>
+ * The freshness of a response is determined by its {@code Cache-Control: max-age} or {@code Expires} header, which can
+ * be overridden per download. Stale responses having an {@code ETag} or {@code Last-Modified} header are revalidated
+ * using a conditional request. Responses marked with {@code no-store} are not cached.
+ * <p>
+ * The cache is bounded in size. If it grows too large, the least recently used responses are removed.
+ * <p>
+ * A response is written to temporary files first, which are then moved into place, the metadata last. Thus, a
+ * concurrent {@link #get(String)} never reads a partially written response.
+ */
+public class HttpResponseCache {
+
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 100L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_EXTENSION = ".body";
+    private static final String METADATA_EXTENSION = ".properties";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static final String URL_KEY = "url";
+    private static final String STORED_AT_KEY = "storedAt";
+    private static final String MAX_AGE_KEY = "maxAgeSeconds";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+    private static final String NO_CACHE_KEY = "noCache";
+
+    private static HttpResponseCache defaultCache;
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    private final AtomicLong currentSizeInBytes = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * A cached response.
+     *
+     * @param maxAge       the freshness lifetime sent by the server, empty if none was sent
+     * @param noCache      the server requested revalidation on every use
+     */
+    public record CachedResponse(
+            byte[] body,
+            Instant storedAt,
+            Optional<Duration> maxAge,
+            Optional<String> eTag,
+            Optional<String> lastModified,
+            boolean noCache) {
+
+        /**
+         * @param timeToLive overrides the freshness lifetime sent by the server
+         */
+        public boolean isFresh(Instant now, Optional<Duration> timeToLive) {
+            if (timeToLive.isEmpty() && noCache) {
+                return false;
+            }
+            return timeToLive.or(() -> maxAge)
+                             .map(lifetime -> storedAt.plus(lifetime).isAfter(now))
+                             .orElse(false);
+        }
+
+        public boolean canBeRevalidated() {
+            return eTag.isPresent() || lastModified.isPresent();
+        }
+    }
+
+    public HttpResponseCache(Path directory, long maxSizeInBytes) {
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                currentSizeInBytes.set(files.filter(file -> !isTemporary(file)).mapToLong(HttpResponseCache::sizeOf).sum());
+            }
+            // left over by an interrupted put
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(HttpResponseCache::isTemporary).forEach(HttpResponseCache::deleteQuietly);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not initialize HTTP cache directory {}", directory, e);
+        }
+    }
+
+    /**
+     * Returns the cache shared by all fetchers. It is located in the JabRef data directory.
+     */
+    public static synchronized HttpResponseCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new HttpResponseCache(Directories.getHttpCacheDirectory(), DEFAULT_MAX_SIZE_IN_BYTES);
+        }
+        return defaultCache;
+    }
+
+    /**
+     * Computes the key of a request. The request headers are part of the key, because they may influence the response
+     * (e.g., the {@code Accept} header for content negotiation).
+     */
+    public static String getKey(URL url, Map<String, String> requestHeaders) {
+        StringBuilder request = new StringBuilder(url.toString());
+        new TreeMap<>(requestHeaders).forEach((name, value) -> request.append('\n').append(name.toLowerCase(Locale.ROOT)).append(':').append(value));
+        return Hashing.sha256().hashString(request, StandardCharsets.UTF_8).toString();
+    }
+
+    public Optional<CachedResponse> get(String key) {
+        Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+        Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+        if (!Files.exists(bodyFile) || !Files.exists(metadataFile)) {
+            return Optional.empty();
+        }
+        try (InputStream metadataStream = Files.newInputStream(metadataFile)) {
+            Properties metadata = new Properties();
+            metadata.load(metadataStream);
+            String storedAt = metadata.getProperty(STORED_AT_KEY);
+            if (storedAt == null) {
+                return Optional.empty();
+            }
+            byte[] body = Files.readAllBytes(bodyFile);
+            // the modification time of the body tracks the last access for eviction
+            Files.setLastModifiedTime(bodyFile, FileTime.from(Instant.now()));
+            return Optional.of(new CachedResponse(
+                    body,
+                    Instant.parse(storedAt),
+                    Optional.ofNullable(metadata.getProperty(MAX_AGE_KEY)).map(seconds -> Duration.ofSeconds(Long.parseLong(seconds))),
+                    Optional.ofNullable(metadata.getProperty(ETAG_KEY)),
+                    Optional.ofNullable(metadata.getProperty(LAST_MODIFIED_KEY)),
+                    Boolean.parseBoolean(metadata.getProperty(NO_CACHE_KEY))));
+        } catch (NoSuchFileException e) {
+            // removed concurrently
+            return Optional.empty();
+        } catch (IOException | DateTimeParseException | NumberFormatException e) {
+            LOGGER.debug("Could not read cached response {}", key, e);
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given response, unless the response headers forbid it.
+     *
+     * @param responseHeaders the header fields of the response as returned by {@link java.net.URLConnection#getHeaderFields()}
+     */
+    public void put(String key, URL url, byte[] body, Map<String, List<String>> responseHeaders) {
+        Optional<String> cacheControl = getHeader(responseHeaders, "Cache-Control").map(value -> value.toLowerCase(Locale.ROOT));
+        if (cacheControl.filter(value -> value.contains("no-store")).isPresent()) {
+            return;
+        }
+
+        Properties metadata = new Properties();
+        metadata.setProperty(URL_KEY, url.toString());
+        metadata.setProperty(STORED_AT_KEY, Instant.now().toString());
+        getMaxAge(cacheControl, responseHeaders).ifPresent(maxAge -> metadata.setProperty(MAX_AGE_KEY, Long.toString(maxAge.toSeconds())));
+        getHeader(responseHeaders, "ETag").ifPresent(eTag -> metadata.setProperty(ETAG_KEY, eTag));
+        getHeader(responseHeaders, "Last-Modified").ifPresent(lastModified -> metadata.setProperty(LAST_MODIFIED_KEY, lastModified));
+        metadata.setProperty(NO_CACHE_KEY, Boolean.toString(cacheControl.filter(value -> value.contains("no-cache")).isPresent()));
+
+        Path temporaryBodyFile = null;
+        Path temporaryMetadataFile = null;
+        try {
+            temporaryBodyFile = Files.createTempFile(directory, key, TEMPORARY_EXTENSION);
+            Files.write(temporaryBodyFile, body);
+            temporaryMetadataFile = Files.createTempFile(directory, key, TEMPORARY_EXTENSION);
+            try (OutputStream metadataStream = Files.newOutputStream(temporaryMetadataFile)) {
+                metadata.store(metadataStream, null);
+            }
+            replace(key, temporaryBodyFile, temporaryMetadataFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache response of {}", url, e);
+            remove(key);
+            return;
+        } finally {
+            // only present if moving them into place failed
+            if (temporaryBodyFile != null) {
+                deleteQuietly(temporaryBodyFile);
+            }
+            if (temporaryMetadataFile != null) {
+                deleteQuietly(temporaryMetadataFile);
+            }
+        }
+        evictIfNeeded();
+    }
+
+    /**
+     * Moves the given files into place, replacing the cached response of the key. The metadata is moved last, because
+     * {@link #get(String)} considers a response as cached only if its metadata exists.
+     */
+    private synchronized void replace(String key, Path temporaryBodyFile, Path temporaryMetadataFile) throws IOException {
+        Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+        Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+        long newSize = sizeOf(temporaryBodyFile) + sizeOf(temporaryMetadataFile);
+        long oldSize = sizeOf(bodyFile) + sizeOf(metadataFile);
+        Files.move(temporaryBodyFile, bodyFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temporaryMetadataFile, metadataFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        currentSizeInBytes.addAndGet(newSize - oldSize);
+    }
+
+    /**
+     * Marks the cached response as fresh again after the server confirmed it is unchanged (HTTP 304).
+     */
+    public void markRevalidated(String key, URL url, CachedResponse cachedResponse, Map<String, List<String>> responseHeaders) {
+        revalidations.incrementAndGet();
+        put(key, url, cachedResponse.body(), mergeValidators(cachedResponse, responseHeaders));
+    }
+
+    public void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    public long getSizeInBytes() {
+        return currentSizeInBytes.get();
+    }
+
+    private synchronized void remove(String key) {
+        for (String extension : List.of(BODY_EXTENSION, METADATA_EXTENSION)) {
+            Path file = directory.resolve(key + extension);
+            long size = sizeOf(file);
+            try {
+                if (Files.deleteIfExists(file)) {
+                    currentSizeInBytes.addAndGet(-size);
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Could not delete {}", file, e);
+            }
+        }
+    }
+
+    private synchronized void evictIfNeeded() {
+        if (currentSizeInBytes.get() <= maxSizeInBytes) {
+            return;
+        }
+        // remove the least recently used responses until 90% of the maximum size is reached
+        long targetSize = maxSizeInBytes * 9 / 10;
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> bodies = files.filter(file -> file.getFileName().toString().endsWith(BODY_EXTENSION))
+                                     .sorted(Comparator.comparing(HttpResponseCache::lastModifiedTime))
+                                     .toList();
+            for (Path body : bodies) {
+                if (currentSizeInBytes.get() <= targetSize) {
+                    break;
+                }
+                String fileName = body.getFileName().toString();
+                remove(fileName.substring(0, fileName.length() - BODY_EXTENSION.length()));
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not shrink HTTP cache", e);
+        }
+        LOGGER.debug("HTTP cache: {} hits, {} misses, {} revalidations, {} bytes", hits.get(), misses.get(), revalidations.get(), currentSizeInBytes.get());
+    }
+
+    private static Map<String, List<String>> mergeValidators(CachedResponse cachedResponse, Map<String, List<String>> responseHeaders) {
+        // A 304 response may omit the validators, then the ones of the cached response stay valid
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        cachedResponse.eTag().ifPresent(eTag -> headers.put("ETag", List.of(eTag)));
+        cachedResponse.lastModified().ifPresent(lastModified -> headers.put("Last-Modified", List.of(lastModified)));
+        responseHeaders.forEach((name, values) -> {
+            if (name != null) {
+                headers.put(name, values);
+            }
+        });
+        return headers;
+    }
+
+    private static Optional<Duration> getMaxAge(Optional<String> cacheControl, Map<String, List<String>> responseHeaders) {
+        if (cacheControl.isPresent()) {
+            for (String directive : cacheControl.get().split(",")) {
+                String trimmed = directive.trim();
+                if (trimmed.startsWith("max-age=")) {
+                    try {
+                        return Optional.of(Duration.ofSeconds(Long.parseLong(trimmed.substring("max-age=".length()).replace("\"", ""))));
+                    } catch (NumberFormatException e) {
+                        LOGGER.debug("Invalid max-age directive {}", trimmed);
+                    }
+                }
+            }
+        }
+        return getHeader(responseHeaders, "Expires").flatMap(expires -> {
+            try {
+                Instant expiresAt = ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return Optional.of(Duration.between(Instant.now(), expiresAt)).filter(duration -> !duration.isNegative());
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static Optional<String> getHeader(Map<String, List<String>> headers, String name) {
+        return headers.entrySet().stream()
+                      .filter(entry -> name.equalsIgnoreCase(entry.getKey()))
+                      .flatMap(entry -> entry.getValue().stream())
+                      .findFirst();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isTemporary(Path file) {
+        return file.getFileName().toString().endsWith(TEMPORARY_EXTENSION);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete {}", file, e);
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.net;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,8 +28,10 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -63,7 +66,8 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection). Responses are only cached if a cache is set via {@link #useCache(HttpResponseCache)};
+ * then, {@link #asString(Charset)} and {@link #asInputStream()} serve GET requests from the cache when possible.
  */
 public class URLDownload {
 
@@ -77,6 +81,8 @@ public class URLDownload {
     private String postData = "";
     private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     private SSLContext sslContext;
+    private Optional<HttpResponseCache> cache = Optional.empty();
+    private Optional<Duration> cacheTimeToLive = Optional.empty();
 
     static {
         Unirest.config()
@@ -189,6 +195,26 @@ public class URLDownload {
         this.parameters.put(key, value);
     }
 
+    /**
+     * Serves GET requests from the given cache. The freshness of a cached response is determined by the response headers.
+     */
+    public URLDownload useCache(HttpResponseCache cache) {
+        this.cache = Optional.of(cache);
+        this.cacheTimeToLive = Optional.empty();
+        return this;
+    }
+
+    /**
+     * Serves GET requests from the given cache.
+     *
+     * @param timeToLive the time a cached response is used without asking the server again, regardless of the response headers
+     */
+    public URLDownload useCache(HttpResponseCache cache, Duration timeToLive) {
+        this.cache = Optional.of(cache);
+        this.cacheTimeToLive = Optional.of(timeToLive);
+        return this;
+    }
+
     public void setPostData(String postData) {
         if (postData != null) {
             this.postData = postData;
@@ -201,7 +227,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws FetcherException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -211,6 +237,15 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws FetcherException {
+        if (isCacheable()) {
+            try (InputStream input = new ByteArrayInputStream(downloadUsingCache());
+                 Writer output = new StringWriter()) {
+                copy(input, output, encoding);
+                return output.toString();
+            } catch (IOException e) {
+                throw new FetcherException("Error downloading", e);
+            }
+        }
         return asString(encoding, this.openConnection());
     }
 
@@ -275,6 +310,11 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws FetcherException {
+        if (isCacheable()) {
+            byte[] body = downloadUsingCache();
+            return new ProgressInputStream(new BufferedInputStream(new ByteArrayInputStream(body)), body.length);
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         int responseCode;
@@ -342,6 +382,47 @@ public class URLDownload {
         }
     }
 
+    private boolean isCacheable() {
+        return cache.isPresent() && this.postData.isEmpty();
+    }
+
+    /**
+     * Returns the body of the response, either from the cache or from the server. Stale cached responses are revalidated
+     * using a conditional request.
+     */
+    private byte[] downloadUsingCache() throws FetcherException {
+        HttpResponseCache responseCache = cache.orElseThrow();
+        String key = HttpResponseCache.getKey(source, parameters);
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = responseCache.get(key);
+        if (cachedResponse.isPresent() && cachedResponse.get().isFresh(Instant.now(), cacheTimeToLive)) {
+            responseCache.recordHit();
+            return cachedResponse.get().body();
+        }
+
+        Map<String, String> conditionalHeaders = new LinkedHashMap<>();
+        cachedResponse.flatMap(HttpResponseCache.CachedResponse::eTag).ifPresent(eTag -> conditionalHeaders.put("If-None-Match", eTag));
+        cachedResponse.flatMap(HttpResponseCache.CachedResponse::lastModified).ifPresent(lastModified -> conditionalHeaders.put("If-Modified-Since", lastModified));
+
+        URLConnection connection = openConnection(conditionalHeaders);
+        try {
+            if (cachedResponse.isPresent()
+                    && (connection instanceof HttpURLConnection httpURLConnection)
+                    && (httpURLConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED)) {
+                responseCache.markRevalidated(key, source, cachedResponse.get(), connection.getHeaderFields());
+                return cachedResponse.get().body();
+            }
+            byte[] body;
+            try (InputStream input = new BufferedInputStream(connection.getInputStream())) {
+                body = input.readAllBytes();
+            }
+            responseCache.recordMiss();
+            responseCache.put(key, source, body, connection.getHeaderFields());
+            return body;
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
     /**
      * Open a connection to this object's URL (with specified settings).
      * <p>
@@ -350,9 +431,13 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws FetcherException {
+        return openConnection(Map.of());
+    }
+
+    private URLConnection openConnection(Map<String, String> additionalHeaders) throws FetcherException {
         URLConnection connection;
         try {
-            connection = getUrlConnection();
+            connection = getUrlConnection(additionalHeaders);
         } catch (IOException e) {
             throw new FetcherException("Error opening connection", e);
         }
@@ -394,7 +479,7 @@ public class URLDownload {
         return connection;
     }
 
-    private URLConnection getUrlConnection() throws IOException {
+    private URLConnection getUrlConnection(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
 
         if (connection instanceof HttpURLConnection httpConnection) {
@@ -409,6 +494,7 @@ public class URLDownload {
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        additionalHeaders.forEach(connection::setRequestProperty);
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
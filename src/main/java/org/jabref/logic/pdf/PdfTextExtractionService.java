@@ -0,0 +1,326 @@
+package org.jabref.logic.pdf;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jabref.logic.util.Directories;
+import org.jabref.logic.xmp.XmpUtilReader;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extracts the text and the annotation contents of each page of a PDF file and caches the result on disk.
+ * <p>
+ * Parsing a PDF with PDFBox is expensive, and the same file is read by the fulltext indexer, the AI ingestion and
+ * summarization, and the importers. The cache is keyed by the SHA-256 hash of the file content, thus renamed or copied
+ * files are not parsed again, and changed files are parsed again. Concurrent requests for the same content are
+ * coalesced into a single extraction.
+ * <p>
+ * The cache is bounded in size. If it grows too large, the least recently used files are removed.
+ */
+public class PdfTextExtractionService {
+
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 200L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PdfTextExtractionService.class);
+
+    // Increase if the extraction or the file format changes; files of other versions are ignored
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".pages.gz";
+
+    private static PdfTextExtractionService defaultService;
+
+    /**
+     * The content of one page
+     *
+     * @param text        the text of the page, lines are separated by {@code \n}
+     * @param annotations the contents of the annotations of the page, annotations without content are omitted
+     */
+    public record PdfPage(String text, List<String> annotations) {
+    }
+
+    /**
+     * The content of a PDF file. The first page has index 0.
+     */
+    public record PdfContent(List<PdfPage> pages) {
+        public int getNumberOfPages() {
+            return pages.size();
+        }
+
+        /**
+         * Returns the text of all pages, as extracted by a {@link PDFTextStripper} processing the whole document
+         */
+        public String getText() {
+            return pages.stream().map(PdfPage::text).collect(Collectors.joining());
+        }
+    }
+
+    private record FileStamp(long size, FileTime lastModified, String contentHash) {
+    }
+
+    private final Path cacheDirectory;
+    private final long maxSizeInBytes;
+    private final AtomicLong currentSizeInBytes = new AtomicLong();
+
+    // Avoids hashing unchanged files again
+    private final Cache<Path, FileStamp> fileStamps = CacheBuilder.newBuilder().maximumSize(10_000).build();
+    private final Map<String, CompletableFuture<PdfContent>> runningExtractions = new ConcurrentHashMap<>();
+
+    public PdfTextExtractionService(Path cacheDirectory, long maxSizeInBytes) {
+        this.cacheDirectory = cacheDirectory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        try {
+            Files.createDirectories(cacheDirectory);
+            try (Stream<Path> files = Files.list(cacheDirectory)) {
+                currentSizeInBytes.set(files.mapToLong(PdfTextExtractionService::sizeOf).sum());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not initialize PDF text cache directory {}", cacheDirectory, e);
+        }
+    }
+
+    public static synchronized PdfTextExtractionService getDefault() {
+        if (defaultService == null) {
+            defaultService = new PdfTextExtractionService(Directories.getPdfTextCacheDirectory(), DEFAULT_MAX_SIZE_IN_BYTES);
+        }
+        return defaultService;
+    }
+
+    public PdfContent getContent(Path pdfFile) throws IOException {
+        return getContent(pdfFile, () -> false);
+    }
+
+    /**
+     * Returns the content of the given PDF file, either from the cache or by parsing the file.
+     *
+     * @param isCancelled checked between pages; if it returns true, the extraction is aborted with an {@link InterruptedIOException}
+     */
+    public PdfContent getContent(Path pdfFile, BooleanSupplier isCancelled) throws IOException {
+        Objects.requireNonNull(pdfFile);
+        String key = getContentHash(pdfFile);
+
+        while (true) {
+            CompletableFuture<PdfContent> extraction = new CompletableFuture<>();
+            CompletableFuture<PdfContent> runningExtraction = runningExtractions.putIfAbsent(key, extraction);
+            if (runningExtraction == null) {
+                return extract(key, pdfFile, isCancelled, extraction);
+            }
+            try {
+                return runningExtraction.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the text of " + pdfFile);
+            } catch (CancellationException e) {
+                // The other caller cancelled its extraction; try again on our own
+                LOGGER.debug("Extraction of {} was cancelled by another caller", pdfFile);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw new IOException("Could not extract text of " + pdfFile, e.getCause());
+            }
+        }
+    }
+
+    private PdfContent extract(String key, Path pdfFile, BooleanSupplier isCancelled, CompletableFuture<PdfContent> extraction) throws IOException {
+        try {
+            Optional<PdfContent> cached = readFromCache(key);
+            if (cached.isPresent()) {
+                extraction.complete(cached.get());
+                return cached.get();
+            }
+            PdfContent content = parse(pdfFile, isCancelled);
+            writeToCache(key, content);
+            extraction.complete(content);
+            return content;
+        } catch (InterruptedIOException e) {
+            extraction.cancel(false);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            extraction.completeExceptionally(e);
+            throw e;
+        } finally {
+            runningExtractions.remove(key, extraction);
+        }
+    }
+
+    private static PdfContent parse(Path pdfFile, BooleanSupplier isCancelled) throws IOException {
+        LOGGER.debug("Extracting text of {}", pdfFile);
+        try (PDDocument document = new XmpUtilReader().loadWithAutomaticDecryption(pdfFile)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setLineSeparator("\n");
+            List<PdfPage> pages = new ArrayList<>(document.getNumberOfPages());
+            for (int pageNumber = 1; pageNumber <= document.getNumberOfPages(); pageNumber++) {
+                if (isCancelled.getAsBoolean()) {
+                    throw new InterruptedIOException("Extraction of " + pdfFile + " was cancelled");
+                }
+                // PDFTextStripper is 1-based, the page tree is 0-based
+                stripper.setStartPage(pageNumber);
+                stripper.setEndPage(pageNumber);
+                String text = stripper.getText(document);
+                List<String> annotations = document.getPage(pageNumber - 1)
+                                                   .getAnnotations()
+                                                   .stream()
+                                                   .map(PDAnnotation::getContents)
+                                                   .filter(Objects::nonNull)
+                                                   .toList();
+                pages.add(new PdfPage(text, annotations));
+            }
+            return new PdfContent(List.copyOf(pages));
+        }
+    }
+
+    private String getContentHash(Path pdfFile) throws IOException {
+        Path absolutePath = pdfFile.toAbsolutePath();
+        long size = Files.size(absolutePath);
+        FileTime lastModified = Files.getLastModifiedTime(absolutePath);
+        FileStamp stamp = fileStamps.getIfPresent(absolutePath);
+        if ((stamp != null) && (stamp.size() == size) && stamp.lastModified().equals(lastModified)) {
+            return stamp.contentHash();
+        }
+        String contentHash = MoreFiles.asByteSource(absolutePath).hash(Hashing.sha256()).toString();
+        fileStamps.put(absolutePath, new FileStamp(size, lastModified, contentHash));
+        return contentHash;
+    }
+
+    private Optional<PdfContent> readFromCache(String key) {
+        Path cacheFile = cacheDirectory.resolve(key + EXTENSION);
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(cacheFile))))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            int numberOfPages = input.readInt();
+            List<PdfPage> pages = new ArrayList<>(numberOfPages);
+            for (int page = 0; page < numberOfPages; page++) {
+                String text = readString(input);
+                int numberOfAnnotations = input.readInt();
+                List<String> annotations = new ArrayList<>(numberOfAnnotations);
+                for (int annotation = 0; annotation < numberOfAnnotations; annotation++) {
+                    annotations.add(readString(input));
+                }
+                pages.add(new PdfPage(text, List.copyOf(annotations)));
+            }
+            // the modification time tracks the last access for eviction
+            Files.setLastModifiedTime(cacheFile, FileTime.from(Instant.now()));
+            return Optional.of(new PdfContent(List.copyOf(pages)));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read cached text {}", cacheFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeToCache(String key, PdfContent content) {
+        Path cacheFile = cacheDirectory.resolve(key + EXTENSION);
+        try {
+            Path temporaryFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile))))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeInt(content.pages().size());
+                for (PdfPage page : content.pages()) {
+                    writeString(output, page.text());
+                    output.writeInt(page.annotations().size());
+                    for (String annotation : page.annotations()) {
+                        writeString(output, annotation);
+                    }
+                }
+            }
+            long previousSize = sizeOf(cacheFile);
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            currentSizeInBytes.addAndGet(sizeOf(cacheFile) - previousSize);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache text of {}", key, e);
+            return;
+        }
+        evictIfNeeded();
+    }
+
+    private synchronized void evictIfNeeded() {
+        if (currentSizeInBytes.get() <= maxSizeInBytes) {
+            return;
+        }
+        // remove the least recently used files until 90% of the maximum size is reached
+        long targetSize = maxSizeInBytes * 9 / 10;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            List<Path> cacheFiles = files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                                         .sorted(Comparator.comparing(PdfTextExtractionService::lastModifiedTime))
+                                         .toList();
+            for (Path cacheFile : cacheFiles) {
+                if (currentSizeInBytes.get() <= targetSize) {
+                    break;
+                }
+                long size = sizeOf(cacheFile);
+                if (Files.deleteIfExists(cacheFile)) {
+                    currentSizeInBytes.addAndGet(-size);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not shrink PDF text cache", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        // DataOutputStream#writeUTF is limited to 64 KB, which a page of text may exceed
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javafx.util.Pair;
 
@@ -17,7 +19,8 @@ import org.slf4j.LoggerFactory;
 public class RemoteListenerServer implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(RemoteListenerServer.class);
 
-    private static final int BACKLOG = 1;
+    // Allows bursts of requests, e.g., by a script importing several files
+    private static final int BACKLOG = 50;
 
     private static final int TIMEOUT = 1000;
 
@@ -29,27 +32,42 @@ public class RemoteListenerServer implements Runnable {
         this.messageHandler = messageHandler;
     }
 
+    /**
+     * Accepts connections until the server socket is closed. Each connection is handled on its own virtual thread,
+     * thus a slow request does not block the following ones.
+     */
     @Override
     public void run() {
-        try {
+        try (ExecutorService connectionExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
             while (!Thread.interrupted()) {
-                try (Socket socket = serverSocket.accept()) {
-                    socket.setSoTimeout(TIMEOUT);
-                    try (Protocol protocol = new Protocol(socket)) {
-                        Pair<RemoteMessage, Object> input = protocol.receiveMessage();
-                        handleMessage(protocol, input.getKey(), input.getValue());
-                    }
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
                 } catch (SocketException ex) {
                     return;
                 } catch (IOException e) {
                     LOGGER.warn("RemoteListenerServer crashed", e);
+                    continue;
                 }
+                connectionExecutor.execute(() -> handleConnection(socket));
             }
         } finally {
             closeServerSocket();
         }
     }
 
+    private void handleConnection(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout(TIMEOUT);
+            try (Protocol protocol = new Protocol(socket)) {
+                Pair<RemoteMessage, Object> input = protocol.receiveMessage();
+                handleMessage(protocol, input.getKey(), input.getValue());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not handle remote request", e);
+        }
+    }
+
     private void handleMessage(Protocol protocol, RemoteMessage type, Object argument) throws IOException {
         switch (type) {
             case PING:
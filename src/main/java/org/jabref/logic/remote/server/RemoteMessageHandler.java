@@ -1,5 +1,9 @@
 package org.jabref.logic.remote.server;
 
+/**
+ * Handles the requests received by the {@link RemoteListenerServer}. Requests are handled concurrently, thus
+ * implementations have to be thread-safe.
+ */
 @FunctionalInterface
 public interface RemoteMessageHandler {
     void handleCommandLineArguments(String[] message);
@@ -0,0 +1,129 @@
+package org.jabref.logic.remote.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+import java.util.function.Consumer;
+
+import org.jabref.logic.UiCommand;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Collects the UI commands of remote requests arriving within a short time window and hands them over as one batch.
+ * <p>
+ * Results to be imported into the opened library (e.g., by {@code --importToOpen}) are merged into a single result.
+ * Thus, a script or the browser extension sending dozens of import requests in quick succession causes a single import
+ * instead of one import dialog per request. Only results consisting of entries alone are merged; results carrying
+ * library data such as @String constants or groups are kept as they are.
+ */
+public class UiCommandBatcher {
+
+    public static final int DEFAULT_WINDOW_IN_MILLISECONDS = 300;
+
+    private final Consumer<List<UiCommand>> consumer;
+    private final int windowInMilliseconds;
+
+    private final List<UiCommand> pendingCommands = new ArrayList<>();
+    private boolean flushScheduled;
+
+    /**
+     * @param consumer receives the batches; called on a timer thread
+     */
+    public UiCommandBatcher(Consumer<List<UiCommand>> consumer) {
+        this(consumer, DEFAULT_WINDOW_IN_MILLISECONDS);
+    }
+
+    public UiCommandBatcher(Consumer<List<UiCommand>> consumer, int windowInMilliseconds) {
+        this.consumer = consumer;
+        this.windowInMilliseconds = windowInMilliseconds;
+    }
+
+    /**
+     * Adds the commands of one request. They are handed over at the end of the window started by the first request of
+     * the batch.
+     */
+    public synchronized void add(List<UiCommand> uiCommands) {
+        pendingCommands.addAll(uiCommands);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            HeadlessExecutorService.INSTANCE.submit(new TimerTask() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            }, windowInMilliseconds);
+        }
+    }
+
+    private void flush() {
+        List<UiCommand> batch;
+        synchronized (this) {
+            batch = merge(pendingCommands);
+            pendingCommands.clear();
+            flushScheduled = false;
+        }
+        consumer.accept(batch);
+    }
+
+    /**
+     * Combines all {@link UiCommand.OpenDatabases} commands into one, which is placed at the position of the first one.
+     * Valid results to be imported into the opened library are merged into one result if they consist of entries only.
+     * The merged result takes the path of the first one. Other commands are kept.
+     */
+    @VisibleForTesting
+    static List<UiCommand> merge(List<UiCommand> uiCommands) {
+        List<UiCommand> merged = new ArrayList<>();
+        List<ParserResult> parserResults = new ArrayList<>();
+        List<ParserResult> mergeable = new ArrayList<>();
+        boolean openDatabasesAdded = false;
+        for (UiCommand uiCommand : uiCommands) {
+            if (uiCommand instanceof UiCommand.OpenDatabases openDatabases) {
+                for (ParserResult result : openDatabases.parserResults()) {
+                    if (isMergeable(result)) {
+                        mergeable.add(result);
+                    } else {
+                        parserResults.add(result);
+                    }
+                }
+                if (!openDatabasesAdded) {
+                    // the list is filled below; the receiver may modify it
+                    merged.add(new UiCommand.OpenDatabases(parserResults));
+                    openDatabasesAdded = true;
+                }
+            } else {
+                merged.add(uiCommand);
+            }
+        }
+
+        if (mergeable.size() == 1) {
+            parserResults.add(mergeable.getFirst());
+        } else if (mergeable.size() > 1) {
+            List<BibEntry> entries = new ArrayList<>();
+            mergeable.forEach(result -> entries.addAll(result.getDatabase().getEntries()));
+            ParserResult combined = new ParserResult(entries);
+            mergeable.getFirst().getPath().ifPresent(combined::setPath);
+            mergeable.forEach(result -> result.warnings().forEach(combined::addWarning));
+            combined.setToOpenTab();
+            parserResults.add(combined);
+        }
+        return merged;
+    }
+
+    /**
+     * A result can be merged if it is to be imported into the opened library and there is nothing besides the entries
+     * which would be lost (@String constants, preamble, metadata such as groups, or custom entry types)
+     */
+    private static boolean isMergeable(ParserResult result) {
+        return result.toOpenTab()
+                && !result.isInvalid()
+                && !result.getDatabase().isShared()
+                && result.getDatabase().hasNoStrings()
+                && result.getDatabase().getPreamble().isEmpty()
+                && result.getMetaData().isEmpty()
+                && result.getEntryTypes().isEmpty();
+    }
+}
@@ -170,6 +170,38 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Updates the index for all field changes of a committed transaction in one background task
+     */
+    public void updateEntries(List<FieldChangedEvent> fieldChanges) {
+        List<BibEntry> changedEntries = fieldChanges.stream().map(FieldChangedEvent::getBibEntry).distinct().toList();
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                for (FieldChangedEvent fieldChange : fieldChanges) {
+                    bibFieldsIndexer.updateEntry(fieldChange.getBibEntry(), fieldChange.getField());
+                }
+                return null;
+            }
+        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(changedEntries)))
+         .executeWith(taskExecutor);
+
+        List<FieldChangedEvent> fileChanges = fieldChanges.stream()
+                                                          .filter(fieldChange -> fieldChange.getField().equals(StandardField.FILE))
+                                                          .toList();
+        if (shouldIndexLinkedFiles.get() && !fileChanges.isEmpty()) {
+            new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    for (FieldChangedEvent fileChange : fileChanges) {
+                        linkedFilesIndexer.updateEntry(fileChange.getBibEntry(), fileChange.getOldValue(), fileChange.getNewValue(), this);
+                    }
+                    return null;
+                }
+            }.executeWith(taskExecutor);
+        }
+    }
+
     public void rebuildFullTextIndex() {
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
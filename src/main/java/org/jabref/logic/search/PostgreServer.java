@@ -3,6 +3,10 @@ package org.jabref.logic.search;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
@@ -16,10 +20,24 @@ import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
 
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
-    private final EmbeddedPostgres embeddedPostgres;
-    private final DataSource dataSource;
+    private final CompletableFuture<Void> started;
+    private EmbeddedPostgres embeddedPostgres;
+    private DataSource dataSource;
 
     public PostgreServer() {
+        start();
+        this.started = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Starts the server using the given executor, so that the caller does not have to wait for the server process.
+     * The first call of {@link #getConnection()} waits until the server is started.
+     */
+    public PostgreServer(Executor executor) {
+        this.started = CompletableFuture.runAsync(this::start, executor);
+    }
+
+    private void start() {
         EmbeddedPostgres embeddedPostgres;
         try {
             embeddedPostgres = EmbeddedPostgres.builder()
@@ -76,7 +94,16 @@ public class PostgreServer {
         }
     }
 
+    private void awaitStart() {
+        try {
+            started.join();
+        } catch (CompletionException | CancellationException e) {
+            LOGGER.error("Could not start Postgres server", e);
+        }
+    }
+
     public Connection getConnection() {
+        awaitStart();
         if (dataSource != null) {
             try {
                 return dataSource.getConnection();
@@ -88,6 +115,7 @@ public class PostgreServer {
     }
 
     public void shutdown() {
+        awaitStart();
         if (embeddedPostgres != null) {
             try {
                 embeddedPostgres.close();
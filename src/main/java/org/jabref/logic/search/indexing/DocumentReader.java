@@ -5,21 +5,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import org.jabref.logic.pdf.PdfTextExtractionService;
+import org.jabref.logic.pdf.PdfTextExtractionService.PdfContent;
+import org.jabref.logic.pdf.PdfTextExtractionService.PdfPage;
 import org.jabref.model.strings.StringUtil;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,16 +35,26 @@ public final class DocumentReader {
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
 
+    private final PdfTextExtractionService textExtractionService;
+
+    public DocumentReader() {
+        this(PdfTextExtractionService.getDefault());
+    }
+
+    public DocumentReader(PdfTextExtractionService textExtractionService) {
+        this.textExtractionService = textExtractionService;
+    }
+
     public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
         List<Document> pages = new ArrayList<>();
-        try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
-            int numberOfPages = pdfDocument.getNumberOfPages();
-            LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
-            for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
+        try {
+            PdfContent pdfContent = textExtractionService.getContent(resolvedPdfPath);
+            LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), pdfContent.getNumberOfPages());
+            for (int pageNumber = 1; pageNumber <= pdfContent.getNumberOfPages(); pageNumber++) {
                 Document newDocument = new Document();
                 addIdentifiers(newDocument, fileLink);
                 addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
+                addContentIfNotEmpty(pdfContent.pages().get(pageNumber - 1), newDocument);
 
                 pages.add(newDocument);
             }
@@ -90,31 +97,12 @@ public final class DocumentReader {
         addStringField(newDocument, PAGE_NUMBER.toString(), String.valueOf(pageNumber));
     }
 
-    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber) {
-        PDFTextStripper pdfTextStripper = new PDFTextStripper();
-        pdfTextStripper.setLineSeparator("\n");
-        pdfTextStripper.setStartPage(pageNumber);
-        pdfTextStripper.setEndPage(pageNumber);
-
-        try {
-            String pdfContent = pdfTextStripper.getText(pdfDocument);
-            if (StringUtil.isNotBlank(pdfContent)) {
-                newDocument.add(new TextField(CONTENT.toString(), mergeLines(pdfContent), Field.Store.YES));
-            }
-
-            // Apache PDFTextStripper is 1-based. See {@link org.apache.pdfbox.text.PDFTextStripper.processPages}
-            PDPage page = pdfDocument.getPage(pageNumber - 1);
-            List<String> annotations = page.getAnnotations()
-                                           .stream()
-                                           .map(PDAnnotation::getContents)
-                                           .filter(Objects::nonNull)
-                                           .toList();
-
-            if (!annotations.isEmpty()) {
-                newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", annotations), Field.Store.YES));
-            }
-        } catch (IOException e) {
-            LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPath.toAbsolutePath(), e);
+    private void addContentIfNotEmpty(PdfPage page, Document newDocument) {
+        if (StringUtil.isNotBlank(page.text())) {
+            newDocument.add(new TextField(CONTENT.toString(), mergeLines(page.text()), Field.Store.YES));
+        }
+        if (!page.annotations().isEmpty()) {
+            newDocument.add(new TextField(ANNOTATIONS.toString(), String.join("\n", page.annotations()), Field.Store.YES));
         }
     }
 
@@ -1,25 +1,21 @@
 package org.jabref.logic.search.retrieval;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
-import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.field.Field;
-import org.jabref.model.search.PostgreConstants;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
+import org.jabref.model.util.ParsedValueCache;
 import org.jabref.model.util.Range;
 
-import com.airhacks.afterburner.injection.Injector;
-import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -28,84 +24,167 @@ import org.jsoup.nodes.TextNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Highlights the terms of a search query. The search pattern built by {@link #buildSearchPattern(List)} is treated as a
+ * case-insensitive regular expression, as done by the Postgres functions formerly used for highlighting. Compiled
+ * patterns are cached, because the same query is highlighted on each selection change.
+ * <p>
+ * Regular expression search terms are matched by Postgres, which uses its "advanced regular expression" (ARE) syntax.
+ * The ARE constructs without an equivalent in {@link Pattern} syntax (word boundaries such as {@code \m}, {@code \M},
+ * {@code \y}, and POSIX classes such as {@code [[:alpha:]]}) are translated by {@link #toJavaRegex(String)}. Other
+ * differences (e.g., embedded options, back references inside brackets) are not translated; such terms may be
+ * highlighted differently or not at all.
+ */
 public class Highlighter {
     private static final Logger LOGGER = LoggerFactory.getLogger(Highlighter.class);
 
-    /**
-     * Functions defined in {@link PostgreConstants#POSTGRES_FUNCTIONS}
-     */
-    private static final String REGEXP_MARK = "SELECT regexp_mark(?, ?)";
-    private static final String REGEXP_POSITIONS = "SELECT * FROM regexp_positions(?, ?)";
-    private static Connection connection;
+    private static final String MARK_REPLACEMENT = "<mark style=\"background: orange\">$1</mark>";
+    private static final ParsedValueCache<String, Optional<Pattern>> PATTERN_CACHE = ParsedValueCache.create("Highlighter", 100);
+
+    private static final Map<Character, String> ARE_ESCAPES = Map.of(
+            'm', "\\b(?=\\w)",
+            'M', "\\b(?<=\\w)",
+            'y', "\\b",
+            'Y', "\\B");
+
+    private static final Map<String, String> POSIX_CLASSES = Map.ofEntries(
+            Map.entry("alnum", "\\p{Alnum}"),
+            Map.entry("alpha", "\\p{Alpha}"),
+            Map.entry("blank", "\\p{Blank}"),
+            Map.entry("cntrl", "\\p{Cntrl}"),
+            Map.entry("digit", "\\p{Digit}"),
+            Map.entry("graph", "\\p{Graph}"),
+            Map.entry("lower", "\\p{Lower}"),
+            Map.entry("print", "\\p{Print}"),
+            Map.entry("punct", "\\p{Punct}"),
+            Map.entry("space", "\\s"),
+            Map.entry("upper", "\\p{Upper}"),
+            Map.entry("word", "\\w"),
+            Map.entry("xdigit", "\\p{XDigit}"));
 
     public static String highlightHtml(String htmlText, SearchQuery searchQuery) {
-        Optional<String> searchTermsPattern = buildSearchPattern(searchQuery);
+        Optional<Pattern> searchTermsPattern = buildSearchPattern(searchQuery).flatMap(Highlighter::compile);
         if (searchTermsPattern.isEmpty()) {
             return htmlText;
         }
 
         Document document = Jsoup.parse(htmlText);
-        try {
-            highlightTextNodes(document.body(), searchTermsPattern.get());
-            return document.outerHtml();
-        } catch (InvalidTokenOffsetsException e) {
-            LOGGER.debug("Error highlighting search terms in HTML", e);
-            return htmlText;
+        List<TextNode> textNodes = new ArrayList<>();
+        collectTextNodes(document.body(), textNodes);
+
+        Matcher matcher = searchTermsPattern.get().matcher("");
+        for (TextNode textNode : textNodes) {
+            matcher.reset(textNode.text());
+            if (matcher.find()) {
+                String highlightedText = matcher.replaceAll(MARK_REPLACEMENT);
+                textNode.text("");
+                textNode.after(highlightedText);
+            }
         }
+        return document.outerHtml();
     }
 
-    private static void highlightTextNodes(Element element, String searchPattern) throws InvalidTokenOffsetsException {
+    private static void collectTextNodes(Element element, List<TextNode> textNodes) {
         for (Node node : element.childNodes()) {
             if (node instanceof TextNode textNode) {
-                String highlightedText = highlightNode(textNode.text(), searchPattern);
-                textNode.text("");
-                textNode.after(highlightedText);
-            } else if (node instanceof Element element1) {
-                highlightTextNodes(element1, searchPattern);
+                textNodes.add(textNode);
+            } else if (node instanceof Element child) {
+                collectTextNodes(child, textNodes);
             }
         }
     }
 
-    private static String highlightNode(String text, String searchPattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
+    /**
+     * @return the ranges of the matches. The start is 1-based, the end is inclusive.
+     */
+    public static List<Range> findMatchPositions(String text, String pattern) {
+        Optional<Pattern> compiledPattern = compile(pattern);
+        if (compiledPattern.isEmpty()) {
+            return List.of();
         }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_MARK)) {
-            preparedStatement.setString(1, text);
-            preparedStatement.setString(2, searchPattern);
-
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getString(1);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("Error highlighting search terms in text", e);
+        List<Range> positions = new ArrayList<>();
+        Matcher matcher = compiledPattern.get().matcher(text);
+        while (matcher.find()) {
+            positions.add(new Range(matcher.start() + 1, matcher.end()));
         }
-        return text;
+        return positions;
     }
 
-    public static List<Range> findMatchPositions(String text, String pattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_POSITIONS)) {
-            preparedStatement.setString(1, text);
-            preparedStatement.setString(2, pattern);
+    private static Optional<Pattern> compile(String searchPattern) {
+        return PATTERN_CACHE.get(searchPattern, pattern -> {
+            try {
+                // Postgres matches word characters and classes of all scripts, too
+                return Optional.of(Pattern.compile("(" + toJavaRegex(pattern) + ")", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.UNICODE_CHARACTER_CLASS));
+            } catch (PatternSyntaxException e) {
+                LOGGER.debug("Invalid search pattern {}", pattern, e);
+                return Optional.empty();
+            }
+        });
+    }
 
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                List<Range> positions = new ArrayList<>();
-                while (resultSet.next()) {
-                    positions.add(new Range(resultSet.getInt(1), resultSet.getInt(2)));
+    /**
+     * Translates the constructs of a Postgres ARE which {@link Pattern} does not know. All other characters are kept.
+     * <ul>
+     *     <li>{@code \m} and {@code \M} (start and end of a word), {@code \y} and {@code \Y} (at and not at a word boundary)</li>
+     *     <li>{@code [[:<:]]} and {@code [[:>:]]} (start and end of a word)</li>
+     *     <li>POSIX classes inside brackets, e.g., {@code [[:alpha:]]}</li>
+     * </ul>
+     */
+    static String toJavaRegex(String areRegex) {
+        StringBuilder javaRegex = new StringBuilder(areRegex.length());
+        boolean inBrackets = false;
+        int i = 0;
+        while (i < areRegex.length()) {
+            char c = areRegex.charAt(i);
+            if ((c == '\\') && (i + 1 < areRegex.length())) {
+                char escaped = areRegex.charAt(i + 1);
+                String translated = inBrackets ? null : ARE_ESCAPES.get(escaped);
+                javaRegex.append(translated != null ? translated : areRegex.substring(i, i + 2));
+                i += 2;
+            } else if (!inBrackets && areRegex.startsWith("[[:<:]]", i)) {
+                javaRegex.append(ARE_ESCAPES.get('m'));
+                i += "[[:<:]]".length();
+            } else if (!inBrackets && areRegex.startsWith("[[:>:]]", i)) {
+                javaRegex.append(ARE_ESCAPES.get('M'));
+                i += "[[:>:]]".length();
+            } else if (!inBrackets && (c == '[')) {
+                inBrackets = true;
+                javaRegex.append(c);
+                i++;
+                // A leading "^" negates the bracket expression, a "]" directly after it is a literal
+                if ((i < areRegex.length()) && (areRegex.charAt(i) == '^')) {
+                    javaRegex.append('^');
+                    i++;
+                }
+                if ((i < areRegex.length()) && (areRegex.charAt(i) == ']')) {
+                    javaRegex.append("\\]");
+                    i++;
+                }
+            } else if (inBrackets && areRegex.startsWith("[:", i) && (areRegex.indexOf(":]", i + 2) > 0)) {
+                int end = areRegex.indexOf(":]", i + 2);
+                String name = areRegex.substring(i + 2, end);
+                String javaClass = POSIX_CLASSES.get(name);
+                if (javaClass == null) {
+                    // Unknown class; leave it to Pattern to reject it
+                    javaRegex.append(c);
+                    i++;
+                } else {
+                    javaRegex.append(javaClass);
+                    i = end + 2;
+                }
+            } else {
+                if (inBrackets && (c == ']')) {
+                    inBrackets = false;
+                } else if (inBrackets && (c == '[')) {
+                    // A literal "[" inside brackets is a nested class in Pattern syntax
+                    javaRegex.append('\\');
                 }
-                return positions;
+                javaRegex.append(c);
+                i++;
             }
-        } catch (SQLException e) {
-            LOGGER.error("Error getting match positions in text", e);
         }
-        return List.of();
+        return javaRegex.toString();
     }
 
     public static Map<Optional<Field>, List<String>> groupTermsByField(SearchQuery searchQuery) {
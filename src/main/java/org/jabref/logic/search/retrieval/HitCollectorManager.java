@@ -0,0 +1,69 @@
+package org.jabref.logic.search.retrieval;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects all hits of a search as (document, score) pairs, ordered as {@link org.apache.lucene.search.TopDocs} are:
+ * by descending score, then by document.
+ * <p>
+ * In contrast to searching for the top {@code Integer.MAX_VALUE} documents, no priority queue sized for the whole index
+ * is allocated.
+ */
+class HitCollectorManager implements CollectorManager<HitCollectorManager.HitCollector, List<ScoreDoc>> {
+
+    private static final Comparator<ScoreDoc> HIT_ORDER = Comparator.<ScoreDoc>comparingDouble(hit -> hit.score)
+                                                                    .reversed()
+                                                                    .thenComparingInt(hit -> hit.doc);
+
+    @Override
+    public HitCollector newCollector() {
+        return new HitCollector();
+    }
+
+    @Override
+    public List<ScoreDoc> reduce(Collection<HitCollector> collectors) {
+        List<ScoreDoc> hits = new ArrayList<>();
+        for (HitCollector collector : collectors) {
+            hits.addAll(collector.hits);
+        }
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    static class HitCollector extends SimpleCollector {
+        private final List<ScoreDoc> hits = new ArrayList<>();
+        private int docBase;
+        private Scorable scorer;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) {
+            docBase = context.docBase;
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            hits.add(new ScoreDoc(docBase + doc, scorer.score()));
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE;
+        }
+    }
+}
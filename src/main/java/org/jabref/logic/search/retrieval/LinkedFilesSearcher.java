@@ -7,28 +7,40 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.search.LuceneIndexer;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.LinkedFilesConstants;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchResult;
 import org.jabref.model.search.query.SearchResults;
 
+import com.google.common.eventbus.Subscribe;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.QueryScorer;
@@ -36,20 +48,68 @@ import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Searches the fulltext index of the linked files.
+ * <p>
+ * For each matching page, only the path and the page number are loaded. The text of the page is loaded when the
+ * snippets of the {@link SearchResult} are requested.
+ */
 public final class LinkedFilesSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(LinkedFilesSearcher.class);
+    private static final Set<String> HIT_FIELDS = Set.of(LinkedFilesConstants.PATH.toString(), LinkedFilesConstants.PAGE_NUMBER.toString());
+    private static final Set<String> PAGE_TEXT_FIELDS = Set.of(LinkedFilesConstants.CONTENT.toString(), LinkedFilesConstants.ANNOTATIONS.toString());
 
     private final FilePreferences filePreferences;
     private final BibDatabaseContext databaseContext;
     private final SearcherManager searcherManager;
     private final MultiFieldQueryParser parser;
 
+    /**
+     * Incremented on each change possibly affecting the linked files of the entries
+     */
+    private final AtomicInteger linkedFilesVersion = new AtomicInteger();
+    private volatile LinkedFilesMap linkedFilesMap = new LinkedFilesMap(-1, Map.of());
+
+    /**
+     * @param version    the value of {@link #linkedFilesVersion} the map was built for
+     * @param entryIds   file link to the IDs of the entries linking the file
+     */
+    private record LinkedFilesMap(int version, Map<String, List<String>> entryIds) {
+    }
+
     public LinkedFilesSearcher(BibDatabaseContext databaseContext, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
         this.searcherManager = linkedFilesIndexer.getSearcherManager();
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
         this.parser = new MultiFieldQueryParser(LinkedFilesConstants.PDF_FIELDS.toArray(new String[0]), LinkedFilesConstants.LINKED_FILES_ANALYZER);
         parser.setDefaultOperator(QueryParser.Operator.AND);
+        databaseContext.getDatabase().registerListener(new LinkedFilesChangeListener());
+    }
+
+    private class LinkedFilesChangeListener {
+        @Subscribe
+        public void listen(EntriesAddedEvent event) {
+            linkedFilesVersion.incrementAndGet();
+        }
+
+        @Subscribe
+        public void listen(EntriesRemovedEvent event) {
+            linkedFilesVersion.incrementAndGet();
+        }
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            if (event.getField() == StandardField.FILE) {
+                linkedFilesVersion.incrementAndGet();
+            }
+        }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            if (event.getFieldChanges().stream().anyMatch(change -> change.getField() == StandardField.FILE)) {
+                linkedFilesVersion.incrementAndGet();
+            }
+        }
     }
 
     public SearchResults search(SearchQuery searchQuery) {
@@ -91,21 +151,21 @@ public final class LinkedFilesSearcher {
     }
 
     private SearchResults search(IndexSearcher indexSearcher, Query searchQuery) throws IOException {
-        TopDocs topDocs = indexSearcher.search(searchQuery, Integer.MAX_VALUE);
+        List<ScoreDoc> hits = indexSearcher.search(searchQuery, new HitCollectorManager());
         StoredFields storedFields = indexSearcher.storedFields();
-        LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
-        return getSearchResults(topDocs, storedFields, searchQuery);
+        LOGGER.debug("Found {} matching documents", hits.size());
+        return getSearchResults(hits, storedFields, searchQuery);
     }
 
-    private SearchResults getSearchResults(TopDocs topDocs, StoredFields storedFields, Query searchQuery) throws IOException {
+    private SearchResults getSearchResults(List<ScoreDoc> hits, StoredFields storedFields, Query searchQuery) throws IOException {
         SearchResults searchResults = new SearchResults();
         long startTime = System.currentTimeMillis();
 
         Map<String, List<String>> linkedFilesMap = getLinkedFilesMap();
         Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(searchQuery));
 
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
+        for (ScoreDoc hit : hits) {
+            Document document = storedFields.document(hit.doc, HIT_FIELDS);
             String fileLink = getFieldContents(document, LinkedFilesConstants.PATH);
 
             if (!fileLink.isEmpty()) {
@@ -113,9 +173,8 @@ public final class LinkedFilesSearcher {
                 if (entriesWithFile != null && !entriesWithFile.isEmpty()) {
                     SearchResult searchResult = new SearchResult(
                             fileLink,
-                            getFieldContents(document, LinkedFilesConstants.CONTENT),
-                            getFieldContents(document, LinkedFilesConstants.ANNOTATIONS),
                             Integer.parseInt(getFieldContents(document, LinkedFilesConstants.PAGE_NUMBER)),
+                            this::loadPageText,
                             highlighter);
                     searchResults.addSearchResult(entriesWithFile, searchResult);
                 }
@@ -125,15 +184,54 @@ public final class LinkedFilesSearcher {
         return searchResults;
     }
 
+    /**
+     * Loads the stored text of the given page. The page is looked up again, because the index may have been changed
+     * since the search.
+     */
+    private SearchResult.PageText loadPageText(String fileLink, int pageNumber) {
+        Query pageQuery = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(LinkedFilesConstants.PATH.toString(), fileLink)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(LinkedFilesConstants.PAGE_NUMBER.toString(), String.valueOf(pageNumber))), BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            IndexSearcher indexSearcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = indexSearcher.search(pageQuery, 1);
+                if (topDocs.scoreDocs.length == 0) {
+                    return SearchResult.PageText.EMPTY;
+                }
+                Document document = indexSearcher.storedFields().document(topDocs.scoreDocs[0].doc, PAGE_TEXT_FIELDS);
+                return new SearchResult.PageText(
+                        getFieldContents(document, LinkedFilesConstants.CONTENT),
+                        getFieldContents(document, LinkedFilesConstants.ANNOTATIONS));
+            } finally {
+                releaseIndexSearcher(searcherManager, indexSearcher);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error loading page {} of {}", pageNumber, fileLink, e);
+            return SearchResult.PageText.EMPTY;
+        }
+    }
+
+    /**
+     * @return file link to the IDs of the entries linking the file. The map is rebuilt only if entries or their linked
+     * files have been changed since the last search.
+     */
     private Map<String, List<String>> getLinkedFilesMap() {
-        // fileLink to List of entry IDs
-        Map<String, List<String>> linkedFilesMap = new HashMap<>();
+        int version = linkedFilesVersion.get();
+        LinkedFilesMap current = linkedFilesMap;
+        if (current.version() == version) {
+            return current.entryIds();
+        }
+
+        Map<String, List<String>> entryIds = new HashMap<>();
         for (BibEntry bibEntry : databaseContext.getEntries()) {
             for (LinkedFile linkedFile : bibEntry.getFiles()) {
-                linkedFilesMap.computeIfAbsent(linkedFile.getLink(), k -> new ArrayList<>()).add(bibEntry.getId());
+                entryIds.computeIfAbsent(linkedFile.getLink(), k -> new ArrayList<>()).add(bibEntry.getId());
             }
         }
-        return linkedFilesMap;
+        linkedFilesMap = new LinkedFilesMap(version, entryIds);
+        return entryIds;
     }
 
     private static String getFieldContents(Document document, LinkedFilesConstants field) {
@@ -704,4 +704,14 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changed entries, so
+     * that they need to fetch these entries only. Needs to be implemented if LiveUpdate is supported by the DBMS
+     *
+     * @param versionsBySharedId the current versions of the inserted, updated, or removed entries by their shared ID
+     */
+    public void notifyClients(@SuppressWarnings("unused") Map<Integer, Integer> versionsBySharedId) {
+        // nothing to do
+    }
 }
@@ -3,6 +3,8 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,9 +22,11 @@ import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.listener.ChangeNotification;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
@@ -81,9 +85,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            List<BibEntry> lastEntry = pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            notifyClients(concat(lastEntry, event.getBibEntries()), List.of());
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -99,15 +104,36 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
         if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            List<BibEntry> lastEntry = pullWithLastEntry();
             synchronizeSharedEntry(bibEntry);
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            notifyClients(concat(lastEntry, List.of(bibEntry)), List.of());
         } else {
             // Set new BibEntry that has been changed last
             lastEntryChanged = Optional.of(bibEntry);
         }
     }
 
+    /**
+     * Listening method. Updates all shared {@link BibEntry}s changed in a committed transaction with one pull before and after.
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        List<BibEntry> changedEntries = event.getFieldChanges().stream()
+                                             .filter(this::isEventSourceAccepted)
+                                             .map(FieldChangedEvent::getBibEntry)
+                                             .distinct()
+                                             .filter(this::isPresentLocalBibEntry)
+                                             .toList();
+        if (!changedEntries.isEmpty() && checkCurrentConnection()) {
+            synchronizeLocalMetaData();
+            List<BibEntry> lastEntry = pullWithLastEntry();
+            changedEntries.forEach(this::synchronizeSharedEntry);
+            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            notifyClients(concat(lastEntry, changedEntries), List.of());
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -117,9 +143,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            List<BibEntry> lastEntry = pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
             synchronizeLocalDatabase();
+            notifyClients(lastEntry, event.getBibEntries());
         }
     }
 
@@ -188,24 +215,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
                     remoteEntryMatchingOneLocalEntryFound = true;
                     if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
+                        dbmsProcessor.getSharedEntry(idVersionEntry.getKey())
+                                     .ifPresent(sharedEntry -> updateLocalEntry(localEntry, sharedEntry));
                     }
                 }
             }
@@ -220,6 +231,107 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Synchronizes the given local entries with the shared ones. Entries whose local version is already up to date are
+     * skipped, so that only the remaining ones are fetched from the shared database.
+     *
+     * @param versionsBySharedId the versions of the changed entries by their shared ID, {@link ChangeNotification#REMOVED} for removed entries
+     */
+    private void synchronizeLocalEntries(Map<Integer, Integer> versionsBySharedId) {
+        Map<Integer, BibEntry> localEntriesBySharedId = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            int sharedID = localEntry.getSharedBibEntryData().getSharedID();
+            if (versionsBySharedId.containsKey(sharedID)) {
+                localEntriesBySharedId.put(sharedID, localEntry);
+            }
+        }
+
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        List<Integer> entriesToFetch = new ArrayList<>();
+        versionsBySharedId.forEach((sharedID, version) -> {
+            BibEntry localEntry = localEntriesBySharedId.get(sharedID);
+            if (version == ChangeNotification.REMOVED) {
+                if (localEntry != null) {
+                    entriesToRemove.add(localEntry);
+                }
+            } else if ((localEntry == null) || (version > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToFetch.add(sharedID);
+            }
+        });
+
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+        if (entriesToFetch.isEmpty()) {
+            // An empty list would fetch all entries
+            return;
+        }
+
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToFetch)) {
+            BibEntry localEntry = localEntriesBySharedId.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsert.add(sharedEntry);
+            } else if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                updateLocalEntry(localEntry, sharedEntry);
+            }
+        }
+        if (!entriesToInsert.isEmpty()) {
+            bibDatabase.insertEntries(entriesToInsert, EntriesEventSource.SHARED);
+        }
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
+    /**
+     * Notifies the other clients about the given entries, which have been changed or removed locally and synchronized
+     * already. All entries are announced in one notification.
+     */
+    private void notifyClients(List<BibEntry> changedEntries, List<BibEntry> removedEntries) {
+        Map<Integer, Integer> versionsBySharedId = new LinkedHashMap<>();
+        for (BibEntry entry : changedEntries) {
+            int sharedID = entry.getSharedBibEntryData().getSharedID();
+            if (sharedID != -1) {
+                versionsBySharedId.put(sharedID, entry.getSharedBibEntryData().getVersion());
+            }
+        }
+        for (BibEntry entry : removedEntries) {
+            int sharedID = entry.getSharedBibEntryData().getSharedID();
+            if (sharedID != -1) {
+                versionsBySharedId.put(sharedID, ChangeNotification.REMOVED);
+            }
+        }
+        if (!versionsBySharedId.isEmpty()) {
+            dbmsProcessor.notifyClients(versionsBySharedId);
+        }
+    }
+
+    private static List<BibEntry> concat(List<BibEntry> first, List<BibEntry> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        List<BibEntry> entries = new ArrayList<>(first);
+        entries.addAll(second);
+        return entries;
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -318,9 +430,24 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
         // First synchronize entry, then synchronize database
-        pullWithLastEntry();
+        List<BibEntry> lastEntry = pullWithLastEntry();
         synchronizeLocalDatabase();
         synchronizeLocalMetaData();
+        notifyClients(lastEntry, List.of());
+    }
+
+    /**
+     * Synchronizes the given local BibEntries only. Used to apply the changes announced by other clients.
+     *
+     * @param versionsBySharedId the versions of the changed entries by their shared ID, {@link ChangeNotification#REMOVED} for removed entries
+     */
+    public void pullChanges(Map<Integer, Integer> versionsBySharedId) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        List<BibEntry> lastEntry = pullWithLastEntry();
+        synchronizeLocalEntries(versionsBySharedId);
+        notifyClients(lastEntry, List.of());
     }
 
     /**
@@ -332,20 +459,26 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 return;
             }
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            List<BibEntry> lastEntry = pullWithLastEntry();
             // Pull changes for the case that there were some
             synchronizeLocalDatabase();
+            notifyClients(lastEntry, List.of());
         }
     }
 
     /**
      * Synchronizes local BibEntries and pulls remaining last entry changes
+     *
+     * @return the synchronized entry, if any, which has to be announced to the other clients
      */
-    private void pullWithLastEntry() {
+    private List<BibEntry> pullWithLastEntry() {
+        List<BibEntry> synchronizedEntries = List.of();
         if (lastEntryChanged.isPresent() && isPresentLocalBibEntry(lastEntryChanged.get())) {
             synchronizeSharedEntry(lastEntryChanged.get());
+            synchronizedEntries = List.of(lastEntryChanged.get());
         }
         lastEntryChanged = Optional.empty();
+        return synchronizedEntries;
     }
 
     /**
@@ -7,6 +7,7 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 
+import org.jabref.logic.shared.listener.ChangeNotification;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
@@ -166,8 +167,16 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        notifyClients(Map.of());
+    }
+
+    @Override
+    public void notifyClients(Map<Integer, Integer> versionsBySharedId) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify('jabrefliveupdate', ?)")) {
+            for (String payload : ChangeNotification.toPayloads(PROCESSOR_ID, versionsBySharedId)) {
+                statement.setString(1, payload);
+                statement.execute();
+            }
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,108 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Payload of a live update notification sent to all clients connected to a shared database.
+ * <p>
+ * The payload consists of the id of the sending processor, optionally followed by the shared IDs and versions of the
+ * changed entries: {@code <processor id>;<shared id>:<version>,<shared id>:<version>}. A payload without entries (as
+ * sent by older versions of JabRef) requests a full pull.
+ *
+ * @param processorId        the id of the sending {@link org.jabref.logic.shared.DBMSProcessor}
+ * @param versionsBySharedId the versions of the changed entries by their shared ID, {@link #REMOVED} for removed
+ *                           entries. Empty if the receiver has to pull all changes.
+ */
+public record ChangeNotification(String processorId, Map<Integer, Integer> versionsBySharedId) {
+
+    /**
+     * Version announced for removed entries
+     */
+    public static final int REMOVED = -1;
+
+    /**
+     * PostgreSQL limits the payload to 8000 bytes
+     */
+    static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private static final char PROCESSOR_SEPARATOR = ';';
+    private static final char ENTRY_SEPARATOR = ',';
+    private static final char VERSION_SEPARATOR = ':';
+
+    public boolean isFullPull() {
+        return versionsBySharedId.isEmpty();
+    }
+
+    /**
+     * Combines two announced versions of the same entry. A removal cannot be undone, all other changes are superseded
+     * by the highest version.
+     */
+    public static int mergeVersions(int version, int otherVersion) {
+        if ((version == REMOVED) || (otherVersion == REMOVED)) {
+            return REMOVED;
+        }
+        return Math.max(version, otherVersion);
+    }
+
+    /**
+     * Serializes the changes into as few payloads as possible, each one not exceeding {@link #MAX_PAYLOAD_LENGTH}.
+     */
+    public static List<String> toPayloads(String processorId, Map<Integer, Integer> versionsBySharedId) {
+        List<String> payloads = new ArrayList<>();
+        if (versionsBySharedId.isEmpty()) {
+            payloads.add(processorId);
+            return payloads;
+        }
+
+        StringBuilder payload = new StringBuilder();
+        for (Map.Entry<Integer, Integer> change : versionsBySharedId.entrySet()) {
+            String serializedChange = change.getKey() + String.valueOf(VERSION_SEPARATOR) + change.getValue();
+            if (!payload.isEmpty() && (payload.length() + serializedChange.length() + 1 > MAX_PAYLOAD_LENGTH)) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (payload.isEmpty()) {
+                payload.append(processorId).append(PROCESSOR_SEPARATOR);
+            } else {
+                payload.append(ENTRY_SEPARATOR);
+            }
+            payload.append(serializedChange);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    /**
+     * @return the parsed notification or empty if the payload is malformed
+     */
+    public static Optional<ChangeNotification> parse(String payload) {
+        if (payload == null || payload.isBlank()) {
+            return Optional.empty();
+        }
+
+        int processorEnd = payload.indexOf(PROCESSOR_SEPARATOR);
+        if (processorEnd < 0) {
+            return Optional.of(new ChangeNotification(payload, Map.of()));
+        }
+
+        Map<Integer, Integer> versionsBySharedId = new LinkedHashMap<>();
+        for (String change : payload.substring(processorEnd + 1).split(String.valueOf(ENTRY_SEPARATOR))) {
+            int versionStart = change.indexOf(VERSION_SEPARATOR);
+            if (versionStart < 0) {
+                return Optional.empty();
+            }
+            try {
+                versionsBySharedId.merge(Integer.parseInt(change.substring(0, versionStart)),
+                        Integer.parseInt(change.substring(versionStart + 1)),
+                        ChangeNotification::mergeVersions);
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ChangeNotification(payload.substring(0, processorEnd), versionsBySharedId));
+    }
+}
@@ -1,6 +1,9 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -12,15 +15,26 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * Notifications arriving in quick succession (e.g., caused by a cleanup of many entries by another client) are
+ * coalesced: the changes are applied as soon as no further notification arrived within one polling interval, but at
+ * the latest after {@link #MAX_COALESCING_MILLISECONDS}. Only the entries named in the notifications are fetched.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    private static final int POLLING_INTERVAL_MILLISECONDS = 500;
+    private static final int MAX_COALESCING_MILLISECONDS = 3000;
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
     private volatile boolean stop;
 
+    private final Map<Integer, Integer> pendingVersionsBySharedId = new HashMap<>();
+    private boolean pendingFullPull;
+    private long firstPendingNotification;
+
     public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection) {
         this.dbmsSynchronizer = dbmsSynchronizer;
         this.pgConnection = pgConnection;
@@ -34,22 +48,59 @@ public class PostgresSQLNotificationListener implements Runnable {
             while (!stop) {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
+                boolean received = false;
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        received |= addPendingChanges(notification.getParameter());
                     }
                 }
 
+                if (hasPendingChanges() && (!received || (System.currentTimeMillis() - firstPendingNotification >= MAX_COALESCING_MILLISECONDS))) {
+                    applyPendingChanges();
+                }
+
                 // Wait a while before checking again for new notifications
-                Thread.sleep(500);
+                Thread.sleep(POLLING_INTERVAL_MILLISECONDS);
             }
         } catch (SQLException | InterruptedException exception) {
             LOGGER.error("Error while listening for updates to PostgresSQL", exception);
         }
     }
 
+    /**
+     * @return true if the notification was sent by another client
+     */
+    private boolean addPendingChanges(String payload) {
+        Optional<ChangeNotification> notification = ChangeNotification.parse(payload);
+        if (notification.isPresent() && DBMSProcessor.PROCESSOR_ID.equals(notification.get().processorId())) {
+            return false;
+        }
+
+        if (!hasPendingChanges()) {
+            firstPendingNotification = System.currentTimeMillis();
+        }
+        if (notification.isEmpty() || notification.get().isFullPull()) {
+            pendingFullPull = true;
+        } else {
+            notification.get().versionsBySharedId().forEach((sharedId, version) -> pendingVersionsBySharedId.merge(sharedId, version, ChangeNotification::mergeVersions));
+        }
+        return true;
+    }
+
+    private boolean hasPendingChanges() {
+        return pendingFullPull || !pendingVersionsBySharedId.isEmpty();
+    }
+
+    private void applyPendingChanges() {
+        if (pendingFullPull) {
+            dbmsSynchronizer.pullChanges();
+        } else {
+            dbmsSynchronizer.pullChanges(Map.copyOf(pendingVersionsBySharedId));
+        }
+        pendingFullPull = false;
+        pendingVersionsBySharedId.clear();
+    }
+
     public void stop() {
         stop = true;
     }
@@ -74,6 +74,10 @@ public class DefaultLatexParser implements LatexParser {
                 if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
                     continue;
                 }
+                // All patterns start with a command
+                if (line.indexOf('\\') < 0) {
+                    continue;
+                }
                 matchCitation(latexFile, lineNumberReader.getLineNumber(), line, latexParserResult);
                 matchBibFile(latexFile, line, latexParserResult);
                 matchNestedFile(latexFile, line, latexParserResult);
@@ -0,0 +1,357 @@
+package org.jabref.logic.texparser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jabref.logic.util.Directories;
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResult;
+import org.jabref.model.texparser.LatexParserResults;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the citations in the LaTeX files of a directory (including subdirectories), mapping each citation key to
+ * the places where it is cited.
+ * <p>
+ * The parse results of all files are stored on disk together with the size and modification time of each file. When
+ * the index is {@link #refresh() refreshed}, only new and changed files are parsed again, in parallel. Single files are
+ * updated using {@link #updateFile(Path)} and {@link #removeFile(Path)}, e.g., when a file monitor reports a change.
+ * <p>
+ * There is one index per directory (see {@link #getForDirectory(Path)}), shared by the LaTeX citations tab of the entry
+ * editor and the "Search for citations in LaTeX files" dialog.
+ */
+public class LatexCitationIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationIndex.class);
+
+    private static final String TEX_EXT = ".tex";
+
+    // Increase if the parser or the file format changes; indexes of other versions are ignored
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Map<Path, LatexCitationIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private record IndexedFile(long size, long lastModified, LatexParserResult result) {
+    }
+
+    private final Path directory;
+    private final Path indexFile;
+    private final LatexParser latexParser = new DefaultLatexParser();
+
+    private final Map<Path, IndexedFile> indexedFiles = new HashMap<>();
+    private final ListMultimap<String, Citation> citationsByKey = ArrayListMultimap.create();
+    private boolean loaded;
+
+    /**
+     * @param indexDirectory the directory to store the index in
+     */
+    public LatexCitationIndex(Path directory, Path indexDirectory) {
+        this.directory = directory.toAbsolutePath().normalize();
+        String name = Hashing.sha256().hashString(this.directory.toString(), StandardCharsets.UTF_8).toString();
+        this.indexFile = indexDirectory.resolve(name + ".gz");
+    }
+
+    public static LatexCitationIndex getForDirectory(Path directory) {
+        return INDEXES.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                normalizedDirectory -> new LatexCitationIndex(normalizedDirectory, Directories.getLatexCitationIndexDirectory()));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Brings the index up to date with the LaTeX files in the directory: new and changed files are parsed, and
+     * deleted files are removed.
+     */
+    public void refresh() {
+        loadIfNeeded();
+
+        List<Path> texFiles = findTexFiles();
+        List<Path> outdatedFiles;
+        Set<Path> deletedFiles;
+        synchronized (this) {
+            outdatedFiles = texFiles.stream().filter(file -> !isUpToDate(file)).toList();
+            deletedFiles = new HashSet<>(indexedFiles.keySet());
+            texFiles.forEach(deletedFiles::remove);
+        }
+        if (outdatedFiles.isEmpty() && deletedFiles.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debug("Parsing {} of {} LaTeX files in {}", outdatedFiles.size(), texFiles.size(), directory);
+        List<Optional<IndexedFile>> parsedFiles = outdatedFiles.parallelStream().map(this::parse).toList();
+        synchronized (this) {
+            deletedFiles.forEach(this::removeFromIndex);
+            for (int i = 0; i < outdatedFiles.size(); i++) {
+                Path file = outdatedFiles.get(i);
+                parsedFiles.get(i).ifPresentOrElse(parsedFile -> putIntoIndex(file, parsedFile), () -> removeFromIndex(file));
+            }
+        }
+        save();
+    }
+
+    /**
+     * Parses the given file again if it changed since it was indexed.
+     */
+    public void updateFile(Path texFile) {
+        loadIfNeeded();
+        Path file = texFile.toAbsolutePath().normalize();
+        synchronized (this) {
+            if (isUpToDate(file)) {
+                return;
+            }
+        }
+        Optional<IndexedFile> parsedFile = parse(file);
+        synchronized (this) {
+            parsedFile.ifPresentOrElse(indexedFile -> putIntoIndex(file, indexedFile), () -> removeFromIndex(file));
+        }
+        save();
+    }
+
+    public void removeFile(Path texFile) {
+        loadIfNeeded();
+        synchronized (this) {
+            if (!removeFromIndex(texFile.toAbsolutePath().normalize())) {
+                return;
+            }
+        }
+        save();
+    }
+
+    public synchronized List<Citation> getCitationsByKey(String key) {
+        return List.copyOf(citationsByKey.get(key));
+    }
+
+    /**
+     * Returns the parse results of the given files. Indexed results are used for unchanged files; all other files are
+     * parsed in parallel.
+     */
+    public LatexParserResults getResults(List<Path> texFiles) {
+        loadIfNeeded();
+
+        Map<Path, LatexParserResult> results = new HashMap<>();
+        List<Path> outdatedFiles = new ArrayList<>();
+        synchronized (this) {
+            for (Path texFile : texFiles) {
+                Path file = texFile.toAbsolutePath().normalize();
+                if (isUpToDate(file)) {
+                    results.put(texFile, indexedFiles.get(file).result());
+                } else {
+                    outdatedFiles.add(texFile);
+                }
+            }
+        }
+
+        Map<Path, Optional<IndexedFile>> parsedFiles = new HashMap<>();
+        outdatedFiles.parallelStream().forEach(file -> {
+            Optional<IndexedFile> parsedFile = parse(file);
+            synchronized (parsedFiles) {
+                parsedFiles.put(file, parsedFile);
+            }
+        });
+        synchronized (this) {
+            parsedFiles.forEach((file, parsedFile) -> parsedFile.ifPresent(indexedFile -> {
+                results.put(file, indexedFile.result());
+                Path normalizedFile = file.toAbsolutePath().normalize();
+                if (normalizedFile.startsWith(directory)) {
+                    putIntoIndex(normalizedFile, indexedFile);
+                }
+            }));
+        }
+        if (!parsedFiles.isEmpty()) {
+            save();
+        }
+
+        LatexParserResults latexParserResults = new LatexParserResults();
+        // keep the order of the given files
+        texFiles.stream().filter(results::containsKey).forEach(file -> latexParserResults.add(file, results.get(file)));
+        return latexParserResults;
+    }
+
+    private Optional<IndexedFile> parse(Path file) {
+        try {
+            // Read the stamp before parsing, thus a change during parsing leads to parsing the file again
+            long size = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            return latexParser.parse(file).map(result -> new IndexedFile(size, lastModified, result));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isUpToDate(Path file) {
+        IndexedFile indexedFile = indexedFiles.get(file);
+        if (indexedFile == null) {
+            return false;
+        }
+        try {
+            return (indexedFile.size() == Files.size(file))
+                    && (indexedFile.lastModified() == Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void putIntoIndex(Path file, IndexedFile indexedFile) {
+        removeFromIndex(file);
+        indexedFiles.put(file, indexedFile);
+        indexedFile.result().getCitations().forEach(citationsByKey::put);
+    }
+
+    private boolean removeFromIndex(Path file) {
+        IndexedFile removed = indexedFiles.remove(file);
+        if (removed == null) {
+            return false;
+        }
+        removed.result().getCitations().forEach(citationsByKey::remove);
+        return true;
+    }
+
+    private List<Path> findTexFiles() {
+        List<Path> texFiles = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return texFiles;
+        }
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile() && file.toString().endsWith(TEX_EXT)) {
+                        texFiles.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    LOGGER.debug("Could not access {}", file, e);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("Could not search LaTeX files in {}", directory, e);
+        }
+        return texFiles;
+    }
+
+    private synchronized void loadIfNeeded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(indexFile))))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return;
+            }
+            int numberOfFiles = input.readInt();
+            for (int i = 0; i < numberOfFiles; i++) {
+                Path file = Path.of(input.readUTF());
+                long size = input.readLong();
+                long lastModified = input.readLong();
+                LatexParserResult result = new LatexParserResult(file);
+                int numberOfCitations = input.readInt();
+                for (int citation = 0; citation < numberOfCitations; citation++) {
+                    String key = input.readUTF();
+                    int line = input.readInt();
+                    int colStart = input.readInt();
+                    int colEnd = input.readInt();
+                    result.addKey(key, file, line, colStart, colEnd, readString(input));
+                }
+                int numberOfNestedFiles = input.readInt();
+                for (int nestedFile = 0; nestedFile < numberOfNestedFiles; nestedFile++) {
+                    result.addNestedFile(Path.of(input.readUTF()));
+                }
+                int numberOfBibFiles = input.readInt();
+                for (int bibFile = 0; bibFile < numberOfBibFiles; bibFile++) {
+                    result.addBibFile(Path.of(input.readUTF()));
+                }
+                putIntoIndex(file, new IndexedFile(size, lastModified, result));
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not read LaTeX citation index {}", indexFile, e);
+            indexedFiles.clear();
+            citationsByKey.clear();
+        }
+    }
+
+    private synchronized void save() {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path temporaryFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile))))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeInt(indexedFiles.size());
+                for (Map.Entry<Path, IndexedFile> entry : indexedFiles.entrySet()) {
+                    IndexedFile indexedFile = entry.getValue();
+                    output.writeUTF(entry.getKey().toString());
+                    output.writeLong(indexedFile.size());
+                    output.writeLong(indexedFile.lastModified());
+                    Collection<Map.Entry<String, Citation>> citations = indexedFile.result().getCitations().entries();
+                    output.writeInt(citations.size());
+                    for (Map.Entry<String, Citation> citation : citations) {
+                        output.writeUTF(citation.getKey());
+                        output.writeInt(citation.getValue().line());
+                        output.writeInt(citation.getValue().colStart());
+                        output.writeInt(citation.getValue().colEnd());
+                        writeString(output, citation.getValue().lineText());
+                    }
+                    output.writeInt(indexedFile.result().getNestedFiles().size());
+                    for (Path nestedFile : indexedFile.result().getNestedFiles()) {
+                        output.writeUTF(nestedFile.toString());
+                    }
+                    output.writeInt(indexedFile.result().getBibFiles().size());
+                    for (Path bibFile : indexedFile.result().getBibFiles()) {
+                        output.writeUTF(bibFile.toString());
+                    }
+                }
+            }
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store LaTeX citation index of {}", directory, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        // DataOutputStream#writeUTF is limited to 64 KB, which a line of LaTeX may exceed
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -56,6 +56,27 @@ public class Directories {
                         OS.APP_DIR_APP_AUTHOR));
     }
 
+    public static Path getHttpCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "http-cache",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    public static Path getPdfTextCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "pdf-text-cache",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    public static Path getLatexCitationIndexDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "latex-citation-index",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
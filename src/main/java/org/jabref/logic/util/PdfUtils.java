@@ -2,12 +2,32 @@ package org.jabref.logic.util;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 public class PdfUtils {
+    /**
+     * Several importers look at the first page of the same document, see
+     * {@link org.jabref.logic.importer.fileformat.PdfMergeMetadataImporter}. The text is kept as long as the document
+     * is referenced.
+     */
+    private static final Map<PDDocument, String> FIRST_PAGE_CONTENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
     public static String getFirstPageContents(PDDocument document) throws IOException {
+        String contents = FIRST_PAGE_CONTENTS.get(document);
+        if (contents == null) {
+            // Extracted outside the lock, thus the first pages of different documents are extracted concurrently
+            contents = extractFirstPageContents(document);
+            FIRST_PAGE_CONTENTS.put(document, contents);
+        }
+        return contents;
+    }
+
+    private static String extractFirstPageContents(PDDocument document) throws IOException {
         PDFTextStripper stripper = new PDFTextStripper();
 
         stripper.setStartPage(1);
@@ -0,0 +1,179 @@
+package org.jabref.logic.util;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Describes the initialization steps done at startup and records the time each step takes.
+ * <p>
+ * A step is either
+ * <ul>
+ *     <li>run on the calling thread ({@link #run(String, Runnable)}, {@link #call(String, Supplier)}),</li>
+ *     <li>started concurrently as soon as the steps it depends on are finished ({@link #submit(String, Supplier, String...)},
+ *     {@link #execute(String, Runnable, String...)}), or</li>
+ *     <li>deferred until {@link #startDeferredSteps()} is called, e.g., after the main window is shown
+ *     ({@link #defer(String, Runnable)}).</li>
+ * </ul>
+ * Steps are referenced by their names. A step can only depend on steps added before.
+ * <p>
+ * Registering the results (e.g., at the {@link com.airhacks.afterburner.injection.Injector}) should happen on the
+ * calling thread using {@link #await(CompletableFuture)}, because the registries are not thread-safe.
+ */
+public class StartupGraph {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupGraph.class);
+
+    private record StepTiming(String name, String thread, long startMillis, long durationMillis) {
+    }
+
+    private final Executor executor;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, CompletableFuture<?>> steps = new ConcurrentHashMap<>();
+    private final Queue<StepTiming> timings = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> deferredStepsStarted = new CompletableFuture<>();
+
+    public StartupGraph() {
+        this(HeadlessExecutorService.INSTANCE);
+    }
+
+    public StartupGraph(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the step on the calling thread
+     */
+    public void run(String name, Runnable step) {
+        call(name, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the step on the calling thread
+     *
+     * @return the result of the step
+     */
+    public <T> T call(String name, Supplier<T> step) {
+        T result = timed(name, step);
+        steps.put(name, CompletableFuture.completedFuture(result));
+        return result;
+    }
+
+    /**
+     * Starts the step on a background thread as soon as the given steps are finished
+     */
+    public CompletableFuture<Void> execute(String name, Runnable step, String... dependencies) {
+        return submit(name, () -> {
+            step.run();
+            return null;
+        }, dependencies);
+    }
+
+    /**
+     * Starts the step on a background thread as soon as the given steps are finished
+     *
+     * @return the future result of the step, see {@link #await(CompletableFuture)}
+     */
+    public <T> CompletableFuture<T> submit(String name, Supplier<T> step, String... dependencies) {
+        CompletableFuture<?>[] dependencyFutures = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            String dependency = dependencies[i];
+            dependencyFutures[i] = Objects.requireNonNull(steps.get(dependency), () -> "Unknown startup step: " + dependency);
+        }
+        return addStep(name, CompletableFuture.allOf(dependencyFutures), step);
+    }
+
+    /**
+     * Starts the step on a background thread after {@link #startDeferredSteps()} has been called
+     */
+    public CompletableFuture<Void> defer(String name, Runnable step) {
+        return addStep(name, deferredStepsStarted, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> addStep(String name, CompletableFuture<?> start, Supplier<T> step) {
+        CompletableFuture<T> future = start.thenApplyAsync(ignored -> timed(name, step), executor);
+        future.whenComplete((result, exception) -> {
+            if (exception != null) {
+                LOGGER.error("Startup step '{}' failed", name, exception);
+            }
+        });
+        steps.put(name, future);
+        return future;
+    }
+
+    public void startDeferredSteps() {
+        deferredStepsStarted.complete(null);
+    }
+
+    /**
+     * @return a future completed as soon as all steps added so far are finished, regardless whether they were
+     * successful
+     */
+    public CompletableFuture<Void> whenAllDone() {
+        return CompletableFuture.allOf(steps.values()
+                                            .stream()
+                                            .map(step -> step.exceptionally(exception -> null))
+                                            .toArray(CompletableFuture<?>[]::new));
+    }
+
+    /**
+     * Waits for the given step and returns its result. Exceptions thrown by the step are rethrown.
+     */
+    public static <T> T await(CompletableFuture<T> step) {
+        try {
+            return step.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return one line per finished step, ordered by start: the start (relative to the creation of this graph) and
+     * the duration in milliseconds, the name of the step and the thread the step ran on
+     */
+    public String getTimingReport() {
+        StringBuilder report = new StringBuilder("Startup steps (start, duration, step, thread):");
+        timings.stream()
+               .sorted(Comparator.comparingLong(StepTiming::startMillis))
+               .forEach(timing -> report.append(String.format("%n%7d ms %7d ms  %-30s %s",
+                       timing.startMillis(), timing.durationMillis(), timing.name(), timing.thread())));
+        return report.toString();
+    }
+
+    private <T> T timed(String name, Supplier<T> step) {
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            long end = System.nanoTime();
+            timings.add(new StepTiming(name,
+                    Thread.currentThread().getName(),
+                    TimeUnit.NANOSECONDS.toMillis(start - startNanos),
+                    TimeUnit.NANOSECONDS.toMillis(end - start)));
+            LOGGER.debug("Startup step '{}' took {} ms", name, TimeUnit.NANOSECONDS.toMillis(end - start));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches whether files exist, together with their size and last modification time.
+ * <p>
+ * The main table, the entry editor, the integrity check and the cleanups ask for the same linked files again and again,
+ * and each check costs a network round trip if the file directory is on a network drive (e.g., SMB or NFS). Statuses
+ * requested asynchronously are read in the background by a few readers working through a shared queue, thus many
+ * requests (e.g., while scrolling) do not start one task each. {@link #getIfPresent(Path)} never touches the file system.
+ * <p>
+ * A status is dropped as soon as the {@link FileUpdateMonitor} reports a change of the file. As file system events are
+ * not delivered for all network drives, statuses also expire after {@link #DEFAULT_TIME_TO_LIVE}.
+ */
+public class FileStatusCache {
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileStatusCache.class);
+
+    private static final int MAX_SIZE = 50_000;
+
+    /**
+     * Limits the number of concurrent requests to the (network) file system
+     */
+    private static final int MAX_CONCURRENT_READERS = 4;
+
+    private static FileStatusCache defaultCache;
+
+    /**
+     * @param size         the size in bytes, 0 if the file does not exist
+     * @param lastModified the time of the last modification, the epoch if the file does not exist
+     */
+    public record FileStatus(boolean exists, long size, FileTime lastModified) {
+        public static final FileStatus MISSING = new FileStatus(false, 0, FileTime.fromMillis(0));
+    }
+
+    private final Cache<Path, FileStatus> statuses;
+    private final Map<Path, CompletableFuture<FileStatus>> pendingReads = new ConcurrentHashMap<>();
+    private final Queue<Path> readQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeReaders = new AtomicInteger();
+    private final Executor executor;
+    private final int maxConcurrentReaders;
+
+    private final Map<Path, FileUpdateListener> watchedFiles = new ConcurrentHashMap<>();
+    private volatile FileUpdateMonitor fileUpdateMonitor;
+
+    public FileStatusCache(Executor executor, Duration timeToLive) {
+        this(executor, timeToLive, MAX_CONCURRENT_READERS);
+    }
+
+    FileStatusCache(Executor executor, Duration timeToLive, int maxConcurrentReaders) {
+        this.executor = executor;
+        this.maxConcurrentReaders = maxConcurrentReaders;
+        this.statuses = CacheBuilder.newBuilder()
+                                    .maximumSize(MAX_SIZE)
+                                    .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                                    .removalListener(this::onRemoval)
+                                    .build();
+    }
+
+    public static synchronized FileStatusCache getDefault() {
+        if (defaultCache == null) {
+            defaultCache = new FileStatusCache(HeadlessExecutorService.INSTANCE, DEFAULT_TIME_TO_LIVE);
+        }
+        return defaultCache;
+    }
+
+    /**
+     * Lets the cache drop the status of a file as soon as the file is created, modified or deleted.
+     */
+    public void setFileUpdateMonitor(FileUpdateMonitor fileUpdateMonitor) {
+        this.fileUpdateMonitor = fileUpdateMonitor;
+    }
+
+    /**
+     * @return the cached status of the file, empty if it is not known (yet). Does not access the file system.
+     */
+    public Optional<FileStatus> getIfPresent(Path file) {
+        return Optional.ofNullable(statuses.getIfPresent(file));
+    }
+
+    /**
+     * Returns the status of the file. If it is not cached, it is read in the calling thread.
+     */
+    public FileStatus get(Path file) {
+        FileStatus status = statuses.getIfPresent(file);
+        if (status != null) {
+            return status;
+        }
+        return refresh(file);
+    }
+
+    public boolean exists(Path file) {
+        return get(file).exists();
+    }
+
+    /**
+     * Reads the status of the file in the calling thread, regardless whether it is cached. Use this if a decision must
+     * not be based on an outdated status, e.g., before removing a link to a file which seems to be missing.
+     */
+    public FileStatus refresh(Path file) {
+        FileStatus status = read(file);
+        statuses.put(file, status);
+        watch(file);
+        return status;
+    }
+
+    /**
+     * Returns the status of the file without blocking. If it is not cached, it is read in the background.
+     */
+    public CompletableFuture<FileStatus> getAsync(Path file) {
+        FileStatus status = statuses.getIfPresent(file);
+        if (status != null) {
+            return CompletableFuture.completedFuture(status);
+        }
+        CompletableFuture<FileStatus> pendingRead = pendingReads.computeIfAbsent(file, key -> {
+            readQueue.add(key);
+            return new CompletableFuture<>();
+        });
+        startReaders();
+        return pendingRead;
+    }
+
+    /**
+     * Locates a linked file the same way as {@link FileUtil#find(String, List)}, but using the cached statuses.
+     * Completes immediately if the statuses of all candidates are cached.
+     */
+    public CompletableFuture<Optional<Path>> findAsync(String fileName, List<Path> directories) {
+        if (directories.isEmpty()) {
+            // FileUtil#find does not check absolute paths in this case
+            Path file = Path.of(fileName);
+            if (!file.isAbsolute()) {
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            return getAsync(file).thenApply(status -> status.exists() ? Optional.of(file) : Optional.empty());
+        }
+
+        AtomicBoolean allStatusesKnown = new AtomicBoolean(true);
+        Optional<Path> file = FileUtil.find(fileName, directories, candidate -> getIfPresent(candidate)
+                .map(FileStatus::exists)
+                .orElseGet(() -> {
+                    getAsync(candidate);
+                    allStatusesKnown.set(false);
+                    return false;
+                }));
+        if (allStatusesKnown.get()) {
+            return CompletableFuture.completedFuture(file);
+        }
+        // The unknown candidates are queued already, thus the search waits for the readers instead of reading them again
+        return CompletableFuture.supplyAsync(() -> FileUtil.find(fileName, directories, candidate -> getAsync(candidate).join().exists()), executor);
+    }
+
+    public void invalidate(Path file) {
+        statuses.invalidate(file);
+    }
+
+    public void invalidateAll() {
+        statuses.invalidateAll();
+    }
+
+    /**
+     * Starts another reader, unless the queue is empty or enough readers are working through it already
+     */
+    private void startReaders() {
+        int readers = activeReaders.get();
+        while (!readQueue.isEmpty() && (readers < maxConcurrentReaders)) {
+            if (activeReaders.compareAndSet(readers, readers + 1)) {
+                executor.execute(this::readQueuedFiles);
+                return;
+            }
+            readers = activeReaders.get();
+        }
+    }
+
+    private void readQueuedFiles() {
+        try {
+            Path file;
+            while ((file = readQueue.poll()) != null) {
+                CompletableFuture<FileStatus> pendingRead = pendingReads.get(file);
+                try {
+                    FileStatus status = refresh(file);
+                    pendingReads.remove(file);
+                    if (pendingRead != null) {
+                        pendingRead.complete(status);
+                    }
+                } catch (RuntimeException e) {
+                    pendingReads.remove(file);
+                    if (pendingRead != null) {
+                        pendingRead.completeExceptionally(e);
+                    }
+                }
+            }
+        } finally {
+            activeReaders.decrementAndGet();
+        }
+        // A file might have been queued while this reader was about to stop
+        startReaders();
+    }
+
+    private static FileStatus read(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileStatus(true, attributes.size(), attributes.lastModifiedTime());
+        } catch (IOException e) {
+            return FileStatus.MISSING;
+        }
+    }
+
+    private void watch(Path file) {
+        FileUpdateMonitor monitor = fileUpdateMonitor;
+        if (monitor == null || !monitor.isActive()) {
+            return;
+        }
+        FileUpdateListener listener = new StatusInvalidator(file);
+        if (watchedFiles.putIfAbsent(file, listener) != null) {
+            return;
+        }
+        try {
+            monitor.addListenerForFile(file, listener);
+        } catch (IOException e) {
+            // e.g., the directory of a missing file does not exist; the status expires nevertheless
+            watchedFiles.remove(file);
+            LOGGER.debug("Could not watch {}", file, e);
+        }
+    }
+
+    private void onRemoval(RemovalNotification<Path, FileStatus> notification) {
+        // Invalidated statuses are read again soon, thus the file is watched further
+        if (!notification.wasEvicted()) {
+            return;
+        }
+        Path file = notification.getKey();
+        FileUpdateListener listener = watchedFiles.remove(file);
+        FileUpdateMonitor monitor = fileUpdateMonitor;
+        if ((listener != null) && (monitor != null)) {
+            monitor.removeListener(file, listener);
+        }
+    }
+
+    private class StatusInvalidator implements FileUpdateListener {
+        private final Path file;
+
+        StatusInvalidator(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void fileUpdated() {
+            invalidate(file);
+        }
+
+        @Override
+        public void fileDeleted() {
+            invalidate(file);
+        }
+    }
+}
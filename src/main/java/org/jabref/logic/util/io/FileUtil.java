@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -388,6 +389,14 @@ public class FileUtil {
      * returning the first found file to match if any.
      */
     public static Optional<Path> find(String fileName, List<Path> directories) {
+        return find(fileName, directories, Files::exists);
+    }
+
+    /**
+     * Same as {@link #find(String, List)}, but checks the candidates using the given predicate, e.g., backed by the
+     * {@link FileStatusCache}
+     */
+    public static Optional<Path> find(String fileName, List<Path> directories, Predicate<Path> fileExists) {
         if (directories.isEmpty()) {
             // Fallback, if no directories to resolve are passed
             Path path = Path.of(fileName);
@@ -399,7 +408,7 @@ public class FileUtil {
         }
 
         return directories.stream()
-                          .flatMap(directory -> find(fileName, directory).stream())
+                          .flatMap(directory -> find(fileName, directory, fileExists).stream())
                           .findFirst();
     }
 
@@ -412,6 +421,10 @@ public class FileUtil {
      * @return an empty optional if the file does not exist, otherwise, the absolute path
      */
     public static Optional<Path> find(String fileName, Path directory) {
+        return find(fileName, directory, Files::exists);
+    }
+
+    private static Optional<Path> find(String fileName, Path directory, Predicate<Path> fileExists) {
         Objects.requireNonNull(fileName);
         Objects.requireNonNull(directory);
 
@@ -427,7 +440,7 @@ public class FileUtil {
         }
 
         Path resolvedFile = directory.resolve(fileName);
-        if (Files.exists(resolvedFile)) {
+        if (fileExists.test(resolvedFile)) {
             return Optional.of(resolvedFile);
         }
 
@@ -438,7 +451,7 @@ public class FileUtil {
             resolvedFile = directory.resolveSibling(fileName);
         }
 
-        if (Files.exists(resolvedFile)) {
+        if (fileExists.test(resolvedFile)) {
             return Optional.of(resolvedFile);
         } else {
             return Optional.empty();
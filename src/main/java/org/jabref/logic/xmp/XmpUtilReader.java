@@ -59,30 +59,38 @@ public class XmpUtilReader {
      */
     public List<BibEntry> readXmp(Path path, XmpPreferences xmpPreferences)
             throws IOException {
+        try (PDDocument document = loadWithAutomaticDecryption(path)) {
+            return readXmp(path, document, xmpPreferences);
+        }
+    }
 
+    /**
+     * Same as {@link #readXmp(Path, XmpPreferences)}, but reads from an already loaded document, e.g., shared by
+     * several importers. The document is not closed.
+     *
+     * @param path The path of the document, linked in the returned entries
+     */
+    public List<BibEntry> readXmp(Path path, PDDocument document, XmpPreferences xmpPreferences) {
         List<BibEntry> result = new LinkedList<>();
-
-        try (PDDocument document = loadWithAutomaticDecryption(path)) {
-            List<XMPMetadata> xmpMetaList = getXmpMetadata(document);
-
-            if (!xmpMetaList.isEmpty()) {
-                // Only support Dublin Core since JabRef 4.2
-                for (XMPMetadata xmpMeta : xmpMetaList) {
-                    DublinCoreSchema dcSchema = DublinCoreSchemaCustom.copyDublinCoreSchema(xmpMeta.getDublinCoreSchema());
-                    if (dcSchema != null) {
-                        DublinCoreExtractor dcExtractor = new DublinCoreExtractor(dcSchema, xmpPreferences, new BibEntry());
-                        Optional<BibEntry> entry = dcExtractor.extractBibtexEntry();
-                        entry.ifPresent(result::add);
-                    }
+        List<XMPMetadata> xmpMetaList = getXmpMetadata(document);
+
+        if (!xmpMetaList.isEmpty()) {
+            // Only support Dublin Core since JabRef 4.2
+            for (XMPMetadata xmpMeta : xmpMetaList) {
+                DublinCoreSchema dcSchema = DublinCoreSchemaCustom.copyDublinCoreSchema(xmpMeta.getDublinCoreSchema());
+                if (dcSchema != null) {
+                    DublinCoreExtractor dcExtractor = new DublinCoreExtractor(dcSchema, xmpPreferences, new BibEntry());
+                    Optional<BibEntry> entry = dcExtractor.extractBibtexEntry();
+                    entry.ifPresent(result::add);
                 }
             }
-            if (result.isEmpty()) {
-                // If we did not find any XMP metadata, search for non XMP metadata
-                PDDocumentInformation documentInformation = document.getDocumentInformation();
-                DocumentInformationExtractor diExtractor = new DocumentInformationExtractor(documentInformation);
-                Optional<BibEntry> entry = diExtractor.extractBibtexEntry();
-                entry.ifPresent(result::add);
-            }
+        }
+        if (result.isEmpty()) {
+            // If we did not find any XMP metadata, search for non XMP metadata
+            PDDocumentInformation documentInformation = document.getDocumentInformation();
+            DocumentInformationExtractor diExtractor = new DocumentInformationExtractor(documentInformation);
+            Optional<BibEntry> entry = diExtractor.extractBibtexEntry();
+            entry.ifPresent(result::add);
         }
 
         result.forEach(entry -> entry.addFile(new LinkedFile("", path.toAbsolutePath(), "PDF")));
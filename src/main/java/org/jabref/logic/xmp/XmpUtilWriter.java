@@ -8,7 +8,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -24,6 +26,8 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.schema.DublinCoreSchemaCustom;
 
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentCatalog;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
@@ -116,10 +120,11 @@ public class XmpUtilWriter {
      * @param entries  The BibTeX entries that are written as schemas
      * @param database An optional database which the given BibTeX entries belong to, which will be used to
      *                 resolve strings. If the database is null the strings will not be resolved.
+     * @return whether the metadata stream of the document was replaced
      */
-    private void writeDublinCore(PDDocument document,
-                                 List<BibEntry> entries,
-                                 BibDatabase database)
+    private boolean writeDublinCore(PDDocument document,
+                                    List<BibEntry> entries,
+                                    BibDatabase database)
             throws IOException, TransformerException {
 
         List<BibEntry> resolvedEntries;
@@ -158,9 +163,17 @@ public class XmpUtilWriter {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
         XmpSerializer serializer = new XmpSerializer();
         serializer.serialize(meta, os, true);
-        ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray());
-        PDMetadata metadataStream = new PDMetadata(document, is);
+        byte[] xmpBytes = os.toByteArray();
+        if ((metaRaw != null) && Arrays.equals(metaRaw.toByteArray(), xmpBytes)) {
+            return false;
+        }
+        PDMetadata metadataStream = new PDMetadata(document, new ByteArrayInputStream(xmpBytes));
         catalog.setMetadata(metadataStream);
+
+        // Mark the path to the new stream for incremental saves
+        metadataStream.getCOSObject().setNeedToBeUpdated(true);
+        catalog.getCOSObject().setNeedToBeUpdated(true);
+        return true;
     }
 
     /**
@@ -224,11 +237,14 @@ public class XmpUtilWriter {
      * @param entry    The Bibtex entry that is written into the PDF properties. *
      * @param database An optional database which the given bibtex entries belong to, which will be used to
      *                 resolve strings. If the database is null the strings will not be resolved.
+     * @return whether the document information was changed
      */
-    private void writeDocumentInformation(PDDocument document,
-                                          BibEntry entry,
-                                          BibDatabase database) {
+    private boolean writeDocumentInformation(PDDocument document,
+                                             BibEntry entry,
+                                             BibDatabase database) {
         PDDocumentInformation di = document.getDocumentInformation();
+        Map<COSName, COSBase> previousInformation = new HashMap<>();
+        di.getCOSObject().entrySet().forEach(item -> previousInformation.put(item.getKey(), item.getValue()));
         BibEntry resolvedEntry = getDefaultOrDatabaseEntry(entry, database);
 
         boolean useXmpPrivacyFilter = xmpPreferences.shouldUseXmpPrivacyFilter();
@@ -274,6 +290,51 @@ public class XmpUtilWriter {
             }
         }
         di.setCustomMetadataValue("bibtex/entrytype", resolvedEntry.getType().getDisplayName());
+
+        Map<COSName, COSBase> currentInformation = new HashMap<>();
+        di.getCOSObject().entrySet().forEach(item -> currentInformation.put(item.getKey(), item.getValue()));
+        if (currentInformation.equals(previousInformation)) {
+            return false;
+        }
+        di.getCOSObject().setNeedToBeUpdated(true);
+        return true;
+    }
+
+    /**
+     * Writes the given entries into the document information and the XMP metadata of an opened document. Other existing
+     * metadata is kept. Changed objects are marked, so that the document can be saved using
+     * {@link PDDocument#saveIncremental(java.io.OutputStream)}.
+     *
+     * @param document      The document to write to. It is not saved.
+     * @param bibtexEntries The entries to write. The document information is filled with the first entry only.
+     * @param database      An optional database which the given bibtex entries belong to, which will be used
+     *                      to resolve strings. If the database is null the strings will not be resolved.
+     * @return whether the document was changed, i.e., false if the metadata was already up to date
+     * @throws TransformerException If the entry was malformed or unsupported.
+     * @throws IOException          If the existing metadata could not be read.
+     */
+    public boolean writeXmp(PDDocument document,
+                            List<BibEntry> bibtexEntries,
+                            BibDatabase database)
+            throws IOException, TransformerException {
+        if (document.isEncrypted()) {
+            throw new EncryptedPdfsNotSupportedException();
+        }
+        if (bibtexEntries.isEmpty()) {
+            return false;
+        }
+
+        List<BibEntry> resolvedEntries;
+        if (database == null) {
+            resolvedEntries = bibtexEntries;
+        } else {
+            resolvedEntries = database.resolveForStrings(bibtexEntries, false);
+        }
+
+        // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
+        boolean informationChanged = writeDocumentInformation(document, resolvedEntries.getFirst(), null);
+        boolean dublinCoreChanged = writeDublinCore(document, resolvedEntries, null);
+        return informationChanged || dublinCoreChanged;
     }
 
     /**
@@ -299,27 +360,12 @@ public class XmpUtilWriter {
                          List<BibEntry> bibtexEntries,
                          BibDatabase database)
             throws IOException, TransformerException {
-        List<BibEntry> resolvedEntries;
-        if (database == null) {
-            resolvedEntries = bibtexEntries;
-        } else {
-            resolvedEntries = database.resolveForStrings(bibtexEntries, false);
-        }
-
         // Read from another file
         // Reason: Apache PDFBox does not support writing while the file is opened
         // See https://issues.apache.org/jira/browse/PDFBOX-4028
         Path newFile = Files.createTempFile("JabRef", "pdf");
         try (PDDocument document = Loader.loadPDF(path.toFile())) {
-            if (document.isEncrypted()) {
-                throw new EncryptedPdfsNotSupportedException();
-            }
-
-            // Write schemas (PDDocumentInformation and DublinCoreSchema) to the document metadata
-            if (!resolvedEntries.isEmpty()) {
-                writeDocumentInformation(document, resolvedEntries.getFirst(), null);
-                writeDublinCore(document, resolvedEntries, null);
-            }
+            writeXmp(document, bibtexEntries, database);
 
             // Save updates to original file
             try {
@@ -24,6 +24,7 @@ import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -61,6 +62,13 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // Field changes collected while a transaction is open; guarded by itself
+    private final List<FieldChangedEvent> bufferedFieldChanges = new ArrayList<>();
+    private int openTransactions = 0;
+
+    // Created on first use, see getDuplicateCandidateIndex()
+    private volatile DuplicateCandidateIndex duplicateCandidateIndex;
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -193,6 +201,9 @@ public class BibDatabase {
         }
         entries.addAll(newEntries);
         newEntries.forEach(entry -> entriesId.put(entry.getId(), entry));
+        if (duplicateCandidateIndex != null) {
+            newEntries.forEach(duplicateCandidateIndex::add);
+        }
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -230,6 +241,9 @@ public class BibDatabase {
         boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
         if (anyRemoved) {
             toBeDeleted.forEach(entry -> entriesId.remove(entry.getId()));
+            if (duplicateCandidateIndex != null) {
+                toBeDeleted.forEach(duplicateCandidateIndex::remove);
+            }
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -532,6 +546,7 @@ public class BibDatabase {
      * <p>
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
+     * - {@link EntriesChangedEvent} (when a transaction is committed, see {@link #beginTransaction()})
      * - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -560,9 +575,74 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        // updated immediately (and not when a transaction ends) so that duplicate checks always see the current state
+        DuplicateCandidateIndex index = duplicateCandidateIndex;
+        if (index != null) {
+            index.update(event.getBibEntry(), event.getField());
+        }
+        synchronized (bufferedFieldChanges) {
+            if (openTransactions > 0) {
+                bufferedFieldChanges.add(event);
+                return;
+            }
+        }
         eventBus.post(event);
     }
 
+    /**
+     * Starts a transaction for bulk edits. Until the transaction is closed, the {@link FieldChangedEvent}s of all entries
+     * are collected instead of being posted. When the outermost transaction is closed, a single
+     * {@link EntriesChangedEvent} containing all changes is posted. If only one field changed, the
+     * {@link FieldChangedEvent} itself is posted.
+     * <p>
+     * Transactions may be nested. Note that changes of other threads happening in the meantime are collected, too.
+     */
+    public BibDatabaseTransaction beginTransaction() {
+        synchronized (bufferedFieldChanges) {
+            openTransactions++;
+        }
+        return new BibDatabaseTransaction(this);
+    }
+
+    void endTransaction() {
+        List<FieldChangedEvent> fieldChanges;
+        synchronized (bufferedFieldChanges) {
+            if (openTransactions == 0) {
+                throw new IllegalStateException("No transaction open");
+            }
+            openTransactions--;
+            if ((openTransactions > 0) || bufferedFieldChanges.isEmpty()) {
+                return;
+            }
+            fieldChanges = List.copyOf(bufferedFieldChanges);
+            bufferedFieldChanges.clear();
+        }
+
+        if (fieldChanges.size() == 1) {
+            eventBus.post(fieldChanges.getFirst());
+            return;
+        }
+
+        List<BibEntry> changedEntries = fieldChanges.stream()
+                                                    .map(FieldChangedEvent::getBibEntry)
+                                                    .distinct()
+                                                    .toList();
+        EntriesEventSource commonSource = fieldChanges.getFirst().getEntriesEventSource();
+        boolean isCommonSource = fieldChanges.stream().allMatch(change -> change.getEntriesEventSource() == commonSource);
+        eventBus.post(new EntriesChangedEvent(changedEntries, fieldChanges, isCommonSource ? commonSource : EntriesEventSource.LOCAL));
+    }
+
+    /**
+     * Returns the index for finding duplicate candidates of an entry. The index is built on first call and maintained
+     * afterward on each insertion, removal, and change of entries.
+     */
+    public synchronized DuplicateCandidateIndex getDuplicateCandidateIndex() {
+        if (duplicateCandidateIndex == null) {
+            duplicateCandidateIndex = new DuplicateCandidateIndex(entries);
+        }
+        return duplicateCandidateIndex;
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
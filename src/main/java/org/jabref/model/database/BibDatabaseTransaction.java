@@ -0,0 +1,35 @@
+package org.jabref.model.database;
+
+/**
+ * A transaction on a {@link BibDatabase}. While at least one transaction is open, the field changes of the entries
+ * are not posted one by one, but collected. On {@link #close()} of the outermost transaction, one
+ * {@link org.jabref.model.database.event.EntriesChangedEvent} is posted.
+ * <p>
+ * Use with try-with-resources:
+ * <pre>{@code
+ * try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+ *     entries.forEach(entry -> entry.setField(StandardField.YEAR, "2025"));
+ * }
+ * }</pre>
+ */
+public class BibDatabaseTransaction implements AutoCloseable {
+
+    private final BibDatabase database;
+    private boolean closed;
+
+    BibDatabaseTransaction(BibDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Commits the transaction. Calling this method more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        database.endTransaction();
+    }
+}
@@ -0,0 +1,217 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Index of the entries of a {@link BibDatabase} to quickly find the entries that possibly are duplicates of a given
+ * entry. The actual comparison is done by {@code org.jabref.logic.database.DuplicateCheck}; this index only narrows
+ * down which entries need to be compared.
+ * <p>
+ * Entries are indexed by the content of their identifier fields (DOI, ISBN, ...), their normalized DOI and ISBN, their
+ * citation key, and the words of their title. Thus, titles differing by typos are still found as long as they share a
+ * word. Short words (e.g., "of") and common words (e.g., "with", "study") are not indexed, as nearly every entry
+ * contains them. Entries without title are indexed by the last names of their authors. Entries having none of these
+ * fields are always candidates.
+ * <p>
+ * Title words which nevertheless occur in many entries of the library (e.g., "learning" in a library on machine
+ * learning) are not looked up, except for the two rarest words of the given title. Otherwise, a single such word would
+ * make most of the library a candidate.
+ * <p>
+ * Titles with less than two indexed words cannot be narrowed down reliably (e.g., a single misspelled word), thus all
+ * entries are candidates for them.
+ * <p>
+ * The index is maintained by the database on insertion, removal, and change of entries (see
+ * {@link BibDatabase#getDuplicateCandidateIndex()}).
+ */
+public class DuplicateCandidateIndex {
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern AUTHOR_SEPARATOR = Pattern.compile("\\s+and\\s+");
+
+    private static final String AUTHOR_PREFIX = "author:";
+    private static final String TITLE_PREFIX = "title:";
+
+    private static final int MIN_TITLE_WORD_LENGTH = 4;
+
+    private static final Set<String> COMMON_TITLE_WORDS = Set.of(
+            "about", "across", "after", "against", "also", "among", "analysis", "approach", "approaches", "based",
+            "between", "beyond", "case", "does", "during", "evidence", "from", "have", "into", "method", "methods",
+            "more", "over", "review", "some", "studies", "study", "than", "that", "their", "them", "then", "there",
+            "these", "they", "this", "those", "through", "towards", "toward", "under", "upon", "using", "versus", "very",
+            "what", "when", "where", "which", "while", "with", "within", "without");
+
+    // A title word is frequent if it occurs in more than a tenth of the entries, and in more than 20 entries
+    private static final int FREQUENT_TITLE_WORD_DIVISOR = 10;
+    private static final int MIN_FREQUENT_TITLE_WORD_COUNT = 20;
+    private static final int MIN_LOOKED_UP_TITLE_WORDS = 2;
+
+    private static final Set<Field> INDEX_FIELDS = Set.of(StandardField.TITLE, StandardField.AUTHOR, StandardField.EDITOR, StandardField.DOI, StandardField.ISBN, InternalField.KEY_FIELD);
+
+    private final Map<String, Set<BibEntry>> entriesByKey = new HashMap<>();
+    private final Map<BibEntry, Set<String>> keysByEntry = new IdentityHashMap<>();
+    private final Set<BibEntry> unindexedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    DuplicateCandidateIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    /**
+     * Returns the entries which share at least one index key with the given entry, in the order of the database.
+     * If the given entry has neither identifiers nor a title, no narrowing is possible and all indexed entries are
+     * returned.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        Set<String> keys = computeKeys(entry);
+        // entries without title are indexed by their authors only, thus they need to be looked up by authors, too
+        keys.addAll(computeAuthorKeys(entry));
+        List<String> titleWords = titleWords(entry);
+        keys.removeAll(getFrequentTitleKeys(titleWords));
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean hasShortTitle = entry.hasField(StandardField.TITLE) && (titleWords.size() < 2);
+        boolean canBeNarrowed = !hasShortTitle && keys.stream().anyMatch(key -> !key.startsWith(AUTHOR_PREFIX));
+        if (!canBeNarrowed) {
+            candidates.addAll(keysByEntry.keySet());
+        } else {
+            for (String key : keys) {
+                candidates.addAll(entriesByKey.getOrDefault(key, Set.of()));
+            }
+            candidates.addAll(unindexedEntries);
+        }
+        List<BibEntry> result = new ArrayList<>(candidates);
+        // IDs are increasing in insertion order, see BibDatabase#indexOf
+        result.sort(Comparator.comparing(BibEntry::getId));
+        return result;
+    }
+
+    /**
+     * @return the keys of the given title words occurring in many entries, except for the rarest ones
+     */
+    private Set<String> getFrequentTitleKeys(List<String> titleWords) {
+        int maxCount = Math.max(MIN_FREQUENT_TITLE_WORD_COUNT, keysByEntry.size() / FREQUENT_TITLE_WORD_DIVISOR);
+        return titleWords.stream()
+                         .map(word -> TITLE_PREFIX + word)
+                         .distinct()
+                         .sorted(Comparator.comparingInt(this::countEntries))
+                         .skip(MIN_LOOKED_UP_TITLE_WORDS)
+                         .filter(key -> countEntries(key) > maxCount)
+                         .collect(Collectors.toSet());
+    }
+
+    private int countEntries(String key) {
+        return entriesByKey.getOrDefault(key, Set.of()).size();
+    }
+
+    synchronized void add(BibEntry entry) {
+        Set<String> keys = computeKeys(entry);
+        keysByEntry.put(entry, keys);
+        if (keys.isEmpty()) {
+            unindexedEntries.add(entry);
+            return;
+        }
+        for (String key : keys) {
+            entriesByKey.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry);
+        }
+    }
+
+    synchronized void remove(BibEntry entry) {
+        Set<String> keys = keysByEntry.remove(entry);
+        if (keys == null) {
+            return;
+        }
+        unindexedEntries.remove(entry);
+        for (String key : keys) {
+            Set<BibEntry> entries = entriesByKey.get(key);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    entriesByKey.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-indexes the entry if the changed field is relevant for the index
+     */
+    synchronized void update(BibEntry entry, Field changedField) {
+        if (!keysByEntry.containsKey(entry)) {
+            return;
+        }
+        if (INDEX_FIELDS.contains(changedField) || changedField.getProperties().contains(FieldProperty.IDENTIFIER)) {
+            remove(entry);
+            add(entry);
+        }
+    }
+
+    synchronized int size() {
+        return keysByEntry.size();
+    }
+
+    private static Set<String> computeKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(content -> keys.add("id:" + field.getName() + ":" + content));
+            }
+        }
+        entry.getDOI().ifPresent(doi -> keys.add("doi:" + doi.asString().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.asString()));
+        entry.getCitationKey().filter(key -> !key.isBlank()).ifPresent(key -> keys.add("key:" + key));
+
+        List<String> titleWords = titleWords(entry);
+        titleWords.forEach(word -> keys.add(TITLE_PREFIX + word));
+
+        if (titleWords.isEmpty()) {
+            keys.addAll(computeAuthorKeys(entry));
+        }
+        return keys;
+    }
+
+    private static Set<String> computeAuthorKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        entry.getFieldLatexFree(StandardField.AUTHOR)
+             .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+             .ifPresent(authors -> {
+                 for (String author : AUTHOR_SEPARATOR.split(authors)) {
+                     // "Last, First" or "First Last"
+                     List<String> names = words(author.contains(",") ? author.substring(0, author.indexOf(',')) : author);
+                     if (!names.isEmpty()) {
+                         keys.add(AUTHOR_PREFIX + names.getLast());
+                     }
+                 }
+             });
+        return keys;
+    }
+
+    private static List<String> titleWords(BibEntry entry) {
+        return entry.getFieldLatexFree(StandardField.TITLE)
+                    .map(title -> words(title).stream()
+                                              .filter(word -> (word.length() >= MIN_TITLE_WORD_LENGTH) && !COMMON_TITLE_WORDS.contains(word))
+                                              .toList())
+                    .orElse(List.of());
+    }
+
+    private static List<String> words(String text) {
+        return NON_WORD_CHARACTERS.splitAsStream(text.toLowerCase(Locale.ROOT))
+                                  .filter(word -> !word.isEmpty())
+                                  .toList();
+    }
+}
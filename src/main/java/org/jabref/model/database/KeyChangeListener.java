@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -31,6 +32,11 @@ public class KeyChangeListener {
         }
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        event.getFieldChanges().forEach(this::listen);
+    }
+
     @Subscribe
     public void listen(EntriesRemovedEvent event) {
         List<BibEntry> entries = event.getBibEntries();
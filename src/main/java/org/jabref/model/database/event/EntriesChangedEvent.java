@@ -0,0 +1,33 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * {@link EntriesChangedEvent} is fired when a transaction on the {@link BibDatabase} containing several field changes
+ * has been committed (see {@link BibDatabase#beginTransaction()}). It replaces the single {@link FieldChangedEvent}s
+ * which were buffered during the transaction.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChanges;
+
+    /**
+     * @param bibEntries   the distinct entries which have been changed
+     * @param fieldChanges all field changes in the order they happened
+     * @param location     Location affected by this event
+     */
+    public EntriesChangedEvent(List<BibEntry> bibEntries, List<FieldChangedEvent> fieldChanges, EntriesEventSource location) {
+        super(bibEntries, location);
+        this.fieldChanges = List.copyOf(fieldChanges);
+    }
+
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
+}
@@ -1,17 +1,15 @@
 package org.jabref.model.entry;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
+import org.jabref.model.util.ParsedValueCache;
 
 import org.jspecify.annotations.NonNull;
 
@@ -120,7 +118,7 @@ import org.jspecify.annotations.NonNull;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList implements Iterable<Author> {
 
-    private static final Map<String, AuthorList> AUTHOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ParsedValueCache<String, AuthorList> AUTHOR_CACHE = ParsedValueCache.create("AuthorList", 50_000);
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
@@ -173,7 +171,7 @@ public class AuthorList implements Iterable<Author> {
      * @return An AuthorList object representing the given authors.
      */
     public static AuthorList parse(@NonNull final String authors) {
-        return AUTHOR_CACHE.computeIfAbsent(authors, string -> {
+        return AUTHOR_CACHE.get(authors, string -> {
             AuthorListParser parser = new AuthorListParser();
             return parser.parse(string);
         });
@@ -14,6 +14,8 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jabref.model.util.ParsedValueCache;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,6 +25,7 @@ public class Date {
     private static final DateTimeFormatter NORMALIZED_DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu[-MM][-dd]");
     private static final DateTimeFormatter SIMPLE_DATE_FORMATS;
     private static final Logger LOGGER = LoggerFactory.getLogger(Date.class);
+    private static final ParsedValueCache<String, Optional<Date>> DATE_CACHE = ParsedValueCache.create("Date", 10_000);
 
     static {
         List<String> formatStrings = Arrays.asList(
@@ -134,6 +137,10 @@ public class Date {
             return Optional.empty();
         }
 
+        return DATE_CACHE.get(dateString, Date::parseUncached);
+    }
+
+    private static Optional<Date> parseUncached(String dateString) {
         // if dateString has range format, treat as date range
         if (dateString.matches(
                 "\\d{4}/\\d{4}|" + // uuuu/uuuu
@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.model.strings.StringUtil;
+import org.jabref.model.util.ParsedValueCache;
 
 /**
  * Represents a list of keyword chains.
@@ -20,6 +21,8 @@ import org.jabref.model.strings.StringUtil;
  */
 public class KeywordList implements Iterable<Keyword> {
 
+    private static final ParsedValueCache<String, KeywordList> KEYWORD_LIST_CACHE = ParsedValueCache.create("KeywordList", 10_000);
+
     private final List<Keyword> keywordChains;
 
     public KeywordList() {
@@ -51,6 +54,12 @@ public class KeywordList implements Iterable<Keyword> {
         Objects.requireNonNull(delimiter);
         Objects.requireNonNull(hierarchicalDelimiter);
 
+        // Keyword lists are mutable, thus each caller gets its own copy of the cached list
+        return KEYWORD_LIST_CACHE.get(String.valueOf(delimiter) + hierarchicalDelimiter + keywordString,
+                key -> parseUncached(keywordString, delimiter, hierarchicalDelimiter)).createClone();
+    }
+
+    private static KeywordList parseUncached(String keywordString, Character delimiter, Character hierarchicalDelimiter) {
         KeywordList keywordList = new KeywordList();
 
         StringTokenizer tok = new StringTokenizer(keywordString, delimiter.toString());
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import javafx.beans.Observable;
@@ -233,6 +234,12 @@ public class LinkedFile implements Serializable {
     ///
     /// @return absolute path if found.
     public Optional<Path> findIn(List<Path> directories) {
+        return findIn(directories, Files::exists);
+    }
+
+    /// Same as [#findIn(List)], but checks whether a candidate exists using the given predicate.
+    /// This allows to use cached file statuses, e.g., of the `FileStatusCache`.
+    public Optional<Path> findIn(List<Path> directories, Predicate<Path> fileExists) {
         try {
             if (link.get().isEmpty()) {
                 // We do not want to match empty paths (which could be any file or none ?!)
@@ -241,13 +248,13 @@ public class LinkedFile implements Serializable {
 
             Path file = Path.of(link.get());
             if (file.isAbsolute() || directories.isEmpty()) {
-                if (Files.exists(file)) {
+                if (fileExists.test(file)) {
                     return Optional.of(file);
                 } else {
                     return Optional.empty();
                 }
             } else {
-                return FileUtil.find(link.get(), directories);
+                return FileUtil.find(link.get(), directories, fileExists);
             }
         } catch (InvalidPathException ex) {
             return Optional.empty();
@@ -6,9 +6,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.SequencedSet;
 import java.util.Set;
 import java.util.TreeSet;
@@ -16,9 +19,11 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.model.entry.types.BiblatexApaEntryType;
+import org.jabref.model.entry.types.BiblatexSoftwareEntryType;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.OptionalUtil;
+import org.jabref.model.util.ParsedValueCache;
 
 public class FieldFactory {
 
@@ -29,6 +34,26 @@ public class FieldFactory {
     private static final String FIELD_OR_SEPARATOR = "/";
     private static final String DELIMITER = ";";
 
+    /**
+     * Fields independent of the entry type by their lower case names. If names clash, the first enum listed wins.
+     */
+    private static final Map<String, Field> NAME_TO_FIELD = createNameToField(
+            InternalField.values(),
+            StandardField.values(),
+            SpecialField.values(),
+            IEEEField.values());
+
+    private static final Map<String, Field> NAME_TO_BIBLATEX_SOFTWARE_FIELD = createNameToField(BiblatexSoftwareField.values());
+    private static final Map<String, Field> NAME_TO_BIBLATEX_APA_FIELD = createNameToField(BiblatexApaField.values());
+    private static final Map<String, Field> NAME_TO_AMS_FIELD = createNameToField(AMSField.values());
+
+    private static final ParsedValueCache<String, UnknownField> UNKNOWN_FIELDS = ParsedValueCache.create("Unknown fields", 10_000);
+
+    static {
+        // For backwards compatibility
+        NAME_TO_FIELD.put("bibtexkey", InternalField.KEY_FIELD);
+    }
+
     public static String serializeOrFields(Field... fields) {
         return serializeOrFields(new OrFields(fields));
     }
@@ -112,6 +137,9 @@ public class FieldFactory {
     /**
      * Type T is an entry type and is used to direct the mapping to the Java field class.
      * This somehow acts as filter, BibLaTeX "APA" entry type has field "article", but we want to have StandardField (if not explicitly requested otherwise)
+     * <p>
+     * Known fields are resolved by a single lookup in the tables below. Unknown fields are cached, so that parsing a
+     * library creates one instance per unknown field name only.
      */
     public static <T extends EntryType> Field parseField(T type, String fieldName) {
         // Check if the field name starts with "comment-" which indicates it's a UserSpecificCommentField
@@ -119,20 +147,32 @@ public class FieldFactory {
             String username = fieldName.substring("comment-".length());
             return new UserSpecificCommentField(username);
         }
-        return OptionalUtil.<Field>orElse(
-              OptionalUtil.<Field>orElse(
-               OptionalUtil.<Field>orElse(
-                OptionalUtil.<Field>orElse(
-                 OptionalUtil.<Field>orElse(
-                   OptionalUtil.<Field>orElse(
-              InternalField.fromName(fieldName),
-              StandardField.fromName(fieldName)),
-              SpecialField.fromName(fieldName)),
-              IEEEField.fromName(fieldName)),
-              BiblatexSoftwareField.fromName(type, fieldName)),
-              BiblatexApaField.fromName(type, fieldName)),
-              AMSField.fromName(type, fieldName))
-              .orElse(UnknownField.fromDisplayName(fieldName));
+
+        String key = fieldName.toLowerCase(Locale.ROOT);
+        Field field = NAME_TO_FIELD.get(key);
+        if (field == null && type instanceof BiblatexSoftwareEntryType) {
+            field = NAME_TO_BIBLATEX_SOFTWARE_FIELD.get(key);
+        }
+        if (field == null && type instanceof BiblatexApaEntryType) {
+            field = NAME_TO_BIBLATEX_APA_FIELD.get(key);
+        }
+        if (field == null) {
+            field = NAME_TO_AMS_FIELD.get(key);
+        }
+        if (field == null) {
+            field = UNKNOWN_FIELDS.get(fieldName, UnknownField::fromDisplayName);
+        }
+        return field;
+    }
+
+    private static Map<String, Field> createNameToField(Field[]... fieldGroups) {
+        Map<String, Field> nameToField = new HashMap<>();
+        for (Field[] fields : fieldGroups) {
+            for (Field field : fields) {
+                nameToField.putIfAbsent(field.getName().toLowerCase(Locale.ROOT), field);
+            }
+        }
+        return nameToField;
     }
 
     public static Field parseField(String fieldName) {
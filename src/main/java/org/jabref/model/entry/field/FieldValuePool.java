@@ -0,0 +1,51 @@
+package org.jabref.model.entry.field;
+
+import java.util.Set;
+
+import org.jabref.model.util.ParsedValueCache;
+
+/**
+ * Shares equal field values between entries to save heap on large libraries.
+ * <p>
+ * Only values which typically repeat across many entries are pooled: the values of fields such as the journal or the
+ * year, and short values of any field. Long values (e.g., abstracts) are mostly unique and stored as they are, instead
+ * of being added to the JVM-wide string table by {@link String#intern()}. The pool is bounded, the least recently used
+ * values are dropped from it (but stay in the entries referencing them).
+ */
+public final class FieldValuePool {
+
+    /**
+     * Values up to this length are pooled regardless of the field, e.g., owners or entry types of the "type" field
+     */
+    static final int MAX_LENGTH_OF_POOLED_VALUE = 32;
+
+    private static final Set<Field> FIELDS_WITH_REPETITIVE_VALUES = Set.of(
+            StandardField.ADDRESS,
+            StandardField.BOOKTITLE,
+            StandardField.INSTITUTION,
+            StandardField.JOURNAL,
+            StandardField.JOURNALTITLE,
+            StandardField.LANGUAGE,
+            StandardField.LOCATION,
+            StandardField.MONTH,
+            StandardField.ORGANIZATION,
+            StandardField.PUBLISHER,
+            StandardField.SCHOOL,
+            StandardField.SERIES,
+            StandardField.YEAR);
+
+    private static final ParsedValueCache<String, String> POOL = ParsedValueCache.create("Field values", 100_000);
+
+    private FieldValuePool() {
+    }
+
+    /**
+     * @return an instance equal to the given value, shared with other entries if the value is likely to repeat
+     */
+    public static String canonicalize(Field field, String value) {
+        if (value.length() <= MAX_LENGTH_OF_POOLED_VALUE || FIELDS_WITH_REPETITIVE_VALUES.contains(field)) {
+            return POOL.get(value, pooledValue -> pooledValue);
+        }
+        return value;
+    }
+}
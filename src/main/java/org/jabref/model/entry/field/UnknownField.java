@@ -7,7 +7,7 @@ import java.util.Objects;
 import org.jabref.model.strings.StringUtil;
 
 public class UnknownField implements Field {
-    private String name;
+    private final String name;
     private final EnumSet<FieldProperty> properties;
     private final String displayName;
 
@@ -45,10 +45,6 @@ public class UnknownField implements Field {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
-    }
-
     @Override
     public String getDisplayName() {
         return displayName;
@@ -1,15 +1,24 @@
 package org.jabref.model.entry.types;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.model.entry.BibEntryType;
 
 public class EntryTypeFactory {
 
+    /**
+     * Known entry types by their names. If names clash, the first enum listed wins.
+     */
+    private static final Map<String, EntryType> NAME_TO_TYPE = createNameToType(
+            StandardEntryType.values(),
+            IEEETranEntryType.values(),
+            BiblatexSoftwareEntryType.values(),
+            BiblatexApaEntryType.values(),
+            SystematicLiteratureReviewStudyEntryType.values());
+
     private EntryTypeFactory() {
     }
 
@@ -44,13 +53,25 @@ public class EntryTypeFactory {
         return BiblatexEntryTypeDefinitions.ALL.stream().anyMatch(bibEntryType -> bibEntryType.getType().equals(type));
     }
 
+    /**
+     * Resolves the entry type by its case-insensitive name. If the name is unknown, an {@link UnknownEntryType} is
+     * returned.
+     */
     public static EntryType parse(String typeName) {
-        List<EntryType> types = new ArrayList<>(Arrays.<EntryType>asList(StandardEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(IEEETranEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(BiblatexSoftwareEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(BiblatexApaEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(SystematicLiteratureReviewStudyEntryType.values()));
+        EntryType type = NAME_TO_TYPE.get(typeName.toLowerCase(Locale.ENGLISH));
+        if (type == null) {
+            return new UnknownEntryType(typeName);
+        }
+        return type;
+    }
 
-        return types.stream().filter(type -> type.getName().equals(typeName.toLowerCase(Locale.ENGLISH))).findFirst().orElse(new UnknownEntryType(typeName));
+    private static Map<String, EntryType> createNameToType(EntryType[]... typeGroups) {
+        Map<String, EntryType> nameToType = new HashMap<>();
+        for (EntryType[] types : typeGroups) {
+            for (EntryType type : types) {
+                nameToType.putIfAbsent(type.getName(), type);
+            }
+        }
+        return nameToType;
     }
 }
@@ -11,53 +11,75 @@ import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
 import org.apache.lucene.search.highlight.TextFragment;
 
+/**
+ * A match of a search, either in the fields of an entry or on a page of a linked file.
+ * <p>
+ * The text of a matching page is only loaded (using the given {@link PageTextLoader}) and highlighted when the
+ * snippets are requested, so that searches with many matching pages do not hold the text of all of them.
+ */
 public final class SearchResult {
 
+    /**
+     * The stored text of a page of a linked file
+     */
+    public record PageText(String content, String annotations) {
+        public static final PageText EMPTY = new PageText("", "");
+    }
+
+    @FunctionalInterface
+    public interface PageTextLoader {
+        PageText load(String path, int pageNumber);
+    }
+
     private final boolean hasFulltextResults;
     private final String path;
-    private final String pageContent;
-    private final String annotation;
     private final int pageNumber;
+    private final PageTextLoader pageTextLoader;
     private final Highlighter highlighter;
     private List<String> contentResultStringsHtml;
     private List<String> annotationsResultStringsHtml;
 
     private SearchResult(boolean hasFulltextResults,
                          String path,
-                         String pageContent,
-                         String annotation,
                          int pageNumber,
+                         PageTextLoader pageTextLoader,
                          Highlighter highlighter) {
         this.hasFulltextResults = hasFulltextResults;
         this.path = path;
-        this.pageContent = pageContent;
-        this.annotation = annotation;
         this.pageNumber = pageNumber;
+        this.pageTextLoader = pageTextLoader;
         this.highlighter = highlighter;
     }
 
     public SearchResult() {
-        this(false, "", "", "", -1, null);
+        this(false, "", -1, (path, pageNumber) -> PageText.EMPTY, null);
     }
 
-    public SearchResult(String path, String pageContent, String annotation, int pageNumber, Highlighter highlighter) {
-        this(true, path, pageContent, annotation, pageNumber, highlighter);
+    public SearchResult(String path, int pageNumber, PageTextLoader pageTextLoader, Highlighter highlighter) {
+        this(true, path, pageNumber, pageTextLoader, highlighter);
     }
 
     public List<String> getContentResultStringsHtml() {
         if (contentResultStringsHtml == null) {
-            return contentResultStringsHtml = getHighlighterFragments(highlighter, LinkedFilesConstants.CONTENT, pageContent);
+            loadResultStrings();
         }
         return contentResultStringsHtml;
     }
 
     public List<String> getAnnotationsResultStringsHtml() {
         if (annotationsResultStringsHtml == null) {
-            annotationsResultStringsHtml = getHighlighterFragments(highlighter, LinkedFilesConstants.ANNOTATIONS, annotation);
+            loadResultStrings();
         }
         return annotationsResultStringsHtml;
     }
 
+    private void loadResultStrings() {
+        // the page text is not kept, only the highlighted fragments
+        PageText pageText = pageTextLoader.load(path, pageNumber);
+        contentResultStringsHtml = getHighlighterFragments(highlighter, LinkedFilesConstants.CONTENT, pageText.content());
+        annotationsResultStringsHtml = getHighlighterFragments(highlighter, LinkedFilesConstants.ANNOTATIONS, pageText.annotations());
+    }
+
     public boolean hasFulltextResults() {
         return hasFulltextResults;
     }
@@ -5,6 +5,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import org.jabref.model.util.ParsedValueCache;
+
 import com.github.tomtung.latex2unicode.LaTeX2Unicode;
 import fastparse.Parsed;
 
@@ -20,14 +22,27 @@ public class LatexToUnicodeAdapter {
     private static final Pattern UNDERSCORE_PLACEHOLDER_MATCHER = Pattern.compile(REPLACEMENT_CHAR);
 
     /**
-     * Attempts to resolve all LaTeX in the String.
+     * Bounded by the number of characters of the cached field contents and their conversions, because the contents range
+     * from a few characters to whole abstracts
+     */
+    private static final int LATEX_FREE_CACHE_MAX_CHARACTERS = 10_000_000;
+
+    private static final ParsedValueCache<String, String> LATEX_FREE_CACHE = ParsedValueCache.create("LaTeX-free",
+            LATEX_FREE_CACHE_MAX_CHARACTERS, (String field, String latexFree) -> field.length() + latexFree.length());
+
+    /**
+     * Attempts to resolve all LaTeX in the String. The results are cached, because field values are converted repeatedly
+     * (e.g., for the main table, sorting, and searching).
      *
      * @param inField a String containing LaTeX
      * @return a String with LaTeX resolved into Unicode, or the original String if the LaTeX could not be parsed
      */
     public static String format(String inField) {
         Objects.requireNonNull(inField);
-        return parse(inField).orElse(Normalizer.normalize(inField, Normalizer.Form.NFC));
+        if (isFreeOfLatex(inField)) {
+            return inField;
+        }
+        return LATEX_FREE_CACHE.get(inField, field -> parse(field).orElse(Normalizer.normalize(field, Normalizer.Form.NFC)));
     }
 
     /**
@@ -38,6 +53,9 @@ public class LatexToUnicodeAdapter {
      */
     public static Optional<String> parse(String inField) {
         Objects.requireNonNull(inField);
+        if (isFreeOfLatex(inField)) {
+            return Optional.of(inField);
+        }
         String toFormat = UNDERSCORE_MATCHER.matcher(inField).replaceAll(REPLACEMENT_CHAR);
         var parsingResult = LaTeX2Unicode.parse(toFormat);
         if (parsingResult instanceof Parsed.Success) {
@@ -47,4 +65,45 @@ public class LatexToUnicodeAdapter {
         }
         return Optional.empty();
     }
+
+    /**
+     * Checks whether the given String is left unchanged by the conversion. This is the case for most field values, e.g.,
+     * years, page ranges with a single hyphen, or plain titles. Thus, the expensive parsing can be skipped for them.
+     * <p>
+     * The check is conservative: it fails for all characters and character sequences the parser may transform, for
+     * consecutive whitespace, and for non-ASCII text not in Unicode normal form C.
+     */
+    static boolean isFreeOfLatex(String inField) {
+        boolean isAscii = true;
+        char previous = 0;
+        for (int i = 0; i < inField.length(); i++) {
+            char current = inField.charAt(i);
+            switch (current) {
+                case '\\', '{', '}', '$', '^', '_', '~', '`', '%', '&', '#' -> {
+                    return false;
+                }
+                case '-', '\'' -> {
+                    // "--", "---", and "''" are converted to dashes and quotes
+                    if (previous == current) {
+                        return false;
+                    }
+                }
+                case ' ' -> {
+                    if (previous == ' ') {
+                        return false;
+                    }
+                }
+                default -> {
+                    if (current < ' ') {
+                        return false;
+                    }
+                    if (current > 127) {
+                        isAscii = false;
+                    }
+                }
+            }
+            previous = current;
+        }
+        return isAscii || Normalizer.isNormalized(inField, Normalizer.Form.NFC);
+    }
 }
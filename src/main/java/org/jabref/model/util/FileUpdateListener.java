@@ -6,4 +6,10 @@ public interface FileUpdateListener {
      * The file has been updated. A new call will not result until the file has been modified again.
      */
     void fileUpdated();
+
+    /**
+     * The file has been deleted. Only listeners interested in deletions need to override this.
+     */
+    default void fileDeleted() {
+    }
 }
@@ -0,0 +1,105 @@
+package org.jabref.model.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+/**
+ * A concurrent, size-bounded cache for values parsed from field contents, e.g., {@link org.jabref.model.entry.AuthorList}.
+ * <p>
+ * Values are held strongly and the least recently used ones are evicted as soon as the maximum size is reached. Thus,
+ * the values of the fields currently in use stay in the cache. Parsing happens outside any lock: if two threads miss
+ * the same key at the same time, both parse the value and the later result replaces the earlier (equal) one. Callers
+ * thus have to pass a side effect free parser.
+ * <p>
+ * Hits and misses are recorded for all caches, see {@link #getAllStatistics()}.
+ */
+public class ParsedValueCache<K, V> {
+
+    private static final Map<String, ParsedValueCache<?, ?>> CACHES = new ConcurrentHashMap<>();
+
+    private final Cache<K, V> cache;
+
+    private ParsedValueCache(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Creates a new cache and registers it for the statistics under the given name.
+     */
+    public static <K, V> ParsedValueCache<K, V> create(String name, long maximumSize) {
+        return register(name, new ParsedValueCache<>(CacheBuilder.newBuilder()
+                                                                 .maximumSize(maximumSize)
+                                                                 .recordStats()
+                                                                 .build()));
+    }
+
+    /**
+     * Creates a new cache bounded by the total weight of its entries instead of their number. Use this if the sizes of
+     * the values vary a lot (e.g., field contents ranging from a year to a whole abstract).
+     */
+    public static <K, V> ParsedValueCache<K, V> create(String name, long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        return register(name, new ParsedValueCache<>(CacheBuilder.newBuilder()
+                                                                 .maximumWeight(maximumWeight)
+                                                                 .<K, V>weigher(weigher)
+                                                                 .recordStats()
+                                                                 .build()));
+    }
+
+    private static <K, V> ParsedValueCache<K, V> register(String name, ParsedValueCache<K, V> parsedValueCache) {
+        CACHES.put(name, parsedValueCache);
+        return parsedValueCache;
+    }
+
+    /**
+     * Returns the cached value for the given key. If there is none, the value is parsed by the given function and cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> parser) {
+        V value = cache.getIfPresent(key);
+        if (value == null) {
+            value = Objects.requireNonNull(parser.apply(key));
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached value for the given key without parsing it. Used if several values are parsed at once, see
+     * {@link #put(Object, Object)}.
+     */
+    public Optional<V> getIfPresent(K key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, Objects.requireNonNull(value));
+    }
+
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the statistics of all created caches by their names
+     */
+    public static Map<String, CacheStats> getAllStatistics() {
+        Map<String, CacheStats> statistics = new ConcurrentHashMap<>();
+        CACHES.forEach((name, parsedValueCache) -> statistics.put(name, parsedValueCache.getStatistics()));
+        return statistics;
+    }
+}
@@ -1,13 +1,17 @@
 package org.jabref.gui;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.event.EventListenerTest;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +55,7 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
@@ -69,10 +73,32 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Initial timestamp not set correctly");
 
-        database.registerListener(new UpdateTimestampListener(preferencesMock));
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
 
         bibEntry.setField(new UnknownField("test"), "some value");
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "New timestamp set after entry changed even though updates were disabled");
     }
+
+    @Test
+    void updateTimestampsOfTransactionInOneTransaction() {
+        when(timestampPreferencesMock.now()).thenReturn(newDate);
+        when(timestampPreferencesMock.shouldAddModificationDate()).thenReturn(true);
+        BibEntry secondEntry = new BibEntry();
+        database.insertEntry(secondEntry);
+        database.registerListener(new UpdateTimestampListener(preferencesMock, database));
+        EventListenerTest eventListener = new EventListenerTest();
+        database.registerListener(eventListener);
+
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            bibEntry.setField(StandardField.TITLE, "title");
+            secondEntry.setField(StandardField.TITLE, "title");
+        }
+
+        assertEquals(Optional.of(newDate), bibEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(Optional.of(newDate), secondEntry.getField(StandardField.MODIFICATIONDATE));
+        assertEquals(0, eventListener.getEntryChangedEventCount());
+        assertEquals(List.of(StandardField.MODIFICATIONDATE, StandardField.MODIFICATIONDATE),
+                eventListener.getEntriesChangedEvent().getFieldChanges().stream().map(FieldChangedEvent::getField).toList());
+    }
 }
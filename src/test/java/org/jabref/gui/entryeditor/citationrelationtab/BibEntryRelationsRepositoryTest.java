@@ -10,7 +10,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BibEntryRelationsRepositoryTest {
@@ -38,7 +40,7 @@ class BibEntryRelationsRepositoryTest {
     @Test
     void getCitations() throws Exception {
         SemanticScholarFetcher semanticScholarFetcher = mock(SemanticScholarFetcher.class);
-        when(semanticScholarFetcher.searchCitedBy(any(BibEntry.class))).thenAnswer(invocation -> {
+        when(semanticScholarFetcher.searchCitedBy(any(BibEntry.class), eq(false))).thenAnswer(invocation -> {
             BibEntry entry = invocation.getArgument(0);
             return getCitedBy(entry);
         });
@@ -58,4 +60,19 @@ class BibEntryRelationsRepositoryTest {
             assertEquals(getCitedBy(entry), citations);
         }
     }
+
+    @Test
+    void forceRefreshBypassesCachedResponses() throws Exception {
+        SemanticScholarFetcher semanticScholarFetcher = mock(SemanticScholarFetcher.class);
+        when(semanticScholarFetcher.searchCitedBy(any(BibEntry.class), eq(true))).thenReturn(List.of());
+        when(semanticScholarFetcher.searchCiting(any(BibEntry.class), eq(true))).thenReturn(List.of());
+        BibEntryRelationsRepository bibEntryRelationsRepository = new BibEntryRelationsRepository(semanticScholarFetcher, new BibEntryRelationsCache());
+        BibEntry entry = createBibEntry(1);
+
+        bibEntryRelationsRepository.forceRefreshCitations(entry);
+        bibEntryRelationsRepository.forceRefreshReferences(entry);
+
+        verify(semanticScholarFetcher).searchCitedBy(entry, true);
+        verify(semanticScholarFetcher).searchCiting(entry, true);
+    }
 }
@@ -0,0 +1,27 @@
+package org.jabref.gui.preferences.customentrytypes;
+
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.FieldPriority;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FieldViewModelTest {
+
+    @Test
+    void multilineUnknownFieldDoesNotChangeSharedField() {
+        FieldViewModel viewModel = new FieldViewModel(new UnknownField("myNotes"), FieldViewModel.Mandatory.OPTIONAL, FieldPriority.IMPORTANT, true);
+
+        Field field = viewModel.toField(StandardEntryType.Article);
+
+        assertEquals(Set.of(FieldProperty.MULTILINE_TEXT), field.getProperties());
+        assertEquals(Set.of(), FieldFactory.parseField(StandardEntryType.Article, "MyNotes").getProperties());
+    }
+}
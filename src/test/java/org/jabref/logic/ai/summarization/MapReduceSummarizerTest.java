@@ -0,0 +1,141 @@
+package org.jabref.logic.ai.summarization;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.ai.AiDefaultPreferences;
+import org.jabref.logic.ai.AiPreferences;
+import org.jabref.logic.ai.summarization.storages.MVStoreSummariesStorage;
+import org.jabref.logic.ai.templates.AiTemplate;
+import org.jabref.logic.ai.templates.TemplatesService;
+import org.jabref.logic.util.NotificationService;
+import org.jabref.model.ai.AiProvider;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MapReduceSummarizerTest {
+
+    private static final String DOCUMENT = "Lorem ipsum dolor sit amet. ".repeat(200);
+
+    @TempDir
+    private Path tempDir;
+
+    private AiPreferences aiPreferences;
+    private TemplatesService templatesService;
+    private MVStoreSummariesStorage summariesStorage;
+
+    @BeforeEach
+    void setUp() {
+        aiPreferences = mock(AiPreferences.class);
+        when(aiPreferences.getAiProvider()).thenReturn(AiProvider.OPEN_AI);
+        when(aiPreferences.getSelectedChatModel()).thenReturn("model");
+        when(aiPreferences.getContextWindowSize()).thenReturn(1000);
+        when(aiPreferences.getSummarizationParallelism()).thenReturn(2);
+        when(aiPreferences.getTemplate(any(AiTemplate.class))).thenAnswer(invocation -> AiDefaultPreferences.TEMPLATES.get(invocation.<AiTemplate>getArgument(0)));
+
+        templatesService = new TemplatesService(aiPreferences);
+        summariesStorage = new MVStoreSummariesStorage(tempDir.resolve("summaries.mv"), mock(NotificationService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        summariesStorage.close();
+    }
+
+    @Test
+    void chunksAreSummarizedConcurrentlyUpToParallelism() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ChatLanguageModel model = chatModel(prompt -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return "Summary";
+        });
+
+        assertEquals("Summary", makeSummarizer(model).summarize("document", DOCUMENT));
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void retryOnlySendsUnfinishedRequests() throws Exception {
+        // Chunk prompts contain the document text, the combine prompt only contains the chunk summaries
+        ChatLanguageModel failingOnCombine = chatModel(prompt -> {
+            if (!prompt.contains("Lorem")) {
+                throw new RuntimeException("Connection reset");
+            }
+            return "Summary of a chunk";
+        });
+        assertThrows(RuntimeException.class, () -> makeSummarizer(failingOnCombine).summarize("document", DOCUMENT));
+
+        AtomicInteger requests = new AtomicInteger();
+        ChatLanguageModel counting = chatModel(prompt -> {
+            requests.incrementAndGet();
+            return "Final summary";
+        });
+        assertEquals("Final summary", makeSummarizer(counting).summarize("document", DOCUMENT));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void summaryStayingTooLongIsAccepted() throws Exception {
+        String tooLong = "Too long. ".repeat(1000);
+        AtomicInteger requests = new AtomicInteger();
+        ChatLanguageModel model = chatModel(prompt -> {
+            requests.incrementAndGet();
+            return tooLong;
+        });
+
+        String summary = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> makeSummarizer(model).summarize("document", "Lorem ipsum."));
+
+        assertEquals(tooLong, summary);
+        // Summary of the only chunk and one attempt to shorten it
+        assertEquals(2, requests.get());
+    }
+
+    private MapReduceSummarizer makeSummarizer(ChatLanguageModel model) {
+        return new MapReduceSummarizer(model, templatesService, summariesStorage, aiPreferences, new SimpleBooleanProperty(false), new MapReduceSummarizer.ProgressListener() {
+            @Override
+            public void addWork(int amount) {
+            }
+
+            @Override
+            public void workDone() {
+            }
+        });
+    }
+
+    private static ChatLanguageModel chatModel(Function<String, String> answer) {
+        return new ChatLanguageModel() {
+            @Override
+            public Response<AiMessage> generate(List<ChatMessage> messages) {
+                String prompt = ((UserMessage) messages.getLast()).singleText();
+                return Response.from(AiMessage.from(answer.apply(prompt)));
+            }
+        };
+    }
+}
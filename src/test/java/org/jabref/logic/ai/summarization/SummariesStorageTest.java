@@ -54,4 +54,14 @@ abstract class SummariesStorageTest {
         reopen();
         assertEquals(Optional.empty(), summariesStorage.get(bibPath, "citationKey"));
     }
+
+    @Test
+    void setIntermediateSummary() {
+        summariesStorage.setIntermediateSummary("requestKey", "contents");
+        reopen();
+        assertEquals(Optional.of("contents"), summariesStorage.getIntermediateSummary("requestKey"));
+        summariesStorage.clearIntermediateSummary("requestKey");
+        reopen();
+        assertEquals(Optional.empty(), summariesStorage.getIntermediateSummary("requestKey"));
+    }
 }
@@ -0,0 +1,66 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CSLAdapterPoolTest {
+
+    private final CSLAdapterPool pool = new CSLAdapterPool(2);
+
+    @Test
+    void reusesAdapterForSameStyleAndFormat() throws IOException {
+        CSLAdapter first = pool.withAdapter("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        CSLAdapter second = pool.withAdapter("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+
+        assertSame(first, second);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void usesDifferentAdapterForOtherFormat() throws IOException {
+        CSLAdapter html = pool.withAdapter("style", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        CSLAdapter text = pool.withAdapter("style", CitationStyleOutputFormat.TEXT, adapter -> adapter);
+
+        assertNotSame(html, text);
+        assertEquals(2, pool.getIdleCount());
+    }
+
+    @Test
+    void nestedCallsGetSeparateAdapters() throws IOException {
+        CSLAdapter inner = pool.withAdapter("style", CitationStyleOutputFormat.HTML, outer ->
+                pool.withAdapter("style", CitationStyleOutputFormat.HTML, adapter -> {
+                    assertNotSame(outer, adapter);
+                    return adapter;
+                }));
+
+        assertEquals(2, pool.getIdleCount("style", CitationStyleOutputFormat.HTML));
+        assertSame(inner, pool.withAdapter("style", CitationStyleOutputFormat.HTML, adapter -> adapter));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedStyle() throws IOException {
+        pool.withAdapter("first", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        pool.withAdapter("second", CitationStyleOutputFormat.HTML, adapter -> adapter);
+        pool.withAdapter("third", CitationStyleOutputFormat.HTML, adapter -> adapter);
+
+        assertEquals(List.of(0, 1, 1), List.of(
+                pool.getIdleCount("first", CitationStyleOutputFormat.HTML),
+                pool.getIdleCount("second", CitationStyleOutputFormat.HTML),
+                pool.getIdleCount("third", CitationStyleOutputFormat.HTML)));
+    }
+
+    @Test
+    void returnsAdapterIfCallFails() {
+        assertThrows(IOException.class, () -> pool.withAdapter("style", CitationStyleOutputFormat.HTML, adapter -> {
+            throw new IOException("engine failure");
+        }));
+        assertEquals(1, pool.getIdleCount());
+    }
+}
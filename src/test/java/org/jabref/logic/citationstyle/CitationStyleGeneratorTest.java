@@ -2,6 +2,7 @@ package org.jabref.logic.citationstyle;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
@@ -182,6 +183,24 @@ class CitationStyleGeneratorTest {
         assertEquals(expectedCitation, actualCitation);
     }
 
+    @Test
+    void generateBibliographyPerEntryKeepsOrderOfEntries() {
+        List<BibEntry> entries = IntStream.range(0, 40)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withCitationKey("key" + i)
+                                                  .withField(StandardField.AUTHOR, "Author" + i + ", Bob")
+                                                  .withField(StandardField.TITLE, "Title " + i))
+                                          .toList();
+        BibDatabaseContext bibDatabaseContext = new BibDatabaseContext(new BibDatabase(entries));
+        String style = CitationStyle.getDefault().getSource();
+
+        List<String> expected = entries.stream()
+                                       .map(entry -> CitationStyleGenerator.generateBibliography(List.of(entry), style, CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager).getFirst())
+                                       .toList();
+
+        assertEquals(expected, CitationStyleGenerator.generateBibliographyPerEntry(entries, style, CitationStyleOutputFormat.TEXT, bibDatabaseContext, bibEntryTypesManager));
+    }
+
     static Stream<Arguments> cslMapping() {
         // if the default citation style changes this has to be modified
         return Stream.of(
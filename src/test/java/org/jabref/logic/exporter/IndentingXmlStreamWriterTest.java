@@ -0,0 +1,98 @@
+package org.jabref.logic.exporter;
+
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndentingXmlStreamWriterTest {
+
+    private Document document;
+    private StringWriter output;
+    private IndentingXmlStreamWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        output = new StringWriter();
+        writer = new IndentingXmlStreamWriter(output, 2);
+    }
+
+    @Test
+    void writesElementsIndented() throws Exception {
+        Element root = document.createElement("root");
+        root.setAttribute("attr", "1");
+        Element text = document.createElement("a");
+        text.setTextContent("x & y");
+        root.appendChild(text);
+        root.appendChild(document.createElement("b"));
+        Element nested = document.createElement("c");
+        nested.appendChild(document.createElement("d"));
+        root.appendChild(nested);
+
+        writer.writeElement(root);
+        writer.writeEndDocument();
+
+        assertEquals("""
+                <root attr="1">
+                  <a>x &amp; y</a>
+                  <b/>
+                  <c>
+                    <d/>
+                  </c>
+                </root>
+                """, output.toString());
+    }
+
+    @Test
+    void writesElementWithEmptyTextAsEmptyElement() throws Exception {
+        Element root = document.createElement("root");
+        Element empty = document.createElement("a");
+        empty.setTextContent("");
+        root.appendChild(empty);
+
+        writer.writeElement(root);
+        writer.writeEndDocument();
+
+        assertEquals("""
+                <root>
+                  <a/>
+                </root>
+                """, output.toString());
+    }
+
+    @Test
+    void writesContentIntoContainerAfterItsChildren() throws Exception {
+        Element root = document.createElement("xml");
+        Element records = document.createElement("records");
+        records.appendChild(document.createElement("header"));
+        root.appendChild(records);
+
+        writer.writeXmlDeclaration(false);
+        writer.writeElement(root, records, () -> {
+            for (int i = 0; i < 2; i++) {
+                Element record = document.createElement("record");
+                record.setTextContent(String.valueOf(i));
+                writer.writeElement(record);
+            }
+        });
+        writer.writeEndDocument();
+
+        assertEquals("""
+                <?xml version="1.0" encoding="UTF-8" standalone="no"?>
+                <xml>
+                  <records>
+                    <header/>
+                    <record>0</record>
+                    <record>1</record>
+                  </records>
+                </xml>
+                """, output.toString());
+    }
+}
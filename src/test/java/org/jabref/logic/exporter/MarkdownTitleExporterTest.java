@@ -4,6 +4,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.util.StandardFileType;
@@ -189,4 +190,25 @@ class MarkdownTitleExporterTest {
 
         assertEquals(expected, Files.readAllLines(file));
     }
+
+    @Test
+    final void exportsManyEntriesInOrder(@TempDir Path tempDir) throws Exception {
+        // more entries than rendered in one chunk
+        List<BibEntry> entries = IntStream.range(0, 1_234)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withField(StandardField.TITLE, "Title " + i)
+                                                  .withField(StandardField.JOURNAL, "Journal")
+                                                  .withField(StandardField.YEAR, String.valueOf(3000 - i)))
+                                          .toList();
+
+        Path file = tempDir.resolve("RandomFileName");
+        Files.createFile(file);
+        htmlWebsiteExporter.export(databaseContext, file, entries);
+
+        List<String> expected = IntStream.range(0, 1_234)
+                                         .mapToObj(i -> "* Title " + i + ". Journal " + (3000 - i))
+                                         .toList();
+
+        assertEquals(expected, Files.readAllLines(file));
+    }
 }
@@ -0,0 +1,105 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.pdf.PdfEmbeddedBibFileImporter;
+import org.jabref.logic.xmp.XmpPreferences;
+import org.jabref.logic.xmp.XmpUtilReader;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PdfMetadataBatchWriterTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Olly2018")
+            .withField(StandardField.AUTHOR, "Olly and Johannes")
+            .withField(StandardField.TITLE, "Stefan's palace");
+
+    private final XmpPreferences xmpPreferences = new XmpPreferences(false, Collections.emptySet(), new SimpleObjectProperty<>(','));
+
+    private BibDatabaseContext databaseContext;
+    private FilePreferences filePreferences;
+    private PdfMetadataBatchWriter batchWriter;
+    private Path pdf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pdf = tempDir.resolve("paper.pdf");
+        try (PDDocument document = new PDDocument()) {
+            document.addPage(new PDPage());
+            document.save(pdf.toFile());
+        }
+        entry.setFiles(List.of(new LinkedFile("", pdf.toAbsolutePath(), "PDF")));
+
+        databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntry(entry);
+
+        filePreferences = mock(FilePreferences.class);
+        when(filePreferences.getUserAndHost()).thenReturn(tempDir.toAbsolutePath().toString());
+
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList());
+        batchWriter = new PdfMetadataBatchWriter(xmpPreferences, BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), fieldPreferences, true, true, 2);
+    }
+
+    @Test
+    void writesXmpAndEmbeddedBibInOneSave() throws Exception {
+        long originalSize = Files.size(pdf);
+        Map<Path, List<BibEntry>> linkedPdfs = PdfMetadataBatchWriter.getLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences);
+
+        assertEquals(Map.of(pdf.toRealPath(), PdfMetadataBatchWriter.Result.WRITTEN), batchWriter.write(databaseContext, linkedPdfs));
+
+        // incremental save keeps the original content
+        assertTrue(Files.size(pdf) > originalSize);
+        assertEquals(List.of("Stefan's palace"), new XmpUtilReader().readXmp(pdf, xmpPreferences).stream()
+                                                                    .map(readEntry -> readEntry.getField(StandardField.TITLE).orElse(""))
+                                                                    .toList());
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences().getNonWrappableFields()).thenReturn(FXCollections.emptyObservableList());
+        List<BibEntry> embeddedEntries = new PdfEmbeddedBibFileImporter(importFormatPreferences).importDatabase(pdf).getDatabase().getEntries();
+        assertEquals(List.of("Olly2018"), embeddedEntries.stream().map(embeddedEntry -> embeddedEntry.getCitationKey().orElse("")).toList());
+    }
+
+    @Test
+    void skipsFileWithUpToDateMetadata() throws Exception {
+        Map<Path, List<BibEntry>> linkedPdfs = PdfMetadataBatchWriter.getLinkedPdfs(databaseContext, databaseContext.getEntries(), filePreferences);
+        batchWriter.write(databaseContext, linkedPdfs);
+        long size = Files.size(pdf);
+
+        assertEquals(Map.of(pdf.toRealPath(), PdfMetadataBatchWriter.Result.UP_TO_DATE), batchWriter.write(databaseContext, linkedPdfs));
+        assertEquals(size, Files.size(pdf));
+
+        entry.setField(StandardField.TITLE, "Stefan's new palace");
+        assertEquals(Map.of(pdf.toRealPath(), PdfMetadataBatchWriter.Result.WRITTEN), batchWriter.write(databaseContext, linkedPdfs));
+    }
+}
@@ -0,0 +1,63 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    @Test
+    void exportsGroupsSpanningSeveralChunks(@TempDir Path tempDir) throws Exception {
+        Path layoutFile = Files.writeString(tempDir.resolve("grouped.layout"), """
+                \\begingroup{year}== \\year ==
+                \\endgroup{year}\\title
+                """);
+        TemplateExporter exporter = new TemplateExporter(
+                "Grouped",
+                "grouped",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                new SelfContainedSaveOrder(SaveOrder.OrderType.ORIGINAL, List.of()),
+                BlankLineBehaviour.DELETE_BLANKS);
+        exporter.setCustomExport(true);
+
+        // more entries than rendered in one chunk, with groups crossing the chunk boundaries
+        List<BibEntry> entries = IntStream.range(0, 1_234)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withField(StandardField.TITLE, "Title " + i)
+                                                  .withField(StandardField.YEAR, String.valueOf(2000 + (i / 300))))
+                                          .toList();
+
+        Path file = tempDir.resolve("export.txt");
+        exporter.export(new BibDatabaseContext(), file, entries);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i % 300 == 0) {
+                expected.add("== " + (2000 + (i / 300)) + " ==");
+            }
+            expected.add("Title " + i);
+        }
+        assertEquals(expected, Files.readAllLines(file));
+    }
+}
@@ -0,0 +1,111 @@
+package org.jabref.logic.importer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FetchEngineTest {
+
+    private final FetchEngine fetchEngine = new FetchEngine(
+            Map.of("limited", new FetchEngine.HostLimit(2, 1000)),
+            new FetchEngine.HostLimit(8, 1000));
+
+    @AfterEach
+    void tearDown() {
+        fetchEngine.close();
+    }
+
+    @Test
+    void limitsConcurrentRequestsPerHost() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(fetchEngine.submit("limited", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                return running.decrementAndGet();
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            future.get();
+        }
+
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void pagedSearchReturnsPagesInOrder() {
+        PagedSearchBasedFetcher fetcher = fetcherNamed("paged");
+
+        FetchEngine.PendingSearch search = fetchEngine.startPagedSearch(fetcher, page -> {
+            // later pages answer faster
+            sleep(50 - (page * 10L));
+            return List.of(entryWithTitle("page " + page));
+        }, 4);
+
+        assertEquals(Optional.of(List.of(entryWithTitle("page 0"), entryWithTitle("page 1"), entryWithTitle("page 2"), entryWithTitle("page 3"))),
+                fetchEngine.await(search, FetchEngine.NO_DEADLINE));
+    }
+
+    @Test
+    void failingPageFailsWholeSearch() {
+        PagedSearchBasedFetcher fetcher = fetcherNamed("failing");
+
+        FetchEngine.PendingSearch search = fetchEngine.startPagedSearch(fetcher, page -> {
+            if (page == 1) {
+                throw new FetcherException("Server error");
+            }
+            return List.of(entryWithTitle("page " + page));
+        }, 3);
+
+        assertEquals(Optional.empty(), fetchEngine.await(search, FetchEngine.NO_DEADLINE));
+    }
+
+    @Test
+    void searchExceedingDeadlineIsCancelled() {
+        PagedSearchBasedFetcher fetcher = fetcherNamed("slow");
+
+        FetchEngine.PendingSearch search = fetchEngine.startSearch(fetcher, () -> {
+            sleep(10_000);
+            return List.of(entryWithTitle("too late"));
+        });
+
+        assertEquals(Optional.empty(), fetchEngine.await(search, Instant.now().plus(Duration.ofMillis(100))));
+        assertTrue(search.pages().getFirst().isCancelled());
+    }
+
+    private static PagedSearchBasedFetcher fetcherNamed(String name) {
+        PagedSearchBasedFetcher fetcher = mock(PagedSearchBasedFetcher.class);
+        when(fetcher.getName()).thenReturn(name);
+        return fetcher;
+    }
+
+    private static BibEntry entryWithTitle(String title) {
+        return new BibEntry().withField(StandardField.TITLE, title);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.jabref.logic.importer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.RisImporter;
+import org.jabref.logic.importer.fileformat.pdf.PdfContentImporter;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ImportFormatSnifferTest {
+
+    private final BiblioscapeImporter biblioscapeImporter = new BiblioscapeImporter();
+    private final RisImporter risImporter = new RisImporter();
+    private final PdfContentImporter pdfContentImporter = new PdfContentImporter();
+    private BibtexImporter bibtexImporter;
+    private ImportFormatSniffer sniffer;
+
+    @BeforeEach
+    void setUp() {
+        bibtexImporter = new BibtexImporter(mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS), new DummyFileUpdateMonitor());
+        sniffer = new ImportFormatSniffer(List.of(biblioscapeImporter, bibtexImporter, pdfContentImporter, risImporter));
+    }
+
+    @Test
+    void ranksImporterRecognizingSignatureFirst() {
+        ImportFormatSniffer.Sample sample = new ImportFormatSniffer.Sample("""
+                TY  - JOUR
+                TI  - Title
+                ER  -
+                """, Optional.empty());
+
+        assertEquals(List.of(risImporter, biblioscapeImporter, bibtexImporter), importers(sniffer.rank(sample)));
+    }
+
+    @Test
+    void ranksBibtexAsRecognizedIfSampleContainsEntry() {
+        ImportFormatSniffer.Sample sample = new ImportFormatSniffer.Sample("""
+                % Exported
+                @article{key,
+                  title = {Title}
+                }
+                """, Optional.empty());
+
+        assertEquals(List.of(bibtexImporter, biblioscapeImporter), importers(sniffer.rank(sample)));
+    }
+
+    @Test
+    void ranksImporterForExtensionFirst() {
+        ImportFormatSniffer.Sample sample = new ImportFormatSniffer.Sample("some text", Optional.of("bib"));
+
+        assertEquals(List.of(bibtexImporter, biblioscapeImporter), importers(sniffer.rank(sample)));
+    }
+
+    @Test
+    void extensionDoesNotLiftImporterAcceptingAnyInputAboveRecognizingImporter() {
+        ImportFormatSniffer.Sample sample = new ImportFormatSniffer.Sample("""
+                TY  - JOUR
+                TI  - Title
+                ER  -
+                """, Optional.of("txt"));
+
+        List<ImportFormatSniffer.Candidate> candidates = sniffer.rank(sample);
+
+        assertEquals(List.of(risImporter, biblioscapeImporter, bibtexImporter), importers(candidates));
+        assertFalse(candidates.get(1).isRankedEqually(candidates.getFirst()));
+    }
+
+    @Test
+    void skipsImporterFailingOnSample() {
+        ImportFormatSniffer.Sample sample = new ImportFormatSniffer.Sample("", Optional.empty());
+
+        assertEquals(List.of(biblioscapeImporter, bibtexImporter), importers(sniffer.rank(sample)));
+    }
+
+    @Test
+    void readsSampleOfLimitedLength(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("large.txt");
+        Files.writeString(file, "a".repeat(ImportFormatSniffer.SAMPLE_LENGTH + 100));
+
+        ImportFormatSniffer.Sample sample = ImportFormatSniffer.readSample(file);
+
+        assertEquals(ImportFormatSniffer.SAMPLE_LENGTH, sample.text().length());
+        assertEquals(Optional.of("txt"), sample.extension());
+    }
+
+    @Test
+    void readsCompleteSmallFile(@TempDir Path directory) throws Exception {
+        Path file = Files.writeString(directory.resolve("small.ris"), "TY  - JOUR\n");
+
+        ImportFormatSniffer.Sample sample = ImportFormatSniffer.readSample(file);
+
+        assertTrue(sample.text().startsWith("TY  - JOUR"));
+    }
+
+    private static List<Importer> importers(List<ImportFormatSniffer.Candidate> candidates) {
+        return candidates.stream().map(ImportFormatSniffer.Candidate::importer).toList();
+    }
+}
@@ -2,6 +2,7 @@ package org.jabref.logic.importer.plaincitation;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -24,7 +25,9 @@ import org.mockito.Answers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -129,4 +132,15 @@ public class GrobidPlainCitationParserTest {
         assertThrows(FetcherException.class, () ->
                 grobidPlainCitationParser.parsePlainCitation("any text"), "performSearch should throw an FetcherException, when there are underlying IOException.");
     }
+
+    @Test
+    void parsePlainCitationsFallsBackToSingleRequestsIfResponseDoesNotMatch() throws Exception {
+        GrobidService grobidServiceMock = mock(GrobidService.class);
+        when(grobidServiceMock.processCitationList(anyList(), any(), any())).thenThrow(new GrobidService.CitationCountMismatchException("1 entry for 2 citations"));
+        when(grobidServiceMock.processCitation(eq(example1), any(), any())).thenReturn(Optional.of(example1AsBibEntry));
+        when(grobidServiceMock.processCitation(eq(example2), any(), any())).thenReturn(Optional.of(example2AsBibEntry));
+        GrobidPlainCitationParser parser = new GrobidPlainCitationParser(importFormatPreferences, grobidServiceMock);
+
+        assertEquals(List.of(Optional.of(example1AsBibEntry), Optional.of(example2AsBibEntry)), parser.parsePlainCitations(List.of(example1, example2)));
+    }
 }
@@ -1,10 +1,20 @@
 package org.jabref.logic.importer.plaincitation;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SeveralCitationsParsingTest {
     static SeveralPlainCitationParser parser = new SeveralPlainCitationParser(new RuleBasedPlainCitationParser());
@@ -21,4 +31,100 @@ public class SeveralCitationsParsingTest {
 
         assertEquals(List.of(part1, part2, part3), output);
     }
+
+    @Test
+    void parsesCitationsInBatchesKeepingTheirOrder() throws FetcherException {
+        BatchCountingParser batchCountingParser = new BatchCountingParser();
+        List<String> citations = IntStream.range(0, 25).mapToObj(i -> "batch test " + i).toList();
+
+        List<BibEntry> entries = new SeveralPlainCitationParser(batchCountingParser, 10, 2)
+                .parseSeveralPlainCitations(String.join("\n\n", citations));
+
+        assertEquals(citations, entries.stream().map(entry -> entry.getField(StandardField.TITLE).orElseThrow()).toList());
+        assertEquals(List.of(10, 10, 5), batchCountingParser.batchSizes.stream().sorted(Comparator.reverseOrder()).toList());
+    }
+
+    @Test
+    void skipsCitationsWhichCouldNotBeParsed() throws FetcherException {
+        List<BibEntry> entries = new SeveralPlainCitationParser(new BatchCountingParser())
+                .parseSeveralPlainCitations("skip test\n\nunparsable\n\nskip test 2");
+
+        assertEquals(List.of("skip test", "skip test 2"), entries.stream().map(entry -> entry.getField(StandardField.TITLE).orElseThrow()).toList());
+    }
+
+    @Test
+    void parsesEachCitationOnlyOnce() throws FetcherException {
+        BatchCountingParser batchCountingParser = new BatchCountingParser();
+        SeveralPlainCitationParser severalParser = new SeveralPlainCitationParser(batchCountingParser);
+
+        List<BibEntry> first = severalParser.parseSeveralPlainCitations("cache test 1\n\ncache test 1");
+        List<BibEntry> second = severalParser.parseSeveralPlainCitations("cache test 1\n\ncache test 2");
+
+        assertEquals(2, first.size());
+        assertEquals(2, second.size());
+        assertEquals(List.of(1, 1), batchCountingParser.batchSizes);
+    }
+
+    @Test
+    void parsesCitationAgainWithOtherSettings() throws FetcherException {
+        BatchCountingParser firstServer = new BatchCountingParser("first server");
+        BatchCountingParser secondServer = new BatchCountingParser("second server");
+
+        new SeveralPlainCitationParser(firstServer).parseSeveralPlainCitations("settings test");
+        new SeveralPlainCitationParser(secondServer).parseSeveralPlainCitations("settings test");
+        new SeveralPlainCitationParser(new BatchCountingParser("first server")).parseSeveralPlainCitations("settings test");
+
+        assertEquals(List.of(1), firstServer.batchSizes);
+        assertEquals(List.of(1), secondServer.batchSizes);
+    }
+
+    @Test
+    void rethrowsExceptionOfBatch() {
+        String citations = IntStream.range(0, 5).mapToObj(i -> "failure test " + i).collect(Collectors.joining("\n\n"));
+        SeveralPlainCitationParser severalParser = new SeveralPlainCitationParser(new FailingParser(), 2, 2);
+
+        assertThrows(FetcherException.class, () -> severalParser.parseSeveralPlainCitations(citations));
+    }
+
+    /**
+     * Uses the citation as title and records the size of each batch
+     */
+    private static class BatchCountingParser implements PlainCitationParser {
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private final String settings;
+
+        BatchCountingParser() {
+            this("");
+        }
+
+        BatchCountingParser(String settings) {
+            this.settings = settings;
+        }
+
+        @Override
+        public String getSettings() {
+            return settings;
+        }
+
+        @Override
+        public Optional<BibEntry> parsePlainCitation(String text) {
+            if ("unparsable".equals(text)) {
+                return Optional.empty();
+            }
+            return Optional.of(new BibEntry().withField(StandardField.TITLE, text));
+        }
+
+        @Override
+        public List<Optional<BibEntry>> parsePlainCitations(List<String> texts) throws FetcherException {
+            batchSizes.add(texts.size());
+            return PlainCitationParser.super.parsePlainCitations(texts);
+        }
+    }
+
+    private static class FailingParser implements PlainCitationParser {
+        @Override
+        public Optional<BibEntry> parsePlainCitation(String text) throws FetcherException {
+            throw new FetcherException("Service unavailable");
+        }
+    }
 }
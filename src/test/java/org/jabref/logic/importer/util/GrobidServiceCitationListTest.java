@@ -0,0 +1,84 @@
+package org.jabref.logic.importer.util;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the requests for several citations against a local stub of a GROBID server
+ */
+class GrobidServiceCitationListTest {
+
+    private final WireMockServer wireMockServer = new WireMockServer(options().dynamicPort());
+
+    private ImportFormatPreferences importFormatPreferences;
+    private GrobidService grobidService;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.start();
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        grobidService = new GrobidService(new GrobidPreferences(true, false, wireMockServer.baseUrl()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void sendsAllCitationsInOneRequest() throws Exception {
+        wireMockServer.stubFor(post("/api/processCitationList").willReturn(aResponse().withBody("""
+                @article{b0,
+                  author = {Derwing, Tracey},
+                  title = {Teaching Native Speakers},
+                  year = {2002}
+                }
+
+                @misc{b1,
+                  author = {}
+                }
+                """)));
+
+        List<Optional<BibEntry>> result = grobidService.processCitationList(List.of("Derwing 2002", "nonsense"), importFormatPreferences, GrobidService.ConsolidateCitations.NO);
+
+        assertEquals(2, result.size());
+        assertEquals(Optional.of("Teaching Native Speakers"), result.getFirst().flatMap(entry -> entry.getField(StandardField.TITLE)));
+        assertEquals(Optional.empty(), result.get(1));
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/processCitationList"))
+                .withRequestBody(containing("Derwing"))
+                .withRequestBody(containing("nonsense")));
+    }
+
+    @Test
+    void rejectsResponseNotMatchingTheCitations() {
+        wireMockServer.stubFor(post("/api/processCitationList").willReturn(aResponse().withBody("""
+                @article{b0,
+                  title = {Teaching Native Speakers}
+                }
+                """)));
+
+        assertThrows(GrobidService.CitationCountMismatchException.class, () -> grobidService.processCitationList(List.of("first", "second"), importFormatPreferences, GrobidService.ConsolidateCitations.NO));
+    }
+}
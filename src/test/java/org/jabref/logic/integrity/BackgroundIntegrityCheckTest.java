@@ -0,0 +1,59 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class BackgroundIntegrityCheckTest {
+
+    @Test
+    void reportFollowsChangesOfEntries() throws Exception {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "abc");
+        BibDatabase database = new BibDatabase(List.of(entry));
+        IntegrityCheck integrityCheck = new IntegrityCheck(new BibDatabaseContext(database),
+                mock(FilePreferences.class),
+                new CitationKeyPatternPreferences(
+                        false,
+                        false,
+                        false,
+                        CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                        "",
+                        "",
+                        CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                        GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                        "",
+                        ','),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+        BlockingQueue<List<IntegrityMessage>> reports = new LinkedBlockingQueue<>();
+
+        try (BackgroundIntegrityCheck backgroundCheck = new BackgroundIntegrityCheck(integrityCheck, reports::add, 10)) {
+            backgroundCheck.start();
+            assertEquals(1, yearMessages(reports.poll(10, TimeUnit.SECONDS)).size());
+
+            entry.setField(StandardField.YEAR, "2020");
+            assertEquals(List.of(), yearMessages(reports.poll(10, TimeUnit.SECONDS)));
+        }
+    }
+
+    private static List<IntegrityMessage> yearMessages(List<IntegrityMessage> report) {
+        return report.stream().filter(message -> message.field() == StandardField.YEAR).toList();
+    }
+}
@@ -145,6 +145,55 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checksEntryAgainAfterChange() {
+        BibDatabaseContext context = createContext(StandardField.YEAR, "abc");
+        BibEntry entry = context.getDatabase().getEntries().getFirst();
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+
+        assertEquals(1, messagesForField(integrityCheck.check(), StandardField.YEAR).size());
+
+        entry.setField(StandardField.YEAR, "2020");
+        assertEquals(List.of(), messagesForField(integrityCheck.check(), StandardField.YEAR));
+    }
+
+    @Test
+    void checksDuplicateKeysOnEveryRun() {
+        BibDatabaseContext context = createContext(StandardField.TITLE, "sometitle", StandardEntryType.Article);
+        context.getDatabase().getEntries().getFirst().setCitationKey("key");
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+
+        assertEquals(List.of(), messagesForField(integrityCheck.check(), StandardField.KEY));
+
+        context.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article).withCitationKey("key"));
+        assertEquals(2, messagesForField(integrityCheck.check(), StandardField.KEY).size());
+    }
+
+    @Test
+    void checksManyEntriesInOrder() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 1234; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "year" + i + "x"));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
+
+        List<IntegrityMessage> messages = messagesForField(createIntegrityCheck(context).check(), StandardField.YEAR);
+
+        assertEquals(bibDatabase.getEntries(), messages.stream().map(IntegrityMessage::entry).toList());
+    }
+
+    private List<IntegrityMessage> messagesForField(List<IntegrityMessage> messages, Field field) {
+        return messages.stream().filter(message -> message.field() == field).toList();
+    }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context) {
+        return new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
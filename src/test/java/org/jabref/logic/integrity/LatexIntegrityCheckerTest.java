@@ -1,6 +1,7 @@
 package org.jabref.logic.integrity;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
@@ -9,6 +10,7 @@ import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UserSpecificCommentField;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -330,4 +332,15 @@ class LatexIntegrityCheckerTest {
                 Arguments.of("", InternalField.KEY_FIELD, "Key_With_Subscript")
         );
     }
+
+    @Test
+    void checksEntriesConcurrently() {
+        List<BibEntry> entries = IntStream.range(0, 1_000)
+                                          .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, i % 2 == 0 ? "Simple Text " + i : "\\undefinedCommand" + i))
+                                          .toList();
+
+        List<Integer> messageCounts = entries.parallelStream().map(checkedEntry -> checker.check(checkedEntry).size()).toList();
+
+        assertEquals(IntStream.range(0, 1_000).mapToObj(i -> i % 2).toList(), messageCounts);
+    }
 }
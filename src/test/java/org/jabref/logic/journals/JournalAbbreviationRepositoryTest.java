@@ -24,6 +24,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @AllowedToUseSwing("UndoableUnabbreviator and UndoableAbbreviator requires Swing Compound Edit in order test the abbreviation and unabbreviation of journal titles")
@@ -45,6 +46,21 @@ class JournalAbbreviationRepositoryTest {
         assertTrue(repository.getCustomAbbreviations().isEmpty());
     }
 
+    @Test
+    void reloadedRepositoryDoesNotShareCustomAbbreviations() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
+
+        JournalAbbreviationRepository reloaded = JournalAbbreviationLoader.loadBuiltInRepository();
+
+        assertTrue(reloaded.getCustomAbbreviations().isEmpty());
+        assertEquals(repository.getAllLoaded(), reloaded.getAllLoaded());
+    }
+
+    @Test
+    void getAllLoadedReturnsSameList() {
+        assertSame(repository.getAllLoaded(), repository.getAllLoaded());
+    }
+
     @Test
     void oneElement() {
         repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N."));
@@ -0,0 +1,46 @@
+package org.jabref.logic.journals;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalNameFuzzyIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "Physical Review Letters",
+            "Physical Review",
+            "Physical Review A",
+            "Physical Review B",
+            "Journal of Physics",
+            "Journal of Chemical Physics",
+            "Nature",
+            "Nature Physics",
+            "Science",
+            "ACM Computing Surveys");
+
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Physical Review Lettrs", "physical review c", "Natur", "Sciense", "Journal of Physic", "Unknown Journal"})
+    void findWithinReturnsSameNamesAsLinearScan(String input) {
+        JournalNameFuzzyIndex index = new JournalNameFuzzyIndex(new HashMap<>());
+        NAMES.forEach(index::add);
+
+        List<String> expected = NAMES.stream()
+                                     .filter(name -> similarity.isSimilar(input, name))
+                                     .sorted()
+                                     .toList();
+        List<String> actual = index.findWithin(input, StringSimilarity.METRIC_THRESHOLD)
+                                   .stream()
+                                   .sorted()
+                                   .toList();
+
+        assertEquals(expected, actual);
+    }
+}
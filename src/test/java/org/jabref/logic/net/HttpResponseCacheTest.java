@@ -0,0 +1,178 @@
+package org.jabref.logic.net;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.jabref.logic.util.URLUtil;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private final WireMockServer wireMockServer = new WireMockServer(options().dynamicPort());
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.start();
+        cache = new HttpResponseCache(cacheDirectory, HttpResponseCache.DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void freshResponseIsServedFromCache() throws Exception {
+        wireMockServer.stubFor(get("/fresh").willReturn(aResponse().withHeader("Cache-Control", "max-age=3600").withBody("content")));
+
+        assertEquals("content\n", new URLDownload(url("/fresh")).useCache(cache).asString());
+        assertEquals("content\n", new URLDownload(url("/fresh")).useCache(cache).asString());
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/fresh")));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void timeToLiveOverridesMissingFreshnessInformation() throws Exception {
+        wireMockServer.stubFor(get("/plain").willReturn(aResponse().withBody("content")));
+
+        new URLDownload(url("/plain")).useCache(cache, Duration.ofHours(1)).asString();
+        new URLDownload(url("/plain")).useCache(cache, Duration.ofHours(1)).asString();
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/plain")));
+    }
+
+    @Test
+    void zeroTimeToLiveAsksServerAgain() throws Exception {
+        wireMockServer.stubFor(get("/refresh").willReturn(aResponse().withBody("content")));
+
+        new URLDownload(url("/refresh")).useCache(cache, Duration.ofHours(1)).asString();
+        new URLDownload(url("/refresh")).useCache(cache, Duration.ZERO).asString();
+        new URLDownload(url("/refresh")).useCache(cache, Duration.ofHours(1)).asString();
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/refresh")));
+    }
+
+    @Test
+    void staleResponseIsRevalidated() throws Exception {
+        wireMockServer.stubFor(get("/etag").willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody("content")));
+        wireMockServer.stubFor(get("/etag").withHeader("If-None-Match", equalTo("\"v1\"")).willReturn(aResponse().withStatus(304)));
+
+        assertEquals("content\n", new URLDownload(url("/etag")).useCache(cache).asString());
+        assertEquals("content\n", new URLDownload(url("/etag")).useCache(cache).asString());
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/etag")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, cache.getRevalidationCount());
+    }
+
+    @Test
+    void noStoreResponseIsNotCached() throws Exception {
+        wireMockServer.stubFor(get("/private").willReturn(aResponse().withHeader("Cache-Control", "no-store").withBody("content")));
+
+        new URLDownload(url("/private")).useCache(cache, Duration.ofHours(1)).asString();
+        new URLDownload(url("/private")).useCache(cache, Duration.ofHours(1)).asString();
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/private")));
+    }
+
+    @Test
+    void requestHeadersArePartOfKey() throws Exception {
+        URL url = url("/any");
+        assertNotEquals(
+                HttpResponseCache.getKey(url, Map.of("Accept", "application/json")),
+                HttpResponseCache.getKey(url, Map.of("Accept", "application/x-bibtex")));
+    }
+
+    @Test
+    void leastRecentlyUsedResponsesAreEvicted() throws Exception {
+        HttpResponseCache smallCache = new HttpResponseCache(cacheDirectory.resolve("small"), 2048);
+        byte[] body = new byte[1000];
+        for (int i = 0; i < 5; i++) {
+            URL url = url("/" + i);
+            smallCache.put(HttpResponseCache.getKey(url, Map.of()), url, body, Map.of("Cache-Control", List.of("max-age=3600")));
+        }
+
+        assertTrue(smallCache.getSizeInBytes() <= 2048);
+        assertTrue(smallCache.get(HttpResponseCache.getKey(url("/4"), Map.of())).isPresent());
+    }
+
+    @Test
+    void responseWithoutStoredAtIsMiss() throws Exception {
+        URL url = url("/broken");
+        String key = HttpResponseCache.getKey(url, Map.of());
+        Files.write(cacheDirectory.resolve(key + ".body"), new byte[] {1});
+        Files.writeString(cacheDirectory.resolve(key + ".properties"), "url=" + url);
+
+        assertEquals(Optional.empty(), cache.get(key));
+    }
+
+    @Test
+    void putLeavesNoTemporaryFiles() throws Exception {
+        URL url = url("/stored");
+        cache.put(HttpResponseCache.getKey(url, Map.of()), url, new byte[] {1, 2, 3}, Map.of("Cache-Control", List.of("max-age=3600")));
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void concurrentGetReadsCompleteResponses() throws Exception {
+        URL url = url("/concurrent");
+        String key = HttpResponseCache.getKey(url, Map.of());
+        byte[] body = new byte[100_000];
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    cache.put(key, url, body, Map.of("Cache-Control", List.of("max-age=3600")));
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                while (!writer.isDone()) {
+                    cache.get(key).ifPresent(response -> assertArrayEquals(body, response.body()));
+                }
+            });
+            writer.get();
+            reader.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.get(key).isPresent());
+    }
+
+    private URL url(String path) throws Exception {
+        return URLUtil.create("http://localhost:" + wireMockServer.port() + path);
+    }
+}
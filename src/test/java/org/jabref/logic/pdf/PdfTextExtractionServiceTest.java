@@ -0,0 +1,70 @@
+package org.jabref.logic.pdf;
+
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.jabref.logic.pdf.PdfTextExtractionService.PdfContent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfTextExtractionServiceTest {
+
+    private static final Path MINIMAL_PDF = Path.of("src/test/resources/pdfs/minimal.pdf");
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private PdfTextExtractionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PdfTextExtractionService(cacheDirectory, PdfTextExtractionService.DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    @Test
+    void extractsTextOfEachPage() throws Exception {
+        PdfContent content = service.getContent(MINIMAL_PDF);
+
+        assertEquals(1, content.getNumberOfPages());
+        assertTrue(content.getText().contains("Hello World"));
+    }
+
+    @Test
+    void copyOfFileIsServedFromCache(@TempDir Path tempDir) throws Exception {
+        PdfContent content = service.getContent(MINIMAL_PDF);
+        Path copy = Files.copy(MINIMAL_PDF, tempDir.resolve("copy.pdf"));
+
+        // a new service has an empty in-memory state, thus the content is read from disk
+        PdfTextExtractionService otherService = new PdfTextExtractionService(cacheDirectory, PdfTextExtractionService.DEFAULT_MAX_SIZE_IN_BYTES);
+        assertEquals(content, otherService.getContent(copy, () -> {
+            throw new AssertionError("File should not be parsed again");
+        }));
+    }
+
+    @Test
+    void cancelledExtractionIsNotCached() throws Exception {
+        assertThrows(InterruptedIOException.class, () -> service.getContent(MINIMAL_PDF, () -> true));
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void cacheIsBoundedInSize() throws Exception {
+        PdfTextExtractionService smallService = new PdfTextExtractionService(cacheDirectory, 1);
+        smallService.getContent(MINIMAL_PDF);
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
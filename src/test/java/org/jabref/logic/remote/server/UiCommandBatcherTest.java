@@ -0,0 +1,93 @@
+package org.jabref.logic.remote.server;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.UiCommand;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.GroupTreeNode;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UiCommandBatcherTest {
+
+    private static ParserResult importToOpen(String title) {
+        ParserResult result = new ParserResult(List.of(new BibEntry().withField(StandardField.TITLE, title)));
+        result.setToOpenTab();
+        return result;
+    }
+
+    @Test
+    void importsToOpenLibraryAreMergedIntoOneResult() {
+        ParserResult library = new ParserResult();
+        library.setPath(Path.of("library.bib"));
+
+        List<UiCommand> merged = UiCommandBatcher.merge(List.of(
+                new UiCommand.OpenDatabases(new ArrayList<>(List.of(importToOpen("first")))),
+                new UiCommand.JumpToEntryKey("key"),
+                new UiCommand.OpenDatabases(new ArrayList<>(List.of(library, importToOpen("second"))))));
+
+        assertEquals(2, merged.size());
+        List<ParserResult> parserResults = ((UiCommand.OpenDatabases) merged.getFirst()).parserResults();
+        assertEquals(2, parserResults.size());
+        assertEquals(library, parserResults.getFirst());
+        assertTrue(parserResults.getLast().toOpenTab());
+        assertEquals(List.of("first", "second"), parserResults.getLast().getDatabase().getEntries().stream()
+                                                              .map(entry -> entry.getField(StandardField.TITLE).orElse(""))
+                                                              .toList());
+        assertEquals(new UiCommand.JumpToEntryKey("key"), merged.getLast());
+    }
+
+    @Test
+    void importsWithLibraryDataAreKeptSeparately() {
+        ParserResult withStrings = importToOpen("first");
+        withStrings.getDatabase().addString(new BibtexString("acm", "Association for Computing Machinery"));
+        ParserResult withGroups = importToOpen("second");
+        withGroups.getMetaData().setGroups(GroupTreeNode.fromGroup(new AllEntriesGroup("All entries")));
+        ParserResult third = importToOpen("third");
+        ParserResult fourth = importToOpen("fourth");
+        third.setPath(Path.of("third.ris"));
+
+        List<UiCommand> merged = UiCommandBatcher.merge(List.of(
+                new UiCommand.OpenDatabases(new ArrayList<>(List.of(withStrings, third))),
+                new UiCommand.OpenDatabases(new ArrayList<>(List.of(withGroups, fourth)))));
+
+        List<ParserResult> parserResults = ((UiCommand.OpenDatabases) merged.getFirst()).parserResults();
+        assertEquals(3, parserResults.size());
+        assertSame(withStrings, parserResults.getFirst());
+        assertSame(withGroups, parserResults.get(1));
+        assertEquals(2, parserResults.getLast().getDatabase().getEntryCount());
+        assertEquals(Optional.of(Path.of("third.ris")), parserResults.getLast().getPath());
+    }
+
+    @Test
+    void requestsWithinWindowAreHandedOverTogether() throws InterruptedException {
+        List<List<UiCommand>> batches = new ArrayList<>();
+        CountDownLatch handedOver = new CountDownLatch(1);
+        UiCommandBatcher batcher = new UiCommandBatcher(batch -> {
+            batches.add(batch);
+            handedOver.countDown();
+        }, 200);
+
+        batcher.add(List.of(new UiCommand.OpenDatabases(new ArrayList<>(List.of(importToOpen("first"))))));
+        batcher.add(List.of(new UiCommand.OpenDatabases(new ArrayList<>(List.of(importToOpen("second"))))));
+
+        assertTrue(handedOver.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+        List<ParserResult> parserResults = ((UiCommand.OpenDatabases) batches.getFirst().getFirst()).parserResults();
+        assertEquals(1, parserResults.size());
+        assertEquals(2, parserResults.getFirst().getDatabase().getEntryCount());
+    }
+}
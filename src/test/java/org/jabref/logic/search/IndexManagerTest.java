@@ -0,0 +1,116 @@
+package org.jabref.logic.search;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.property.BooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseTransaction;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
+import org.jabref.model.search.query.SearchQuery;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class IndexManagerTest {
+
+    private final CliPreferences preferences = mock(CliPreferences.class);
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibEntry firstEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+    private final BibEntry secondEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+    private final BibEntry unchangedEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+    private final RecordingListener listener = new RecordingListener();
+
+    @TempDir
+    private Path indexDir;
+
+    private BibDatabaseContext databaseContext;
+    private IndexManager indexManager;
+
+    @BeforeEach
+    void setUp() {
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(false);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(mock(BooleanProperty.class));
+
+        databaseContext = spy(new BibDatabaseContext());
+        when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
+        databaseContext.getDatabase().insertEntries(firstEntry, secondEntry, unchangedEntry);
+        indexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences);
+        databaseContext.getDatabase().registerListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexManager.closeAndWait();
+    }
+
+    @Test
+    void updateEntriesIndexesAllChangesOfTransaction() {
+        try (BibDatabaseTransaction transaction = databaseContext.getDatabase().beginTransaction()) {
+            firstEntry.setField(StandardField.TITLE, "New title");
+            secondEntry.setField(StandardField.TITLE, "New title");
+            secondEntry.setField(StandardField.YEAR, "2025");
+        }
+
+        indexManager.updateEntries(listener.entriesChangedEvents.getFirst().getFieldChanges());
+
+        SearchQuery newTitle = new SearchQuery("title=\"New title\"");
+        assertTrue(indexManager.isEntryMatched(firstEntry, newTitle));
+        assertTrue(indexManager.isEntryMatched(secondEntry, newTitle));
+        assertFalse(indexManager.isEntryMatched(unchangedEntry, newTitle));
+        assertTrue(indexManager.isEntryMatched(secondEntry, new SearchQuery("year=2025")));
+    }
+
+    @Test
+    void updateEntriesAnnouncesEachChangedEntryOnce() {
+        try (BibDatabaseTransaction transaction = databaseContext.getDatabase().beginTransaction()) {
+            firstEntry.setField(StandardField.TITLE, "New title");
+            secondEntry.setField(StandardField.TITLE, "New title");
+            secondEntry.setField(StandardField.YEAR, "2025");
+        }
+        listener.indexEvents.clear();
+
+        indexManager.updateEntries(listener.entriesChangedEvents.getFirst().getFieldChanges());
+
+        assertEquals(List.of(new IndexAddedOrUpdatedEvent(List.of(firstEntry, secondEntry))), listener.indexEvents);
+    }
+
+    private static class RecordingListener {
+        private final List<EntriesChangedEvent> entriesChangedEvents = new ArrayList<>();
+        private final List<IndexAddedOrUpdatedEvent> indexEvents = new ArrayList<>();
+
+        @Subscribe
+        public void listen(EntriesChangedEvent event) {
+            entriesChangedEvents.add(event);
+        }
+
+        @Subscribe
+        public void listen(IndexAddedOrUpdatedEvent event) {
+            indexEvents.add(event);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.List;
+
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.util.Range;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HighlighterTest {
+
+    @Test
+    void findMatchPositionsIsCaseInsensitive() {
+        // start is 1-based, end is inclusive
+        assertEquals(List.of(new Range(1, 4), new Range(10, 13)), Highlighter.findMatchPositions("Test the test", "test"));
+    }
+
+    @Test
+    void findMatchPositionsOfAlternatives() {
+        assertEquals(List.of(new Range(1, 1), new Range(3, 3)), Highlighter.findMatchPositions("a b c", "a|b"));
+    }
+
+    @Test
+    void findMatchPositionsOfInvalidPatternIsEmpty() {
+        assertEquals(List.of(), Highlighter.findMatchPositions("a (b", "(b"));
+    }
+
+    @Test
+    void findMatchPositionsOfWordStart() {
+        assertEquals(List.of(new Range(8, 11)), Highlighter.findMatchPositions("retest test", "\\mtest"));
+    }
+
+    @Test
+    void findMatchPositionsOfWordEnd() {
+        assertEquals(List.of(new Range(7, 10)), Highlighter.findMatchPositions("tests test", "test\\M"));
+    }
+
+    @Test
+    void findMatchPositionsOfWordBoundaries() {
+        assertEquals(List.of(new Range(1, 4)), Highlighter.findMatchPositions("test retest tests", "\\ytest\\y"));
+    }
+
+    @Test
+    void findMatchPositionsOfPosixClass() {
+        assertEquals(List.of(new Range(1, 6)), Highlighter.findMatchPositions("Müller 42", "[[:alpha:]]+"));
+    }
+
+    @Test
+    void findMatchPositionsOfNegatedPosixClass() {
+        assertEquals(List.of(new Range(2, 2)), Highlighter.findMatchPositions("1a2", "[^[:digit:]]"));
+    }
+
+    @Test
+    void findMatchPositionsOfPosixWordStartAndEnd() {
+        assertEquals(List.of(new Range(8, 11)), Highlighter.findMatchPositions("retest test", "[[:<:]]test[[:>:]]"));
+    }
+
+    @Test
+    void toJavaRegexKeepsOtherConstructs() {
+        assertEquals("a\\d+[\\]x]\\.", Highlighter.toJavaRegex("a\\d+[]x]\\."));
+    }
+
+    @Test
+    void highlightHtmlMarksTermsInAllTextNodes() {
+        String highlighted = Highlighter.highlightHtml("<p>JabRef <b>jabref</b></p>", new SearchQuery("jabref"));
+
+        assertTrue(highlighted.contains("<mark style=\"background: orange\">JabRef</mark>"));
+        assertTrue(highlighted.contains("<b><mark style=\"background: orange\">jabref</mark></b>"));
+    }
+
+    @Test
+    void highlightHtmlKeepsTextWithoutMatch() {
+        String highlighted = Highlighter.highlightHtml("<p>JabRef</p>", new SearchQuery("other"));
+
+        assertTrue(highlighted.contains("<p>JabRef</p>"));
+    }
+}
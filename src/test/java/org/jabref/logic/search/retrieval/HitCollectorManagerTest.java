@@ -0,0 +1,50 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.List;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HitCollectorManagerTest {
+
+    @Test
+    void collectsAllHitsInTopDocsOrder() throws Exception {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()))) {
+                for (String content : List.of("jabref", "other", "jabref jabref jabref", "jabref and more words")) {
+                    Document document = new Document();
+                    document.add(new TextField("content", content, Field.Store.YES));
+                    writer.addDocument(document);
+                }
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                TermQuery query = new TermQuery(new Term("content", "jabref"));
+
+                List<ScoreDoc> hits = searcher.search(query, new HitCollectorManager());
+                TopDocs topDocs = searcher.search(query, 10);
+
+                assertEquals(3, hits.size());
+                for (int i = 0; i < hits.size(); i++) {
+                    assertEquals(topDocs.scoreDocs[i].doc, hits.get(i).doc);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeNotificationTest {
+
+    private static final String PROCESSOR_ID = "0a1b2c3d-processor";
+
+    @Test
+    void payloadWithoutEntriesRequestsFullPull() {
+        assertEquals(List.of(PROCESSOR_ID), ChangeNotification.toPayloads(PROCESSOR_ID, Map.of()));
+        assertTrue(ChangeNotification.parse(PROCESSOR_ID).orElseThrow().isFullPull());
+    }
+
+    @Test
+    void roundTrip() {
+        Map<Integer, Integer> versions = Map.of(1, 3, 42, ChangeNotification.REMOVED);
+
+        List<String> payloads = ChangeNotification.toPayloads(PROCESSOR_ID, versions);
+
+        assertEquals(1, payloads.size());
+        assertEquals(Optional.of(new ChangeNotification(PROCESSOR_ID, versions)), ChangeNotification.parse(payloads.getFirst()));
+    }
+
+    @Test
+    void manyChangesAreSplitIntoSeveralPayloads() {
+        Map<Integer, Integer> versions = new LinkedHashMap<>();
+        for (int sharedId = 1; sharedId <= 2000; sharedId++) {
+            versions.put(sharedId, 12);
+        }
+
+        List<String> payloads = ChangeNotification.toPayloads(PROCESSOR_ID, versions);
+
+        assertTrue(payloads.size() > 1);
+        Map<Integer, Integer> parsed = new LinkedHashMap<>();
+        for (String payload : payloads) {
+            assertTrue(payload.length() <= ChangeNotification.MAX_PAYLOAD_LENGTH);
+            ChangeNotification notification = ChangeNotification.parse(payload).orElseThrow();
+            assertEquals(PROCESSOR_ID, notification.processorId());
+            parsed.putAll(notification.versionsBySharedId());
+        }
+        assertEquals(versions, parsed);
+    }
+
+    @Test
+    void malformedPayloadIsRejected() {
+        assertEquals(Optional.empty(), ChangeNotification.parse(PROCESSOR_ID + ";1:x"));
+    }
+
+    @Test
+    void removalIsNotSupersededByUpdate() {
+        assertEquals(ChangeNotification.REMOVED, ChangeNotification.mergeVersions(5, ChangeNotification.REMOVED));
+        assertEquals(5, ChangeNotification.mergeVersions(5, 3));
+    }
+}
@@ -0,0 +1,93 @@
+package org.jabref.logic.texparser;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResults;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatexCitationIndexTest {
+
+    @TempDir
+    private Path latexDirectory;
+
+    @TempDir
+    private Path indexDirectory;
+
+    private Path chapter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        chapter = latexDirectory.resolve("chapters").resolve("one.tex");
+        Files.createDirectories(chapter.getParent());
+        Files.writeString(chapter, """
+                Some text.
+                As shown by \\cite{Einstein1920}.
+                """);
+        Files.writeString(latexDirectory.resolve("main.tex"), "\\cite{Darwin1888} and \\cite{Einstein1920}");
+    }
+
+    @Test
+    void findsCitationsInSubdirectories() {
+        LatexCitationIndex index = new LatexCitationIndex(latexDirectory, indexDirectory);
+        index.refresh();
+
+        assertEquals(List.of(2), index.getCitationsByKey("Einstein1920").stream()
+                                      .filter(citation -> citation.path().equals(chapter))
+                                      .map(Citation::line)
+                                      .toList());
+        assertEquals(2, index.getCitationsByKey("Einstein1920").size());
+        assertEquals(1, index.getCitationsByKey("Darwin1888").size());
+    }
+
+    @Test
+    void storedIndexIsReusedForUnchangedFiles() throws Exception {
+        new LatexCitationIndex(latexDirectory, indexDirectory).refresh();
+
+        // A modification which keeps size and modification time is not noticed, which shows that the file is not parsed again
+        FileTime lastModified = Files.getLastModifiedTime(chapter);
+        Files.writeString(chapter, """
+                Some text.
+                As shown by \\cite{Einstein1921}.
+                """);
+        Files.setLastModifiedTime(chapter, lastModified);
+
+        LatexCitationIndex index = new LatexCitationIndex(latexDirectory, indexDirectory);
+        index.refresh();
+        assertEquals(2, index.getCitationsByKey("Einstein1920").size());
+    }
+
+    @Test
+    void updateAndRemoveFile() throws Exception {
+        LatexCitationIndex index = new LatexCitationIndex(latexDirectory, indexDirectory);
+        index.refresh();
+
+        Files.writeString(chapter, "\\cite{Newton1999}");
+        Files.setLastModifiedTime(chapter, FileTime.fromMillis(Files.getLastModifiedTime(chapter).toMillis() + 1000));
+        index.updateFile(chapter);
+        assertEquals(1, index.getCitationsByKey("Einstein1920").size());
+        assertEquals(1, index.getCitationsByKey("Newton1999").size());
+
+        Files.delete(chapter);
+        index.removeFile(chapter);
+        assertEquals(List.of(), index.getCitationsByKey("Newton1999"));
+    }
+
+    @Test
+    void resultsOfFilesEqualParserResults() {
+        List<Path> files = List.of(chapter, latexDirectory.resolve("main.tex"));
+        LatexCitationIndex index = new LatexCitationIndex(latexDirectory, indexDirectory);
+        index.refresh();
+
+        LatexParserResults expected = new DefaultLatexParser().parse(files);
+        assertEquals(expected, index.getResults(files));
+    }
+}
@@ -0,0 +1,94 @@
+package org.jabref.logic.util;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupGraphTest {
+
+    private ExecutorService executor;
+    private StartupGraph startupGraph;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+        startupGraph = new StartupGraph(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void stepStartsAfterItsDependencies() {
+        List<String> finishedSteps = new CopyOnWriteArrayList<>();
+        startupGraph.execute("first", () -> {
+            sleep();
+            finishedSteps.add("first");
+        });
+        CompletableFuture<String> second = startupGraph.submit("second", () -> {
+            finishedSteps.add("second");
+            return "result";
+        }, "first");
+
+        assertEquals("result", StartupGraph.await(second));
+        assertEquals(List.of("first", "second"), finishedSteps);
+    }
+
+    @Test
+    void deferredStepStartsAfterRelease() {
+        CompletableFuture<Void> deferred = startupGraph.defer("deferred", () -> { });
+        startupGraph.run("immediate", () -> { });
+
+        assertFalse(deferred.isDone());
+
+        startupGraph.startDeferredSteps();
+        StartupGraph.await(deferred);
+        assertTrue(deferred.isDone());
+    }
+
+    @Test
+    void awaitRethrowsExceptionOfStep() {
+        CompletableFuture<Object> failing = startupGraph.submit("failing", () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThrows(IllegalStateException.class, () -> StartupGraph.await(failing));
+    }
+
+    @Test
+    void dependencyOnUnknownStepIsRejected() {
+        assertThrows(NullPointerException.class, () -> startupGraph.execute("step", () -> { }, "unknown"));
+    }
+
+    @Test
+    void timingReportListsAllFinishedSteps() {
+        startupGraph.call("Preferences", () -> "preferences");
+        startupGraph.execute("Journal abbreviations", () -> { });
+        startupGraph.whenAllDone().join();
+
+        String report = startupGraph.getTimingReport();
+        assertTrue(report.contains("Preferences"));
+        assertTrue(report.contains("Journal abbreviations"));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
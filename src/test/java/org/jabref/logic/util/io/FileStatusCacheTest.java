@@ -0,0 +1,137 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.util.FileUpdateListener;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileStatusCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private FileStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // Reads the files in the calling thread, thus asynchronous requests are completed when they return
+        cache = new FileStatusCache(Runnable::run, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void readsStatusOfExistingFile() throws Exception {
+        Path file = Files.writeString(directory.resolve("paper.pdf"), "content");
+
+        FileStatusCache.FileStatus status = cache.get(file);
+
+        assertTrue(status.exists());
+        assertEquals(7, status.size());
+        assertEquals(Files.getLastModifiedTime(file), status.lastModified());
+    }
+
+    @Test
+    void readsStatusOfMissingFile() {
+        assertEquals(FileStatusCache.FileStatus.MISSING, cache.get(directory.resolve("missing.pdf")));
+    }
+
+    @Test
+    void keepsStatusUntilInvalidated() throws Exception {
+        Path file = directory.resolve("paper.pdf");
+        assertFalse(cache.exists(file));
+
+        Files.createFile(file);
+        assertFalse(cache.exists(file));
+
+        cache.invalidate(file);
+        assertTrue(cache.exists(file));
+    }
+
+    @Test
+    void refreshReadsCachedStatusAgain() throws Exception {
+        Path file = directory.resolve("paper.pdf");
+        assertFalse(cache.exists(file));
+
+        Files.createFile(file);
+
+        assertTrue(cache.refresh(file).exists());
+        assertTrue(cache.exists(file));
+    }
+
+    @Test
+    void getIfPresentDoesNotReadFile() throws Exception {
+        Path file = Files.createFile(directory.resolve("paper.pdf"));
+        assertEquals(Optional.empty(), cache.getIfPresent(file));
+
+        assertTrue(cache.getAsync(file).get().exists());
+        assertTrue(cache.getIfPresent(file).orElseThrow().exists());
+    }
+
+    @Test
+    void findAsyncSearchesAllDirectories() throws Exception {
+        Path first = Files.createDirectory(directory.resolve("first"));
+        Path second = Files.createDirectory(directory.resolve("second"));
+        Path file = Files.createFile(second.resolve("paper.pdf"));
+
+        assertEquals(Optional.of(file), cache.findAsync("paper.pdf", List.of(first, second)).get());
+        assertEquals(Optional.empty(), cache.findAsync("missing.pdf", List.of(first, second)).get());
+    }
+
+    @Test
+    void findAsyncCompletesImmediatelyForCachedStatuses() throws Exception {
+        Path file = Files.createFile(directory.resolve("paper.pdf"));
+        cache.get(file);
+
+        assertEquals(Optional.of(file), cache.findAsync("paper.pdf", List.of(directory)).getNow(Optional.empty()));
+    }
+
+    @Test
+    void dropsStatusWhenMonitorReportsChange() throws Exception {
+        RecordingFileUpdateMonitor monitor = new RecordingFileUpdateMonitor();
+        cache.setFileUpdateMonitor(monitor);
+        Path file = Files.createFile(directory.resolve("paper.pdf"));
+        assertTrue(cache.exists(file));
+
+        Files.delete(file);
+        monitor.listeners.get(file).fileDeleted();
+
+        assertEquals(Optional.empty(), cache.getIfPresent(file));
+        assertFalse(cache.exists(file));
+    }
+
+    private static class RecordingFileUpdateMonitor implements FileUpdateMonitor {
+        private final Map<Path, FileUpdateListener> listeners = new HashMap<>();
+
+        @Override
+        public void addListenerForFile(Path file, FileUpdateListener listener) {
+            listeners.put(file, listener);
+        }
+
+        @Override
+        public void removeListener(Path path, FileUpdateListener listener) {
+            listeners.remove(path, listener);
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.schema.DublinCoreSchemaCustom;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.xmpbox.XMPMetadata;
 import org.apache.xmpbox.schema.DublinCoreSchema;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +64,15 @@ class XmpUtilReaderTest {
         assertEquals(expected, Collections.singletonList(entry.get()));
     }
 
+    @Test
+    void readXmpFromLoadedDocumentEqualsReadXmpFromPath() throws IOException, URISyntaxException {
+        Path pathPdf = Path.of(XmpUtilShared.class.getResource("article_dublinCore.pdf").toURI());
+
+        try (PDDocument document = xmpUtilReader.loadWithAutomaticDecryption(pathPdf)) {
+            assertEquals(xmpUtilReader.readXmp(pathPdf, xmpPreferences), xmpUtilReader.readXmp(pathPdf, document, xmpPreferences));
+        }
+    }
+
     /**
      * Tests reading of dublinCore metadata.
      */
@@ -12,6 +12,7 @@ import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -289,6 +290,60 @@ class BibDatabaseTest {
         assertEquals(Arrays.asList(firstEntry, secondEntry), tel.getAddedEntries());
     }
 
+    @Test
+    void transactionPostsOneEventForAllFieldChanges() {
+        BibEntry firstEntry = new BibEntry();
+        BibEntry secondEntry = new BibEntry();
+        database.insertEntries(firstEntry, secondEntry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            firstEntry.setField(StandardField.TITLE, "title");
+            secondEntry.setField(StandardField.TITLE, "title");
+            firstEntry.setField(StandardField.YEAR, "2025");
+            assertEquals(0, tel.getEntryChangedEventCount());
+        }
+
+        assertEquals(0, tel.getEntryChangedEventCount());
+        assertEquals(List.of(firstEntry, secondEntry), tel.getEntriesChangedEvent().getBibEntries());
+        assertEquals(List.of(StandardField.TITLE, StandardField.TITLE, StandardField.YEAR),
+                tel.getEntriesChangedEvent().getFieldChanges().stream().map(FieldChangedEvent::getField).toList());
+    }
+
+    @Test
+    void nestedTransactionPostsEventWhenOutermostTransactionIsClosed() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabaseTransaction outer = database.beginTransaction()) {
+            try (BibDatabaseTransaction inner = database.beginTransaction()) {
+                entry.setField(StandardField.TITLE, "title");
+                entry.setField(StandardField.YEAR, "2025");
+            }
+            assertNull(tel.getEntriesChangedEvent());
+        }
+
+        assertEquals(List.of(entry), tel.getEntriesChangedEvent().getBibEntries());
+    }
+
+    @Test
+    void transactionWithSingleChangePostsFieldChangedEvent() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            entry.setField(StandardField.TITLE, "title");
+        }
+
+        assertEquals(1, tel.getEntryChangedEventCount());
+        assertNull(tel.getEntriesChangedEvent());
+    }
+
     @Test
     void removeEntriesPostsRemovedEntriesEvent() {
         BibEntry entry1 = new BibEntry();
@@ -0,0 +1,116 @@
+package org.jabref.model.database;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateCandidateIndexTest {
+
+    private final BibEntry paper = new BibEntry()
+            .withField(StandardField.TITLE, "An Empirical Study of {Java} Performance")
+            .withField(StandardField.AUTHOR, "Doe, John");
+    private final BibEntry otherPaper = new BibEntry()
+            .withField(StandardField.TITLE, "Something completely different")
+            .withField(StandardField.DOI, "10.1000/xyz123");
+    private final BibEntry titleless = new BibEntry()
+            .withField(StandardField.AUTHOR, "Jane Roe");
+
+    private BibDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase(List.of(paper, otherPaper, titleless));
+    }
+
+    @Test
+    void findsEntryWithSimilarTitle() {
+        BibEntry incoming = new BibEntry().withField(StandardField.TITLE, "An empirical study of Java perfomance");
+
+        assertEquals(List.of(paper), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void findsEntryWithTypoInTitle() {
+        BibEntry deepLearning = new BibEntry().withField(StandardField.TITLE, "Deep Learning");
+        database.insertEntry(deepLearning);
+        BibEntry incoming = new BibEntry().withField(StandardField.TITLE, "Deep Lerning");
+
+        assertEquals(List.of(deepLearning), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void returnsAllEntriesForSingleWordTitle() {
+        BibEntry learning = new BibEntry().withField(StandardField.TITLE, "Learning");
+        database.insertEntry(learning);
+        BibEntry incoming = new BibEntry().withField(StandardField.TITLE, "Lerning");
+
+        assertEquals(List.of(paper, otherPaper, titleless, learning), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void commonTitleWordsDoNotLinkEntries() {
+        List<BibEntry> entries = IntStream.range(0, 50)
+                                          .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "Sorting%d with Heaps%d".formatted(i, i)))
+                                          .toList();
+        database.insertEntries(entries);
+        BibEntry incoming = new BibEntry().withField(StandardField.TITLE, "Sorting7 with Heaps7");
+
+        assertEquals(List.of(entries.get(7)), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void frequentTitleWordsDoNotLinkEntries() {
+        List<BibEntry> entries = IntStream.range(0, 100)
+                                          .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "Graphs Topic%d Extra%d".formatted(i, i)))
+                                          .toList();
+        database.insertEntries(entries);
+        BibEntry incoming = new BibEntry().withField(StandardField.TITLE, "Graphs Topic7 Extra7");
+
+        assertEquals(List.of(entries.get(7)), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void findsEntryWithSameDoiIgnoringCase() {
+        BibEntry incoming = new BibEntry().withField(StandardField.DOI, "10.1000/XYZ123");
+
+        assertEquals(List.of(otherPaper), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void findsEntryWithoutTitleByAuthor() {
+        BibEntry incoming = new BibEntry()
+                .withField(StandardField.TITLE, "Unrelated title")
+                .withField(StandardField.AUTHOR, "Roe, Jane");
+
+        assertEquals(List.of(titleless), database.getDuplicateCandidateIndex().getCandidates(incoming));
+    }
+
+    @Test
+    void returnsAllEntriesIfIncomingEntryCannotBeNarrowed() {
+        assertEquals(List.of(paper, otherPaper, titleless), database.getDuplicateCandidateIndex().getCandidates(new BibEntry()));
+    }
+
+    @Test
+    void followsInsertionRemovalAndChange() {
+        DuplicateCandidateIndex index = database.getDuplicateCandidateIndex();
+        BibEntry incoming = new BibEntry().withField(StandardField.TITLE, "Fast Duplicate Detection");
+
+        BibEntry inserted = new BibEntry().withField(StandardField.TITLE, "Slow Duplicate Detection");
+        database.insertEntry(inserted);
+        assertEquals(List.of(inserted), index.getCandidates(incoming));
+
+        inserted.setField(StandardField.TITLE, "Something else");
+        assertEquals(List.of(), index.getCandidates(incoming));
+
+        inserted.setField(StandardField.TITLE, "Fast duplicate detection revisited");
+        database.removeEntry(inserted);
+        assertEquals(List.of(), index.getCandidates(incoming));
+    }
+}
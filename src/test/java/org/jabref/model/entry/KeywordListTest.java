@@ -33,6 +33,13 @@ class KeywordListTest {
                 KeywordList.parse("keywordOne, keywordTwo", ','));
     }
 
+    @Test
+    void modifyingParsedListDoesNotChangeLaterResults() throws Exception {
+        KeywordList.parse("keywordOne, keywordTwo", ',').add("keywordThree");
+        assertEquals(new KeywordList("keywordOne", "keywordTwo"),
+                KeywordList.parse("keywordOne, keywordTwo", ','));
+    }
+
     @Test
     void parseTwoWordReturnsTwoKeywordsWithoutSpace() throws Exception {
         assertEquals(new KeywordList("keywordOne", "keywordTwo"),
@@ -1,5 +1,6 @@
 package org.jabref.model.entry.field;
 
+import java.util.Locale;
 import java.util.stream.Stream;
 
 import org.jabref.model.entry.types.BiblatexApaEntryType;
@@ -11,6 +12,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class FieldFactoryTest {
     @Test
@@ -48,4 +50,22 @@ class FieldFactoryTest {
     void doesParseApaFieldWithEntryType() {
         assertEquals(BiblatexApaField.ARTICLE, FieldFactory.parseField(BiblatexApaEntryType.Constitution, "article"));
     }
+
+    @Test
+    void parsesKnownFieldsCaseInsensitive() {
+        assertEquals(StandardField.JOURNAL, FieldFactory.parseField("JouRNal"));
+        assertEquals(InternalField.KEY_FIELD, FieldFactory.parseField("BibTeXKey"));
+        assertEquals(IEEEField.CTLMAX_NAMES_FORCED_ETAL, FieldFactory.parseField(IEEEField.CTLMAX_NAMES_FORCED_ETAL.getName().toUpperCase(Locale.ROOT)));
+    }
+
+    @Test
+    void returnsSameInstanceForUnknownFieldName() {
+        assertSame(FieldFactory.parseField("someunknownfield"), FieldFactory.parseField("someunknownfield"));
+    }
+
+    @Test
+    void keepsDisplayNameOfDifferentlyCasedUnknownFields() {
+        assertEquals("OtherCase", FieldFactory.parseField("OtherCase").getDisplayName());
+        assertEquals("othercase", FieldFactory.parseField("othercase").getDisplayName());
+    }
 }
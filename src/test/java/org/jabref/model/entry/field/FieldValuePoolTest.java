@@ -0,0 +1,32 @@
+package org.jabref.model.entry.field;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FieldValuePoolTest {
+
+    @Test
+    void sharesValuesOfRepetitiveFields() {
+        String journal = "Journal of Multilingual and Multicultural Development";
+
+        assertSame(FieldValuePool.canonicalize(StandardField.JOURNAL, new String(journal)),
+                FieldValuePool.canonicalize(StandardField.JOURNAL, new String(journal)));
+    }
+
+    @Test
+    void sharesShortValuesOfAnyField() {
+        assertSame(FieldValuePool.canonicalize(StandardField.OWNER, new String("owner")),
+                FieldValuePool.canonicalize(StandardField.OWNER, new String("owner")));
+    }
+
+    @Test
+    void keepsLongValuesOfOtherFields() {
+        String text = "a".repeat(FieldValuePool.MAX_LENGTH_OF_POOLED_VALUE + 1);
+        String value = new String(text);
+
+        assertSame(value, FieldValuePool.canonicalize(StandardField.ABSTRACT, value));
+        assertNotSame(value, FieldValuePool.canonicalize(StandardField.ABSTRACT, new String(text)));
+    }
+}
@@ -0,0 +1,25 @@
+package org.jabref.model.entry.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntryTypeFactoryTest {
+
+    @Test
+    void parsesStandardEntryTypeCaseInsensitive() {
+        assertEquals(StandardEntryType.Article, EntryTypeFactory.parse("ARTICLE"));
+    }
+
+    @Test
+    void parsesEntryTypesOfOtherDefinitions() {
+        assertEquals(IEEETranEntryType.Patent, EntryTypeFactory.parse("patent"));
+        assertEquals(BiblatexApaEntryType.Constitution, EntryTypeFactory.parse("constitution"));
+        assertEquals(SystematicLiteratureReviewStudyEntryType.STUDY_ENTRY, EntryTypeFactory.parse("Study"));
+    }
+
+    @Test
+    void parsesUnknownEntryType() {
+        assertEquals(new UnknownEntryType("mytype"), EntryTypeFactory.parse("mytype"));
+    }
+}
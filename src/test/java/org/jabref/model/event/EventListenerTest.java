@@ -3,6 +3,7 @@ package org.jabref.model.event;
 import java.util.List;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
@@ -15,6 +16,8 @@ public class EventListenerTest {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private int entryChangedEventCount;
+    private EntriesChangedEvent entriesChangedEvent;
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -30,6 +33,12 @@ public class EventListenerTest {
     @Subscribe
     public void listen(EntryChangedEvent event) {
         this.changedEntry = event.getBibEntry();
+        this.entryChangedEventCount++;
+    }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        this.entriesChangedEvent = event;
     }
 
     public List<BibEntry> getAddedEntries() {
@@ -47,4 +56,12 @@ public class EventListenerTest {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public int getEntryChangedEventCount() {
+        return entryChangedEventCount;
+    }
+
+    public EntriesChangedEvent getEntriesChangedEvent() {
+        return entriesChangedEvent;
+    }
 }
@@ -0,0 +1,26 @@
+package org.jabref.model.strings;
+
+import com.github.tomtung.latex2unicode.LaTeX2Unicode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatexToUnicodeAdapterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2024", "123-145", "A plain title: with punctuation!", "Mali'nski", "Müller"})
+    void plainValuesAreFreeOfLatex(String value) {
+        assertTrue(LatexToUnicodeAdapter.isFreeOfLatex(value));
+        // The values skipped by the adapter have to be left unchanged by the library itself
+        assertEquals(value, LaTeX2Unicode.parse(value).get().value());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"M{\\\"{o}}nch", "$\\sigma$", "123--145", "``quoted''", "a~b", "snake_case", "two  spaces", "line\nbreak", "Mu\u0308ller"})
+    void valuesWhichMayBeConvertedAreNotFreeOfLatex(String value) {
+        assertFalse(LatexToUnicodeAdapter.isFreeOfLatex(value));
+    }
+}
@@ -0,0 +1,66 @@
+package org.jabref.model.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParsedValueCacheTest {
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    private String parse(String value) {
+        parseCount.incrementAndGet();
+        return value.toUpperCase();
+    }
+
+    @Test
+    void parsesValueOnlyOnce() {
+        ParsedValueCache<String, String> cache = ParsedValueCache.create("test-once", 10);
+
+        String first = cache.get("abc", this::parse);
+        String second = cache.get("abc", this::parse);
+
+        assertSame(first, second);
+        assertEquals(1, parseCount.get());
+        assertEquals(1, cache.getStatistics().hitCount());
+        assertEquals(1, cache.getStatistics().missCount());
+    }
+
+    @Test
+    void sizeIsBounded() {
+        ParsedValueCache<String, String> cache = ParsedValueCache.create("test-bounded", 2);
+
+        cache.get("a", this::parse);
+        cache.get("b", this::parse);
+        cache.get("c", this::parse);
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void weightIsBounded() {
+        ParsedValueCache<String, String> cache = ParsedValueCache.create("test-weighted", 100, (String key, String value) -> key.length() + value.length());
+
+        for (int i = 0; i < 50; i++) {
+            cache.get("key%02d".formatted(i), this::parse);
+        }
+        cache.get("a".repeat(1_000), this::parse);
+
+        // each entry weighs 10
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getIfPresent("a".repeat(1_000)).isEmpty());
+    }
+
+    @Test
+    void statisticsOfAllCachesContainCreatedCache() {
+        ParsedValueCache<String, String> cache = ParsedValueCache.create("test-statistics", 10);
+        cache.get("a", this::parse);
+
+        assertTrue(ParsedValueCache.getAllStatistics().containsKey("test-statistics"));
+        assertEquals(1, ParsedValueCache.getAllStatistics().get("test-statistics").requestCount());
+    }
+}